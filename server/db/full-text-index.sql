@@ -0,0 +1,4 @@
+-- search.full-text.enabled=true로 배포하기 전에 MySQL에서 한 번 실행한다.
+-- 큰 테이블에서는 온라인 DDL 도구로 실행하고, 이미 인덱스가 있으면 건너뛴다.
+ALTER TABLE discussions
+    ADD FULLTEXT INDEX ft_discussions_title_content (title, content) WITH PARSER ngram;
@@ -0,0 +1,183 @@
+package com.dialog.server.broadcast;
+
+import com.dialog.server.domain.NotificationOutbox;
+import com.dialog.server.event.NotificationDeliveryEvent;
+import com.dialog.server.repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 여러 서버 인스턴스 사이에서 notification_outbox 테이블로 알림을 전파한다.
+ * outbox는 알림을 만든 트랜잭션 안에서 기록하므로 알림과 함께 커밋되거나 함께 롤백된다.
+ * 현재 노드의 연결에는 커밋 뒤에 바로 전달하고, 다른 노드는 전용 스레드에서 주기적으로 outbox를 조회해 자신의 연결에 전달한다.
+ * 노드마다 여기까지는 모두 읽었다고 보는 ID 워터마크를 두고, 그보다 큰 ID만 조회한다. 작성 노드의 시계에 기대지 않는다.
+ * 커밋 순서와 ID 순서가 다를 수 있으므로 워터마크는 빈틈 없이 읽은 ID까지만 올리고, 그 위에서 이미 전달한 ID는 건너뛴다.
+ * 빈틈이 gap-timeout 동안 채워지지 않으면 롤백 등으로 영영 생기지 않는 ID로 보고 건너뛴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.broadcast.type", havingValue = "database")
+public class DatabaseNotificationBroadcaster implements NotificationBroadcaster {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration gapTimeout;
+    private final Duration retention;
+    private final int pollSize;
+    private final Duration pollInterval;
+    private final ScheduledThreadPoolExecutor pollExecutor;
+    private final Timer deliveryTimer;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final NavigableSet<Long> readIdsAboveWatermark = new TreeSet<>();
+    private long watermark;
+    private long gapFirstSeenNanos = -1;
+
+    public DatabaseNotificationBroadcaster(
+            NotificationOutboxRepository outboxRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${notification.broadcast.database.gap-timeout:10s}") Duration gapTimeout,
+            @Value("${notification.broadcast.database.retention:10m}") Duration retention,
+            @Value("${notification.broadcast.database.poll-size:500}") int pollSize,
+            @Value("${notification.broadcast.database.poll-interval:500ms}") Duration pollInterval
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.gapTimeout = gapTimeout;
+        this.retention = retention;
+        this.pollSize = pollSize;
+        this.pollInterval = pollInterval;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("notification-outbox-poll-");
+        threadFactory.setDaemon(true);
+        this.pollExecutor = new ScheduledThreadPoolExecutor(1, threadFactory);
+        this.deliveryTimer = Timer.builder("notification.broadcast.delivery")
+                .description("다른 노드에서 발행된 알림이 이 노드에 전달되기까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    // 기동 전에 쌓인 알림은 이미 다른 노드의 연결에 전달되었으므로 현재 최대 ID부터 읽는다
+    @PostConstruct
+    synchronized void initWatermark() {
+        watermark = outboxRepository.findMaxId();
+    }
+
+    // 공유 스케줄러 스레드가 다른 작업에 막혀도 전파가 밀리지 않도록 전용 스레드에서 조회한다
+    @PostConstruct
+    void startPolling() {
+        long intervalMillis = pollInterval.toMillis();
+        pollExecutor.scheduleWithFixedDelay(this::pollQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopPolling() {
+        pollExecutor.shutdownNow();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(NotificationDeliveryEvent event) {
+        outboxRepository.save(NotificationOutbox.builder()
+                .receiverId(event.getReceiverId())
+                .notificationId(event.getNotificationId())
+                .payload(event.getResponse())
+                .origin(nodeId)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Override
+    public void broadcast(NotificationDeliveryEvent event) {
+        eventPublisher.publishEvent(event);
+    }
+
+    public synchronized void pollOutbox() {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> messages = outboxRepository.findByIdGreaterThanOrderByIdAsc(
+                watermark, Limit.of(pollSize)
+        );
+        for (NotificationOutbox message : messages) {
+            if (!readIdsAboveWatermark.add(message.getId()) || nodeId.equals(message.getOrigin())) {
+                continue;
+            }
+            deliver(message, now);
+        }
+        advanceWatermark(System.nanoTime());
+    }
+
+    // 예외가 밖으로 나가면 이후 실행이 모두 취소되므로 여기서 막는다
+    private void pollQuietly() {
+        try {
+            pollOutbox();
+        } catch (Exception e) {
+            log.warn("Failed to poll notification outbox: {}", e.getMessage());
+        }
+    }
+
+    private void advanceWatermark(long nowNanos) {
+        while (!readIdsAboveWatermark.isEmpty()) {
+            if (readIdsAboveWatermark.first() == watermark + 1) {
+                watermark = readIdsAboveWatermark.pollFirst();
+                gapFirstSeenNanos = -1;
+                continue;
+            }
+            // 워터마크 바로 다음 ID가 아직 보이지 않는다: 커밋 전이거나 롤백된 ID
+            if (gapFirstSeenNanos < 0) {
+                gapFirstSeenNanos = nowNanos;
+            }
+            if (nowNanos - gapFirstSeenNanos < gapTimeout.toNanos()) {
+                return;
+            }
+            log.warn("Skipping notification outbox ids {}..{} not committed within {}",
+                    watermark + 1, readIdsAboveWatermark.first() - 1, gapTimeout);
+            watermark = readIdsAboveWatermark.first() - 1;
+            gapFirstSeenNanos = -1;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification.broadcast.database.purge-interval:1m}")
+    public void purgeOutbox() {
+        LocalDateTime threshold = LocalDateTime.now().minus(retention);
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.deleteCreatedBefore(threshold));
+    }
+
+    private void deliver(NotificationOutbox message, LocalDateTime now) {
+        try {
+            eventPublisher.publishEvent(new NotificationDeliveryEvent(
+                    message.getReceiverId(),
+                    message.getNotificationId(),
+                    message.getPayload()
+            ));
+            Duration latency = Duration.between(message.getCreatedAt(), now);
+            deliveryTimer.record(latency.isNegative() ? Duration.ZERO : latency);
+        } catch (Exception e) {
+            log.warn("Failed to deliver notification outbox {}: {}", message.getId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.dialog.server.broadcast;
+
+import com.dialog.server.event.NotificationDeliveryEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 인스턴스용 브로드캐스터. 현재 노드의 연결에만 알림을 전달한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.broadcast.type", havingValue = "local", matchIfMissing = true)
+public class LocalNotificationBroadcaster implements NotificationBroadcaster {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void broadcast(NotificationDeliveryEvent event) {
+        eventPublisher.publishEvent(event);
+    }
+}
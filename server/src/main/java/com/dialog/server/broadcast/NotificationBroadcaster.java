@@ -0,0 +1,17 @@
+package com.dialog.server.broadcast;
+
+import com.dialog.server.event.NotificationDeliveryEvent;
+
+public interface NotificationBroadcaster {
+
+    /**
+     * 알림을 만든 트랜잭션 안에서 호출되어, 다른 노드에 전파할 알림을 같은 트랜잭션으로 기록한다.
+     */
+    default void record(NotificationDeliveryEvent event) {
+    }
+
+    /**
+     * 커밋된 알림을 현재 노드의 연결에 전달한다.
+     */
+    void broadcast(NotificationDeliveryEvent event);
+}
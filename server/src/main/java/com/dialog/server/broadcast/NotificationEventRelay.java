@@ -0,0 +1,61 @@
+package com.dialog.server.broadcast;
+
+import com.dialog.server.domain.Notification;
+import com.dialog.server.dto.notification.resposne.NotificationPollingResponse;
+import com.dialog.server.event.NotificationCreatedEvent;
+import com.dialog.server.event.NotificationDeliveryEvent;
+import com.dialog.server.event.NotificationsReadEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋 직전에 알림과 같은 트랜잭션으로 전파 내용을 기록하고, 커밋된 뒤에만 현재 노드의 연결에 전달한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationEventRelay {
+
+    private final NotificationBroadcaster notificationBroadcaster;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void recordNotificationEvent(NotificationCreatedEvent event) {
+        notificationBroadcaster.record(toDeliveryEvent(event));
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleNotificationEvent(NotificationCreatedEvent event) {
+        notificationBroadcaster.broadcast(toDeliveryEvent(event));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void recordNotificationsReadEvent(NotificationsReadEvent event) {
+        notificationBroadcaster.record(toDeliveryEvent(event));
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleNotificationsReadEvent(NotificationsReadEvent event) {
+        notificationBroadcaster.broadcast(toDeliveryEvent(event));
+    }
+
+    private NotificationDeliveryEvent toDeliveryEvent(NotificationCreatedEvent event) {
+        Notification notification = event.getNotification();
+        return new NotificationDeliveryEvent(
+                notification.getReceiver().getId(),
+                notification.getId(),
+                NotificationPollingResponse.of(notification, event.getUnreadCount())
+        );
+    }
+
+    private NotificationDeliveryEvent toDeliveryEvent(NotificationsReadEvent event) {
+        return new NotificationDeliveryEvent(
+                event.getUserId(),
+                null,
+                NotificationPollingResponse.createBulkReadResponse(event.getUnreadCount())
+        );
+    }
+}
@@ -0,0 +1,48 @@
+package com.dialog.server.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * MySQL에서 전문 검색을 켰는데 ngram FULLTEXT 인덱스가 없으면 기동을 멈춘다.
+ * 인덱스는 애플리케이션이 만들지 않고, 배포 전에 db/full-text-index.sql로 한 번 생성한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.full-text.enabled", havingValue = "true")
+public class FullTextIndexVerifier implements ApplicationRunner {
+
+    private static final String INDEX_NAME = "ft_discussions_title_content";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (isMySql() && !hasIndex()) {
+            throw new IllegalStateException(
+                    "Full-text index " + INDEX_NAME + " is missing. Run db/full-text-index.sql before enabling search.full-text"
+            );
+        }
+    }
+
+    private boolean isMySql() {
+        String productName = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()
+        );
+        return "MySQL".equalsIgnoreCase(productName);
+    }
+
+    private boolean hasIndex() {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*)
+                FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'discussions' AND index_name = ?
+                """, Integer.class, INDEX_NAME);
+        return count != null && count > 0;
+    }
+}
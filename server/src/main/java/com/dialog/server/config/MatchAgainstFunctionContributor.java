@@ -0,0 +1,31 @@
+package com.dialog.server.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * 전문 검색용 match_against(title, content, booleanQuery, likePattern) 함수를 등록한다.
+ * MySQL에서는 ngram FULLTEXT 인덱스를 타는 MATCH ... AGAINST로, 그 외(H2 테스트 등)에서는 LIKE 기반 점수로 렌더링된다.
+ * likePattern의 %, _, !는 ESCAPE_CHARACTER로 이스케이프해서 넘겨야 한다.
+ */
+public class MatchAgainstFunctionContributor implements FunctionContributor {
+
+    public static final String FUNCTION_NAME = "match_against";
+    public static final char ESCAPE_CHARACTER = '!';
+
+    private static final String MYSQL_PATTERN = "match(?1, ?2) against (?3 in boolean mode)";
+    private static final String FALLBACK_PATTERN =
+            "case when lower(concat(?1, ' ', ?2)) like lower(?4) escape '" + ESCAPE_CHARACTER + "' then 1.0 else 0.0 end";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.DOUBLE);
+        String pattern = functionContributions.getDialect() instanceof MySQLDialect ? MYSQL_PATTERN : FALLBACK_PATTERN;
+        functionContributions.getFunctionRegistry().registerPattern(FUNCTION_NAME, pattern, doubleType);
+    }
+}
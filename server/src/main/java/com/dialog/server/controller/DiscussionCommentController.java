@@ -2,8 +2,10 @@ package com.dialog.server.controller;
 
 import com.dialog.server.dto.auth.AuthenticatedUserId;
 import com.dialog.server.dto.comment.request.DiscussionCommentCreateRequest;
+import com.dialog.server.dto.comment.request.DiscussionCommentCursorPageRequest;
 import com.dialog.server.dto.comment.request.DiscussionCommentUpdateRequest;
 import com.dialog.server.dto.comment.response.DiscussionCommentCreateResponse;
+import com.dialog.server.dto.comment.response.DiscussionCommentCursorPageResponse;
 import com.dialog.server.dto.comment.response.DiscussionCommentListResponse;
 import com.dialog.server.exception.ApiSuccessResponse;
 import com.dialog.server.service.CommentLikeService;
@@ -18,6 +20,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -56,6 +59,36 @@ public class DiscussionCommentController {
         return ResponseEntity.ok(new ApiSuccessResponse<>(null));
     }
 
+    // 최상위 댓글을 키셋 페이지네이션으로 조회한다. 답글은 답글 수만 담고 /comments/{id}/replies로 따로 조회한다
+    @GetMapping("/{discussionId}/comments/cursor")
+    public ResponseEntity<ApiSuccessResponse<DiscussionCommentCursorPageResponse>> getCommentPage(
+            @PathVariable Long discussionId,
+            @RequestParam(required = false) Long lastCursorId,
+            @RequestParam(required = false) Integer size,
+            @AuthenticatedUserId(required = false) Long userId
+    ) {
+        DiscussionCommentCursorPageRequest request = new DiscussionCommentCursorPageRequest(lastCursorId, size);
+        DiscussionCommentCursorPageResponse response = discussionCommentService.getCommentPage(
+                discussionId, request, userId
+        );
+        return ResponseEntity.ok(new ApiSuccessResponse<>(response));
+    }
+
+    @GetMapping("/comments/{discussionCommentId}/replies")
+    public ResponseEntity<ApiSuccessResponse<DiscussionCommentCursorPageResponse>> getReplyPage(
+            @PathVariable Long discussionCommentId,
+            @RequestParam(required = false) Long lastCursorId,
+            @RequestParam(required = false) Integer size,
+            @AuthenticatedUserId(required = false) Long userId
+    ) {
+        DiscussionCommentCursorPageRequest request = new DiscussionCommentCursorPageRequest(lastCursorId, size);
+        DiscussionCommentCursorPageResponse response = discussionCommentService.getReplyPage(
+                discussionCommentId, request, userId
+        );
+        return ResponseEntity.ok(new ApiSuccessResponse<>(response));
+    }
+
+    // 전체 댓글과 답글을 한 번에 받는 기존 클라이언트용
     @GetMapping("/{discussionId}/comments")
     public ResponseEntity<ApiSuccessResponse<DiscussionCommentListResponse>> getComments(
             @PathVariable Long discussionId,
@@ -10,6 +10,7 @@ import com.dialog.server.dto.request.OfflineDiscussionCreateRequest;
 import com.dialog.server.dto.request.OfflineDiscussionUpdateRequest;
 import com.dialog.server.dto.request.OnlineDiscussionCreateRequest;
 import com.dialog.server.dto.request.OnlineDiscussionUpdateRequest;
+import com.dialog.server.dto.request.SearchOrder;
 import com.dialog.server.dto.request.SearchType;
 import com.dialog.server.dto.response.DiscussionCreateResponse;
 import com.dialog.server.dto.response.DiscussionCursorPageResponse;
@@ -19,7 +20,6 @@ import com.dialog.server.dto.response.DiscussionSummaryCreateResponse;
 import com.dialog.server.exception.ApiSuccessResponse;
 import com.dialog.server.service.DiscussionService;
 import com.dialog.server.service.DiscussionSummaryService;
-import com.dialog.server.service.NotificationService;
 import jakarta.validation.Valid;
 import java.net.URI;
 import java.util.List;
@@ -42,7 +42,6 @@ public class DiscussionController {
 
     private final DiscussionService discussionService;
     private final DiscussionSummaryService discussionSummaryService;
-    private final NotificationService notificationService;
 
     @PostMapping("/offline")
     public ResponseEntity<ApiSuccessResponse<DiscussionCreateResponse>> postOfflineDiscussion(
@@ -51,7 +50,6 @@ public class DiscussionController {
     ) {
         DiscussionCreateResponse response = discussionService.createOfflineDiscussion(request, userId);
         final URI uri = URI.create("/api/discussions/" + response.discussionId());
-        notificationService.sendDiscussionCreatedNotification(userId, uri.getRawPath());
         return ResponseEntity.created(uri)
                 .body(new ApiSuccessResponse<>(response));
     }
@@ -63,7 +61,6 @@ public class DiscussionController {
     ) {
         DiscussionCreateResponse response = discussionService.createOnlineDiscussion(request, userId);
         final URI uri = URI.create("/api/discussions/" + response.discussionId());
-        notificationService.sendDiscussionCreatedNotification(userId, uri.getRawPath());
         return ResponseEntity.created(uri)
                 .body(new ApiSuccessResponse<>(response));
     }
@@ -124,11 +121,13 @@ public class DiscussionController {
             @RequestParam(required = false) List<String> categories,
             @RequestParam(required = false) List<String> statuses,
             @RequestParam(required = false) List<String> discussionTypes,
+            @RequestParam(required = false) String order,
             @RequestParam(required = false) String cursor,
             @RequestParam(required = false, defaultValue = "10") int size
     ) {
         final DiscussionCursorPageResponse<DiscussionPreviewResponse> searched = discussionService.searchDiscussionWithFilters(
                 SearchType.fromValue(searchBy),
+                SearchOrder.fromValue(order),
                 query,
                 Category.fromValues(categories),
                 DiscussionStatus.fromValues(statuses),
@@ -1,21 +1,27 @@
 package com.dialog.server.controller;
 
 import com.dialog.server.dto.auth.AuthenticatedUserId;
+import com.dialog.server.dto.notification.request.NotificationCursorPageRequest;
 import com.dialog.server.dto.notification.request.NotificationPageRequest;
+import com.dialog.server.dto.notification.resposne.NotificationCursorPageResponse;
 import com.dialog.server.dto.notification.resposne.NotificationPageResponse;
 import com.dialog.server.dto.notification.resposne.NotificationPollingResponse;
 import com.dialog.server.exception.ApiSuccessResponse;
 import com.dialog.server.service.NotificationService;
+import com.dialog.server.service.NotificationStreamService;
 import com.dialog.server.service.PollingNotificationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -24,6 +30,7 @@ public class NotificationController {
 
     private final NotificationService notificationService;
     private final PollingNotificationService pollingNotificationService;
+    private final NotificationStreamService notificationStreamService;
 
     @GetMapping("/polling")
     public DeferredResult<ResponseEntity<ApiSuccessResponse<NotificationPollingResponse>>> getPollingNotifications(
@@ -49,6 +56,28 @@ public class NotificationController {
         return deferredResult;
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(
+            @AuthenticatedUserId Long userId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        return notificationStreamService.subscribe(userId, lastEventId);
+    }
+
+    // 전체 개수를 세지 않는 키셋 페이지네이션. 모바일 앱과 새 클라이언트는 이 API를 사용한다
+    @GetMapping("/me/cursor")
+    public ResponseEntity<ApiSuccessResponse<NotificationCursorPageResponse>> getNotificationCursorPage(
+            @AuthenticatedUserId Long userId,
+            @RequestParam(required = false) Long lastCursorId,
+            @RequestParam(required = false) Integer size
+    ) {
+        NotificationCursorPageRequest request = new NotificationCursorPageRequest(lastCursorId, size);
+        NotificationCursorPageResponse response = notificationService.getNotificationCursorPage(userId, request);
+
+        return ResponseEntity.ok(new ApiSuccessResponse<>(response));
+    }
+
+    // 페이지 번호와 전체 개수가 필요한 기존 클라이언트용
     @GetMapping("/me")
     public ResponseEntity<ApiSuccessResponse<NotificationPageResponse>> getNotificationPage(
             @AuthenticatedUserId Long userId,
@@ -0,0 +1,27 @@
+package com.dialog.server.domain;
+
+/**
+ * 목록 화면에 작성자로 보여줄 사용자 정보. 탈퇴한 사용자는 User와 같은 표시용 닉네임을 가진다.
+ */
+public record AuthorCard(
+        Long userId,
+        String nickname,
+        String basicImageUri,
+        String customImageUri,
+        boolean withdrawn
+) {
+
+    public static AuthorCard of(User user, ProfileImage profileImage) {
+        return new AuthorCard(
+                user.getId(),
+                user.getNickname(),
+                profileImage == null ? null : profileImage.getBasicImageUri(),
+                profileImage == null ? null : profileImage.getCustomImageUri(),
+                user.getDeletedAt() != null
+        );
+    }
+
+    public boolean hasProfileImage() {
+        return basicImageUri != null;
+    }
+}
@@ -6,9 +6,11 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
 import jakarta.persistence.JoinColumn;
@@ -25,9 +27,17 @@ import org.hibernate.annotations.SQLRestriction;
 @Getter
 @Inheritance(strategy = InheritanceType.JOINED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@SQLDelete(sql = "UPDATE discussions SET deleted_at = CURRENT_TIMESTAMP WHERE discussion_id = ?")
+@SQLDelete(sql = "UPDATE discussions SET deleted_at = CURRENT_TIMESTAMP, modified_at = CURRENT_TIMESTAMP WHERE discussion_id = ?")
 @SQLRestriction("deleted_at IS NULL")
-@Table(name = "discussions")
+@Table(name = "discussions", indexes = {
+        @Index(name = "idx_discussions_created_at", columnList = "created_at, discussion_id"),
+        @Index(name = "idx_discussions_author_created_at", columnList = "author_id, created_at, discussion_id"),
+        @Index(name = "idx_discussions_status_created_at", columnList = "status, created_at, discussion_id"),
+        @Index(name = "idx_discussions_category_status_created_at",
+                columnList = "category, status, created_at, discussion_id"),
+        @Index(name = "idx_discussions_status_transition_at", columnList = "status_transition_at"),
+        @Index(name = "idx_discussions_modified_at", columnList = "modified_at")
+})
 @Entity
 public abstract class Discussion extends BaseEntity {
 
@@ -43,7 +53,7 @@ public abstract class Discussion extends BaseEntity {
     protected Category category;
     @Column(columnDefinition = "TEXT")
     protected String summary;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     protected User author;
     @Column(name = "discussion_id", nullable = false)
@@ -51,6 +61,18 @@ public abstract class Discussion extends BaseEntity {
     @Id
     private Long id;
     private LocalDateTime deletedAt;
+    // 카운터는 DiscussionRepository의 원자적 UPDATE로만 변경한다 (dirty checking으로 덮어쓰지 않도록 updatable = false)
+    @Column(nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long commentCount;
+    @Column(nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long likeCount;
+    @Column(nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long scrapCount;
+    // 상태 필터가 인덱스를 타도록 계산된 상태를 저장한다. 시간 경과에 따른 변경은 DiscussionStatusTransitionScheduler가 반영한다
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private DiscussionStatus status;
+    private LocalDateTime statusTransitionAt;
 
     protected Discussion(
             String title,
@@ -103,6 +125,18 @@ public abstract class Discussion extends BaseEntity {
 
     public abstract DiscussionStatus getDiscussionStatus();
 
+    public void refreshStatus(LocalDateTime now) {
+        this.status = decideStatus(now);
+        this.statusTransitionAt = nextStatusTransitionAt(now);
+    }
+
+    protected abstract DiscussionStatus decideStatus(LocalDateTime now);
+
+    /**
+     * 시간이 지나 상태가 바뀌는 시각. 더 이상 바뀌지 않으면 null이다.
+     */
+    protected abstract LocalDateTime nextStatusTransitionAt(LocalDateTime now);
+
     public boolean hasSummary() {
         return !(this.summary == null || this.summary.isBlank());
     }
@@ -2,9 +2,11 @@ package com.dialog.server.domain;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -21,7 +23,12 @@ import org.hibernate.annotations.SQLRestriction;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLDelete(sql = "UPDATE discussion_comments SET deleted_at = CURRENT_TIMESTAMP WHERE discussion_comment_id = ?")
 @SQLRestriction("deleted_at IS NULL")
-@Table(name = "discussion_comments")
+@Table(name = "discussion_comments", indexes = {
+        @Index(name = "idx_discussion_comments_discussion_id",
+                columnList = "discussion_id, parent_discussion_comment_id, discussion_comment_id"),
+        @Index(name = "idx_discussion_comments_parent_id",
+                columnList = "parent_discussion_comment_id, discussion_comment_id")
+})
 @Entity
 public class DiscussionComment extends BaseEntity {
 
@@ -33,15 +40,15 @@ public class DiscussionComment extends BaseEntity {
     @Column(name = "content", nullable = false, columnDefinition = "TEXT")
     private String content;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "discussion_id", nullable = false)
     private Discussion discussion;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_discussion_comment_id")
     private DiscussionComment parentDiscussionComment;
 
@@ -0,0 +1,119 @@
+package com.dialog.server.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 토론 목록 조회 전용 읽기 모델. DiscussionPreviewResponse에 필요한 값만 한 행에 펼쳐 보관한다.
+ * 원본 변경 이벤트로 갱신되며, 카운터는 DiscussionFeedRepository의 원자적 UPDATE로만 변경한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "discussion_feed", indexes = {
+        @Index(name = "idx_discussion_feed_created_at", columnList = "created_at, discussion_id"),
+        @Index(name = "idx_discussion_feed_status_created_at", columnList = "status, created_at, discussion_id"),
+        @Index(name = "idx_discussion_feed_category_status_created_at",
+                columnList = "category, status, created_at, discussion_id"),
+        @Index(name = "idx_discussion_feed_type_created_at", columnList = "discussion_type, created_at, discussion_id"),
+        @Index(name = "idx_discussion_feed_author_id", columnList = "author_id")
+})
+@Entity
+public class DiscussionFeed {
+
+    @Id
+    @Column(name = "discussion_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private DiscussionType discussionType;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Category category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private DiscussionStatus status;
+
+    @Column(nullable = false)
+    private Long authorId;
+
+    private String authorNickname;
+
+    private String basicImageUri;
+
+    private String customImageUri;
+
+    @Column(nullable = false, updatable = false)
+    private long commentCount;
+
+    private LocalDateTime startAt;
+
+    private LocalDateTime endAt;
+
+    private String place;
+
+    @Column(nullable = false, updatable = false)
+    private int participantCount;
+
+    private int maxParticipantCount;
+
+    private LocalDate endDate;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime modifiedAt;
+
+    public static DiscussionFeed from(Discussion discussion, ProfileImage profileImage) {
+        DiscussionFeed discussionFeed = new DiscussionFeed();
+        discussionFeed.id = discussion.getId();
+        discussionFeed.commentCount = discussion.getCommentCount();
+        if (discussion instanceof OfflineDiscussion offlineDiscussion) {
+            discussionFeed.participantCount = offlineDiscussion.getParticipantCount();
+        }
+        discussionFeed.update(discussion, profileImage);
+        return discussionFeed;
+    }
+
+    public void update(Discussion discussion, ProfileImage profileImage) {
+        this.title = discussion.getTitle();
+        this.category = discussion.getCategory();
+        this.status = discussion.getStatus();
+        this.authorId = discussion.getAuthor().getId();
+        this.authorNickname = discussion.getAuthor().getNickname();
+        this.basicImageUri = profileImage == null ? null : profileImage.getBasicImageUri();
+        this.customImageUri = profileImage == null ? null : profileImage.getCustomImageUri();
+        this.createdAt = discussion.getCreatedAt();
+        this.modifiedAt = discussion.getModifiedAt();
+        if (discussion instanceof OfflineDiscussion offlineDiscussion) {
+            this.discussionType = DiscussionType.OFFLINE;
+            this.startAt = offlineDiscussion.getStartAt();
+            this.endAt = offlineDiscussion.getEndAt();
+            this.place = offlineDiscussion.getPlace();
+            this.maxParticipantCount = offlineDiscussion.getMaxParticipantCount();
+        } else if (discussion instanceof OnlineDiscussion onlineDiscussion) {
+            this.discussionType = DiscussionType.ONLINE;
+            this.endDate = onlineDiscussion.getEndDate();
+        }
+    }
+
+    public boolean hasProfileImage() {
+        return basicImageUri != null;
+    }
+}
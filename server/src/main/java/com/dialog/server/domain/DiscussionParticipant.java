@@ -9,6 +9,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,7 +17,9 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "discussion_participants")
+@Table(name = "discussion_participants", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_discussion_participant", columnNames = {"discussion_id", "participant_id"})
+})
 @Entity
 public class DiscussionParticipant extends BaseEntity {
 
@@ -48,7 +51,7 @@ public class DiscussionParticipant extends BaseEntity {
         if (!(o instanceof DiscussionParticipant that)) {
             return false;
         }
-        return id != null && id.equals(that.id);
+        return id != null && id.equals(that.getId());
     }
 
     @Override
@@ -37,8 +37,14 @@ public enum DiscussionStatus {
                                                           LocalDateTime endAt,
                                                           int participantCount,
                                                           int maxParticipantCount) {
-        final LocalDateTime now = LocalDateTime.now();
+        return decideDiscussionStatus(startAt, endAt, participantCount, maxParticipantCount, LocalDateTime.now());
+    }
 
+    public static DiscussionStatus decideDiscussionStatus(LocalDateTime startAt,
+                                                          LocalDateTime endAt,
+                                                          int participantCount,
+                                                          int maxParticipantCount,
+                                                          LocalDateTime now) {
         if (startAt.isAfter(now) && participantCount < maxParticipantCount) {
             return RECRUITING;
         }
@@ -0,0 +1,38 @@
+package com.dialog.server.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 노드에서 같은 시각에 실행되는 주기 작업 중 한 노드만 실행하도록 작업 이름별로 잡는 잠금.
+ * 토론 락과 달리 갱신하지 않고 lockedUntil까지만 유효하며, 작업은 그 전에 끝내고 해제한다.
+ * cursorId는 작업이 다음 실행에서 이어서 시작할 위치를 남기는 데 쓴다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "job_locks")
+@Entity
+public class JobLock {
+
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(nullable = false)
+    private String lockedBy;
+
+    @Column(nullable = false)
+    private long cursorId;
+}
@@ -0,0 +1,61 @@
+package com.dialog.server.domain;
+
+import com.dialog.server.dto.notification.resposne.NotificationPollingResponse;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_notification_outbox_created_at", columnList = "created_at")
+})
+@Entity
+public class NotificationOutbox {
+
+    @Column(name = "notification_outbox_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long receiverId;
+
+    private Long notificationId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private NotificationPollingResponse payload;
+
+    @Column(nullable = false)
+    private String origin;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    private NotificationOutbox(
+            Long receiverId,
+            Long notificationId,
+            NotificationPollingResponse payload,
+            String origin,
+            LocalDateTime createdAt
+    ) {
+        this.receiverId = receiverId;
+        this.notificationId = notificationId;
+        this.payload = payload;
+        this.origin = origin;
+        this.createdAt = createdAt;
+    }
+}
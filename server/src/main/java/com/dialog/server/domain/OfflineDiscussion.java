@@ -14,10 +14,12 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@DynamicUpdate
 @Table(name = "offline_discussions")
 public class OfflineDiscussion extends Discussion {
 
@@ -67,6 +69,7 @@ public class OfflineDiscussion extends Discussion {
         offlineDiscussion.place = place;
         offlineDiscussion.maxParticipantCount = maxParticipantCount;
         offlineDiscussion.participantCount = participantCount;
+        offlineDiscussion.refreshStatus(LocalDateTime.now());
         return offlineDiscussion;
     }
 
@@ -90,6 +93,7 @@ public class OfflineDiscussion extends Discussion {
         this.maxParticipantCount = maxParticipantCount;
         this.participantCount = participantCount;
         validateOfflineDiscussion();
+        refreshStatus(LocalDateTime.now());
     }
 
     private void validateOfflineDiscussion() {
@@ -124,6 +128,7 @@ public class OfflineDiscussion extends Discussion {
         validateAlreadyParticipant(discussionParticipant);
         discussionParticipants.add(discussionParticipant);
         participantCount++;
+        refreshStatus(participateAt);
     }
 
     private void validateAlreadyStarted(LocalDateTime participateAt) {
@@ -166,6 +171,7 @@ public class OfflineDiscussion extends Discussion {
         this.place = place;
         this.maxParticipantCount = maxParticipantCount;
         validateOfflineDiscussion();
+        refreshStatus(LocalDateTime.now());
     }
 
     @Override
@@ -182,4 +188,20 @@ public class OfflineDiscussion extends Discussion {
                 this.maxParticipantCount
         );
     }
+
+    @Override
+    protected DiscussionStatus decideStatus(LocalDateTime now) {
+        return DiscussionStatus.decideDiscussionStatus(startAt, endAt, participantCount, maxParticipantCount, now);
+    }
+
+    @Override
+    protected LocalDateTime nextStatusTransitionAt(LocalDateTime now) {
+        if (startAt.isAfter(now)) {
+            return startAt;
+        }
+        if (!endAt.isBefore(now)) {
+            return endAt;
+        }
+        return null;
+    }
 }
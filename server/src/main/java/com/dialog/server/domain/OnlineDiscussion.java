@@ -6,14 +6,17 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@DynamicUpdate
 @Table(name = "online_discussions")
 public class OnlineDiscussion extends Discussion {
     @Column(nullable = false)
@@ -34,6 +37,7 @@ public class OnlineDiscussion extends Discussion {
         onlineDiscussion.summary = summary;
         onlineDiscussion.author = author;
         onlineDiscussion.endDate = endDate;
+        onlineDiscussion.refreshStatus(LocalDateTime.now());
         return onlineDiscussion;
     }
 
@@ -49,6 +53,7 @@ public class OnlineDiscussion extends Discussion {
         super(title, content, category, summary, author);
         this.endDate = endDate;
         validateEndDate(endDate);
+        refreshStatus(LocalDateTime.now());
     }
 
     public void update(
@@ -63,6 +68,7 @@ public class OnlineDiscussion extends Discussion {
         this.content = content;
         this.category = category;
         this.endDate = endDate;
+        refreshStatus(LocalDateTime.now());
     }
 
     private void validateEndDate(LocalDate endDate) {
@@ -81,10 +87,20 @@ public class OnlineDiscussion extends Discussion {
 
     @Override
     public DiscussionStatus getDiscussionStatus() {
-        final LocalDate now = LocalDate.now();
-        if (now.isAfter(endDate)) {
+        return decideStatus(LocalDateTime.now());
+    }
+
+    @Override
+    protected DiscussionStatus decideStatus(LocalDateTime now) {
+        if (now.toLocalDate().isAfter(endDate)) {
             return DiscussionStatus.DISCUSSION_COMPLETE;
         }
         return DiscussionStatus.IN_DISCUSSION;
     }
+
+    @Override
+    protected LocalDateTime nextStatusTransitionAt(LocalDateTime now) {
+        LocalDateTime completeAt = endDate.plusDays(1).atStartOfDay();
+        return completeAt.isAfter(now) ? completeAt : null;
+    }
 }
@@ -5,6 +5,7 @@ import com.dialog.server.exception.ErrorCode;
 import com.dialog.server.util.ProfileImageFileInfo;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -37,7 +38,7 @@ public class ProfileImage extends BaseEntity {
     @Column(nullable = false)
     private String basicImageUri;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
@@ -82,7 +83,7 @@ public class ProfileImage extends BaseEntity {
     @Override
     public boolean equals(Object o) {
         if (!(o instanceof ProfileImage that)) return false;
-        return Objects.equals(id, that.id);
+        return Objects.equals(id, that.getId());
     }
 
     @Override
@@ -9,6 +9,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
@@ -21,6 +22,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "users", uniqueConstraints = {
         @UniqueConstraint(name = "uk_user_oauth_social", columnNames = {"oauth_id", "social_type"})
+}, indexes = {
+        @Index(name = "idx_users_modified_at", columnList = "modified_at")
 })
 @Entity
 public class User extends BaseEntity {
@@ -51,6 +54,14 @@ public class User extends BaseEntity {
 
     private LocalDateTime deletedAt;
 
+    // 카운터는 UserRepository의 원자적 UPDATE로만 변경한다 (dirty checking으로 덮어쓰지 않도록 updatable = false)
+    @Column(nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long unreadNotificationCount;
+
+    // 이 id 이하의 알림은 모두 읽은 것으로 본다. 모두 읽음 처리는 알림 행 대신 이 값만 올린다
+    @Column(nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long notificationReadWatermark;
+
     @Builder
     private User(String oauthId,
                  String nickname,
@@ -121,7 +132,7 @@ public class User extends BaseEntity {
         if (!(o instanceof User that)) {
             return false;
         }
-        return id != null && id.equals(that.id);
+        return id != null && id.equals(that.getId());
     }
 
     @Override
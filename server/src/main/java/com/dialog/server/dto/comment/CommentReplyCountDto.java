@@ -0,0 +1,3 @@
+package com.dialog.server.dto.comment;
+
+public record CommentReplyCountDto(Long parentCommentId, Long replyCount) {}
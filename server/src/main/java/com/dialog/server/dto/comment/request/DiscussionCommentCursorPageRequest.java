@@ -0,0 +1,15 @@
+package com.dialog.server.dto.comment.request;
+
+public record DiscussionCommentCursorPageRequest(
+        Long lastCursorId,
+        Integer size
+) {
+    public DiscussionCommentCursorPageRequest {
+        if (size == null || size <= 0) {
+            size = 20;
+        }
+        if (size > 50) {
+            size = 50;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.dialog.server.dto.comment.response;
+
+import com.dialog.server.domain.AuthorCard;
+import com.dialog.server.domain.DiscussionComment;
+import com.dialog.server.dto.comment.response.DiscussionCommentListResponse.DiscussionCommentResponse.AuthorResponse;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record DiscussionCommentCursorPageResponse(
+        List<CommentResponse> discussionComments,
+        Long nextCursorId,
+        boolean hasNext,
+        int size
+) {
+
+    public record CommentResponse(
+            Long discussionCommentId,
+            String content,
+            AuthorResponse author,
+            long replyCount,
+            @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+            LocalDateTime createdAt,
+            @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+            LocalDateTime modifiedAt,
+            long likeCount,
+            boolean isLiked
+    ) {
+        public static CommentResponse of(DiscussionComment comment, AuthorCard authorCard, long replyCount,
+                                         long likeCount, boolean isLiked) {
+            return new CommentResponse(
+                    comment.getId(),
+                    comment.getContent(),
+                    AuthorResponse.from(authorCard),
+                    replyCount,
+                    comment.getCreatedAt(),
+                    comment.getModifiedAt(),
+                    likeCount,
+                    isLiked
+            );
+        }
+    }
+}
@@ -1,8 +1,7 @@
 package com.dialog.server.dto.comment.response;
 
+import com.dialog.server.domain.AuthorCard;
 import com.dialog.server.domain.DiscussionComment;
-import com.dialog.server.domain.ProfileImage;
-import com.dialog.server.domain.User;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -27,14 +26,14 @@ public record DiscussionCommentListResponse(
         public static DiscussionCommentResponse withChildren(
                 DiscussionComment parentComment,
                 List<DiscussionComment> childComments,
-                Map<User, ProfileImage> profileImagesByUserId,
+                Map<Long, AuthorCard> authorCardsByUserId,
                 Map<Long, Long> likeCountByCommentId,
                 java.util.Set<Long> likedCommentIds) {
 
             List<DiscussionCommentResponse> childResponses = childComments.stream()
                     .map(childComment -> DiscussionCommentResponse.from(
                             childComment,
-                            profileImagesByUserId.get(childComment.getAuthor()),
+                            authorCardsByUserId.get(childComment.getAuthor().getId()),
                             likeCountByCommentId,
                             likedCommentIds
                     ))
@@ -42,25 +41,25 @@ public record DiscussionCommentListResponse(
 
             return DiscussionCommentResponse.from(
                     parentComment,
-                    profileImagesByUserId.get(parentComment.getAuthor()),
+                    authorCardsByUserId.get(parentComment.getAuthor().getId()),
                     childResponses,
                     likeCountByCommentId,
                     likedCommentIds
             );
         }
 
-        private static DiscussionCommentResponse from(DiscussionComment comment, ProfileImage profileImage,
+        private static DiscussionCommentResponse from(DiscussionComment comment, AuthorCard authorCard,
                 Map<Long, Long> likeCountByCommentId, java.util.Set<Long> likedCommentIds) {
-            return from(comment, profileImage, List.of(), likeCountByCommentId, likedCommentIds);
+            return from(comment, authorCard, List.of(), likeCountByCommentId, likedCommentIds);
         }
 
-        private static DiscussionCommentResponse from(DiscussionComment comment, ProfileImage profileImage,
+        private static DiscussionCommentResponse from(DiscussionComment comment, AuthorCard authorCard,
                 List<DiscussionCommentResponse> childComments,
                 Map<Long, Long> likeCountByCommentId, java.util.Set<Long> likedCommentIds) {
             return new DiscussionCommentResponse(
                     comment.getId(),
                     comment.getContent(),
-                    AuthorResponse.from(comment.getAuthor(), profileImage),
+                    AuthorResponse.from(authorCard),
                     childComments,
                     comment.getCreatedAt(),
                     comment.getModifiedAt(),
@@ -74,11 +73,11 @@ public record DiscussionCommentListResponse(
                 String nickname,
                 ProfileImageResponse profileImage
         ) {
-            public static AuthorResponse from(com.dialog.server.domain.User user, ProfileImage profileImage) {
+            public static AuthorResponse from(AuthorCard authorCard) {
                 return new AuthorResponse(
-                        user.getId(),
-                        user.getNickname(),
-                        profileImage != null ? ProfileImageResponse.from(profileImage) : null
+                        authorCard.userId(),
+                        authorCard.nickname(),
+                        authorCard.hasProfileImage() ? ProfileImageResponse.from(authorCard) : null
                 );
             }
         }
@@ -87,10 +86,10 @@ public record DiscussionCommentListResponse(
                 String basicImageUri,
                 String customImageUri
         ) {
-            public static ProfileImageResponse from(ProfileImage profileImage) {
+            public static ProfileImageResponse from(AuthorCard authorCard) {
                 return new ProfileImageResponse(
-                        profileImage.getBasicImageUri(),
-                        profileImage.getCustomImageUri()
+                        authorCard.basicImageUri(),
+                        authorCard.customImageUri()
                 );
             }
         }
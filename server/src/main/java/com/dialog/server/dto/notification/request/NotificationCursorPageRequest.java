@@ -0,0 +1,15 @@
+package com.dialog.server.dto.notification.request;
+
+public record NotificationCursorPageRequest(
+    Long lastCursorId,
+    Integer size
+) {
+    public NotificationCursorPageRequest {
+        if (size == null || size <= 0) {
+            size = 20;
+        }
+        if (size > 50) {
+            size = 50;
+        }
+    }
+}
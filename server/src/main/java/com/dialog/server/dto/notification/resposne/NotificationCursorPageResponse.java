@@ -0,0 +1,12 @@
+package com.dialog.server.dto.notification.resposne;
+
+import java.util.List;
+
+public record NotificationCursorPageResponse(
+    List<NotificationResponse> notifications,
+    Long unreadCount,
+    Long nextCursorId,
+    boolean hasNext,
+    int size
+) {
+}
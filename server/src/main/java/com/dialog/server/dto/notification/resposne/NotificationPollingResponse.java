@@ -11,9 +11,9 @@ public record NotificationPollingResponse(
         List<NotificationResponse> notifications,
         Long unreadCount
 ) {
-    public static NotificationPollingResponse of(List<Notification> notifications, Long unreadCount) {
+    public static NotificationPollingResponse of(List<Notification> notifications, long readWatermark, Long unreadCount) {
         List<NotificationResponse> notificationResponses = notifications.stream()
-                .map(NotificationResponse::from)
+                .map(notification -> NotificationResponse.from(notification, readWatermark))
                 .toList();
         return new NotificationPollingResponse(PollingStatus.NEW_NOTIFICATION, notificationResponses, unreadCount);
     }
@@ -23,6 +23,11 @@ public record NotificationPollingResponse(
         return new NotificationPollingResponse(PollingStatus.NEW_NOTIFICATION, List.of(notificationResponse), unreadCount);
     }
 
+    public static NotificationPollingResponse of(Notification notification, long readWatermark, Long unreadCount) {
+        NotificationResponse notificationResponse = NotificationResponse.from(notification, readWatermark);
+        return new NotificationPollingResponse(PollingStatus.NEW_NOTIFICATION, List.of(notificationResponse), unreadCount);
+    }
+
     public static NotificationPollingResponse createTimeoutResponse(Long unreadCount) {
         return new NotificationPollingResponse(PollingStatus.TIMEOUT, Collections.emptyList(), unreadCount);
     }
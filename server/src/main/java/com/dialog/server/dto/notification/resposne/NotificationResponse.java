@@ -16,13 +16,20 @@ public record NotificationResponse(
         boolean isRead
         ) {
     public static NotificationResponse from(Notification notification) {
+        return of(notification, notification.isRead());
+    }
+
+    public static NotificationResponse from(Notification notification, long readWatermark) {
+        return of(notification, notification.isRead(readWatermark));
+    }
+
+    private static NotificationResponse of(Notification notification, boolean isRead) {
         Long senderId = notification.getSender().getId();
         String senderNickname = notification.getSender().getNickname();
         NotificationType type = notification.getType();
         RouteParams routeParams = notification.getRouteParams();
         String message = type.getMessage(notification.getSender());
         LocalDateTime createdAt = notification.getCreatedAt();
-        boolean isRead = notification.isRead();
 
         return new NotificationResponse(
                 notification.getId(),
@@ -0,0 +1,28 @@
+package com.dialog.server.dto.request;
+
+import com.dialog.server.exception.DialogException;
+import com.dialog.server.exception.ErrorCode;
+
+public enum SearchOrder {
+    LATEST("latest"),
+    RELEVANCE("relevance"),
+    ;
+
+    public final String value;
+
+    SearchOrder(String value) {
+        this.value = value;
+    }
+
+    public static SearchOrder fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return LATEST;
+        }
+        for (SearchOrder order : values()) {
+            if (order.value.equals(value)) {
+                return order;
+            }
+        }
+        throw new DialogException(ErrorCode.INVALID_SEARCH_ORDER);
+    }
+}
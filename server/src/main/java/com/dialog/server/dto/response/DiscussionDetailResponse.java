@@ -19,6 +19,20 @@ public record DiscussionDetailResponse(
             long likeCount,
             ProfileImage profileImage
     ) {
+        return fromOfflineDiscussion(
+                offlineDiscussion,
+                offlineDiscussion.getDiscussionParticipants(),
+                likeCount,
+                profileImage
+        );
+    }
+
+    public static DiscussionDetailResponse fromOfflineDiscussion(
+            OfflineDiscussion offlineDiscussion,
+            List<DiscussionParticipant> participants,
+            long likeCount,
+            ProfileImage profileImage
+    ) {
 
         CommonDiscussionInfo commonInfo = CommonDiscussionInfo.from(
                 offlineDiscussion,
@@ -36,7 +50,7 @@ public record DiscussionDetailResponse(
                         offlineDiscussion.getPlace(),
                         offlineDiscussion.getParticipantCount(),
                         offlineDiscussion.getMaxParticipantCount(),
-                        ParticipantResponse.toParticipantResponse(offlineDiscussion.getDiscussionParticipants())
+                        ParticipantResponse.toParticipantResponse(participants)
                 ),
                 null
         );
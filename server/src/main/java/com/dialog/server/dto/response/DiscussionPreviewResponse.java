@@ -13,8 +13,8 @@ public record DiscussionPreviewResponse(
         OnlineDiscussionInfo onlineDiscussionInfo
 ) {
 
-    public static DiscussionPreviewResponse fromOfflineDiscussion(OfflineDiscussion offlineDiscussion, ProfileImage profileImage, long commentCount) {
-        CommonDiscussionInfo commonInfo = CommonDiscussionInfo.from(offlineDiscussion, profileImage, commentCount);
+    public static DiscussionPreviewResponse fromOfflineDiscussion(OfflineDiscussion offlineDiscussion, AuthorCard authorCard, long commentCount) {
+        CommonDiscussionInfo commonInfo = CommonDiscussionInfo.from(offlineDiscussion, authorCard, commentCount);
 
         return new DiscussionPreviewResponse(
                 offlineDiscussion.getId(),
@@ -31,8 +31,8 @@ public record DiscussionPreviewResponse(
         );
     }
 
-    public static DiscussionPreviewResponse fromOnlineDiscussion(OnlineDiscussion onlineDiscussion, ProfileImage profileImage, long commentCount) {
-        CommonDiscussionInfo commonInfo = CommonDiscussionInfo.from(onlineDiscussion, profileImage, commentCount);
+    public static DiscussionPreviewResponse fromOnlineDiscussion(OnlineDiscussion onlineDiscussion, AuthorCard authorCard, long commentCount) {
+        CommonDiscussionInfo commonInfo = CommonDiscussionInfo.from(onlineDiscussion, authorCard, commentCount);
 
         return new DiscussionPreviewResponse(
                 onlineDiscussion.getId(),
@@ -43,6 +43,43 @@ public record DiscussionPreviewResponse(
         );
     }
 
+    public static DiscussionPreviewResponse fromDiscussionFeed(DiscussionFeed discussionFeed) {
+        CommonDiscussionInfo commonInfo = new CommonDiscussionInfo(
+                discussionFeed.getTitle(),
+                discussionFeed.getAuthorNickname(),
+                discussionFeed.hasProfileImage()
+                        ? new ProfileImageResponse(discussionFeed.getBasicImageUri(), discussionFeed.getCustomImageUri())
+                        : null,
+                discussionFeed.getCategory(),
+                discussionFeed.getCreatedAt(),
+                discussionFeed.getModifiedAt(),
+                discussionFeed.getCommentCount()
+        );
+
+        if (discussionFeed.getDiscussionType() == DiscussionType.OFFLINE) {
+            return new DiscussionPreviewResponse(
+                    discussionFeed.getId(),
+                    DiscussionType.OFFLINE,
+                    commonInfo,
+                    new OfflineDiscussionInfo(
+                            discussionFeed.getStartAt(),
+                            discussionFeed.getEndAt(),
+                            discussionFeed.getPlace(),
+                            discussionFeed.getParticipantCount(),
+                            discussionFeed.getMaxParticipantCount()
+                    ),
+                    null
+            );
+        }
+        return new DiscussionPreviewResponse(
+                discussionFeed.getId(),
+                DiscussionType.ONLINE,
+                commonInfo,
+                null,
+                new OnlineDiscussionInfo(discussionFeed.getEndDate())
+        );
+    }
+
     public record CommonDiscussionInfo(
             String title,
             String author,
@@ -53,11 +90,11 @@ public record DiscussionPreviewResponse(
             long commentCount
     ) {
 
-        private static CommonDiscussionInfo from(Discussion discussion, ProfileImage profileImage, long commentCount) {
+        private static CommonDiscussionInfo from(Discussion discussion, AuthorCard authorCard, long commentCount) {
             return new CommonDiscussionInfo(
                     discussion.getTitle(),
-                    discussion.getAuthor().getNickname(),
-                    profileImage == null ? null : ProfileImageResponse.from(profileImage),
+                    authorCard.nickname(),
+                    authorCard.hasProfileImage() ? ProfileImageResponse.from(authorCard) : null,
                     discussion.getCategory(),
                     discussion.getCreatedAt(),
                     discussion.getModifiedAt(),
@@ -70,10 +107,10 @@ public record DiscussionPreviewResponse(
             String basicImageUri,
             String customImageUri
     ) {
-        private static ProfileImageResponse from(ProfileImage profileImage) {
+        private static ProfileImageResponse from(AuthorCard authorCard) {
             return new ProfileImageResponse(
-                    profileImage.getBasicImageUri(),
-                    profileImage.getCustomImageUri()
+                    authorCard.basicImageUri(),
+                    authorCard.customImageUri()
             );
         }
     }
@@ -0,0 +1,15 @@
+package com.dialog.server.event;
+
+import lombok.Getter;
+
+@Getter
+public class DiscussionCommentCountChangedEvent {
+
+    private final Long discussionId;
+    private final long delta;
+
+    public DiscussionCommentCountChangedEvent(Long discussionId, long delta) {
+        this.discussionId = discussionId;
+        this.delta = delta;
+    }
+}
@@ -0,0 +1,15 @@
+package com.dialog.server.event;
+
+import lombok.Getter;
+
+@Getter
+public class DiscussionCreatedEvent {
+
+    private final Long discussionId;
+    private final Long authorId;
+
+    public DiscussionCreatedEvent(Long discussionId, Long authorId) {
+        this.discussionId = discussionId;
+        this.authorId = authorId;
+    }
+}
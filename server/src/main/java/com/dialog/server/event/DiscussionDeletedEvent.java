@@ -0,0 +1,13 @@
+package com.dialog.server.event;
+
+import lombok.Getter;
+
+@Getter
+public class DiscussionDeletedEvent {
+
+    private final Long discussionId;
+
+    public DiscussionDeletedEvent(Long discussionId) {
+        this.discussionId = discussionId;
+    }
+}
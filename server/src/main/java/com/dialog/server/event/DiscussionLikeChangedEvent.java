@@ -0,0 +1,13 @@
+package com.dialog.server.event;
+
+import lombok.Getter;
+
+@Getter
+public class DiscussionLikeChangedEvent {
+
+    private final Long discussionId;
+
+    public DiscussionLikeChangedEvent(Long discussionId) {
+        this.discussionId = discussionId;
+    }
+}
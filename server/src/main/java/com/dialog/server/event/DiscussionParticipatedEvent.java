@@ -0,0 +1,13 @@
+package com.dialog.server.event;
+
+import lombok.Getter;
+
+@Getter
+public class DiscussionParticipatedEvent {
+
+    private final Long discussionId;
+
+    public DiscussionParticipatedEvent(Long discussionId) {
+        this.discussionId = discussionId;
+    }
+}
@@ -0,0 +1,16 @@
+package com.dialog.server.event;
+
+import com.dialog.server.domain.DiscussionStatus;
+import lombok.Getter;
+
+@Getter
+public class DiscussionStatusChangedEvent {
+
+    private final Long discussionId;
+    private final DiscussionStatus status;
+
+    public DiscussionStatusChangedEvent(Long discussionId, DiscussionStatus status) {
+        this.discussionId = discussionId;
+        this.status = status;
+    }
+}
@@ -0,0 +1,13 @@
+package com.dialog.server.event;
+
+import lombok.Getter;
+
+@Getter
+public class DiscussionUpdatedEvent {
+
+    private final Long discussionId;
+
+    public DiscussionUpdatedEvent(Long discussionId) {
+        this.discussionId = discussionId;
+    }
+}
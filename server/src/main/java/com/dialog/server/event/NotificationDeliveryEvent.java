@@ -0,0 +1,22 @@
+package com.dialog.server.event;
+
+import com.dialog.server.dto.notification.resposne.NotificationPollingResponse;
+import lombok.Getter;
+
+/**
+ * 이 노드에 연결된 클라이언트에게 전달할 알림.
+ * 다른 노드에서 커밋된 알림도 NotificationBroadcaster를 거쳐 이 이벤트로 발행된다.
+ */
+@Getter
+public class NotificationDeliveryEvent {
+
+    private final Long receiverId;
+    private final Long notificationId;
+    private final NotificationPollingResponse response;
+
+    public NotificationDeliveryEvent(Long receiverId, Long notificationId, NotificationPollingResponse response) {
+        this.receiverId = receiverId;
+        this.notificationId = notificationId;
+        this.response = response;
+    }
+}
@@ -0,0 +1,13 @@
+package com.dialog.server.event;
+
+import lombok.Getter;
+
+@Getter
+public class ProfileImageChangedEvent {
+
+    private final Long userId;
+
+    public ProfileImageChangedEvent(Long userId) {
+        this.userId = userId;
+    }
+}
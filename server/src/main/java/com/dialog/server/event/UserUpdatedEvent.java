@@ -0,0 +1,13 @@
+package com.dialog.server.event;
+
+import lombok.Getter;
+
+@Getter
+public class UserUpdatedEvent {
+
+    private final Long userId;
+
+    public UserUpdatedEvent(Long userId) {
+        this.userId = userId;
+    }
+}
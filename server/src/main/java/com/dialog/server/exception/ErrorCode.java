@@ -75,7 +75,14 @@ public enum ErrorCode {
     NOTIFICATION_NOT_FOUND("5090", "해당 알림을 찾을 수 없습니다.", HttpStatus.BAD_REQUEST),
 
     ALREADY_REPORTED("5091", "이미 신고한 콘텐츠입니다.", HttpStatus.BAD_REQUEST),
-    CANNOT_REPORT_OWN_CONTENT("5092", "본인의 콘텐츠는 신고할 수 없습니다.", HttpStatus.BAD_REQUEST);
+    CANNOT_REPORT_OWN_CONTENT("5092", "본인의 콘텐츠는 신고할 수 없습니다.", HttpStatus.BAD_REQUEST),
+
+    LOCK_ACQUISITION_TIMEOUT("5100", "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+
+    NOTIFICATION_STREAM_LIMIT_EXCEEDED("5110", "알림 연결이 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    INVALID_CURSOR("5120", "유효하지 않은 커서입니다.", HttpStatus.BAD_REQUEST),
+
+    INVALID_SEARCH_ORDER("5130", "유효하지 않은 검색 정렬 기준입니다.", HttpStatus.BAD_REQUEST);
 
     public final String code;
     public final String message;
@@ -0,0 +1,186 @@
+package com.dialog.server.lock;
+
+import com.dialog.server.exception.DialogException;
+import com.dialog.server.exception.ErrorCode;
+import com.dialog.server.repository.DiscussionLockLeaseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 여러 서버 인스턴스 사이에서 공유되는 discussion_locks 테이블 기반 락.
+ * 락은 lease 만료 시각을 가지며, 보유 중인 동안 주기적으로 갱신된다.
+ * 보유 노드가 죽어 갱신이 멈추면 lease 만료 후 다른 노드가 락을 가져갈 수 있다.
+ * 갱신은 @Scheduled 작업과 스레드를 나눠 쓰지 않는 전용 스레드에서 실행해, 오래 걸리는 다른 작업이 갱신을 늦춰 lease가 만료되지 않게 한다.
+ * 보유자는 노드와 스레드로 구분하며, LocalLockManager처럼 같은 스레드의 재획득은 보유 횟수만 늘린다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "lock.type", havingValue = "database")
+public class DatabaseLockManager implements LockManager {
+
+    private static final long MIN_RETRY_INTERVAL_MILLIS = 20L;
+    private static final long MAX_RETRY_INTERVAL_MILLIS = 100L;
+
+    private final DiscussionLockLeaseRepository lockLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration waitTimeout;
+    private final Duration leaseTime;
+    private final Duration renewInterval;
+    private final ScheduledThreadPoolExecutor renewalExecutor;
+    private final Counter contentionCounter;
+    private final Counter timeoutCounter;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<HeldLease, Integer> holdCounts = new ConcurrentHashMap<>();
+
+    public DatabaseLockManager(
+            DiscussionLockLeaseRepository lockLeaseRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${lock.wait-timeout:5s}") Duration waitTimeout,
+            @Value("${lock.database.lease-time:30s}") Duration leaseTime,
+            @Value("${lock.database.renew-interval:10s}") Duration renewInterval
+    ) {
+        this.lockLeaseRepository = lockLeaseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.waitTimeout = waitTimeout;
+        this.leaseTime = leaseTime;
+        this.renewInterval = renewInterval;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("discussion-lock-renewal-");
+        threadFactory.setDaemon(true);
+        this.renewalExecutor = new ScheduledThreadPoolExecutor(1, threadFactory);
+        this.contentionCounter = Counter.builder("discussion.lock.contention")
+                .description("다른 노드가 보유 중이라 락 획득을 재시도한 횟수")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("discussion.lock.timeout")
+                .description("대기 시간 초과로 락 획득에 실패한 횟수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void startRenewal() {
+        long intervalMillis = renewInterval.toMillis();
+        renewalExecutor.scheduleWithFixedDelay(
+                this::renewHeldLeases, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS
+        );
+    }
+
+    @PreDestroy
+    void stopRenewal() {
+        renewalExecutor.shutdownNow();
+    }
+
+    @Override
+    public void lock(Long key) {
+        if (!tryLock(key, waitTimeout)) {
+            throw new DialogException(ErrorCode.LOCK_ACQUISITION_TIMEOUT);
+        }
+    }
+
+    @Override
+    public boolean tryLock(Long key, Duration timeout) {
+        HeldLease lease = new HeldLease(key, currentOwner());
+        // 보유 횟수는 보유한 스레드만 바꾸므로 조회와 갱신 사이에 다른 스레드가 끼어들지 않는다
+        Integer holdCount = holdCounts.get(lease);
+        if (holdCount != null) {
+            holdCounts.put(lease, holdCount + 1);
+            return true;
+        }
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!tryAcquire(key, lease.owner())) {
+            contentionCounter.increment();
+            if (System.nanoTime() >= deadline || !sleepBeforeRetry()) {
+                timeoutCounter.increment();
+                return false;
+            }
+        }
+        holdCounts.put(lease, 1);
+        return true;
+    }
+
+    @Override
+    public void unlock(Long key) {
+        HeldLease lease = new HeldLease(key, currentOwner());
+        Integer holdCount = holdCounts.get(lease);
+        if (holdCount == null) {
+            return;
+        }
+        if (holdCount > 1) {
+            holdCounts.put(lease, holdCount - 1);
+            return;
+        }
+        holdCounts.remove(lease);
+        transactionTemplate.executeWithoutResult(status -> lockLeaseRepository.release(key, lease.owner()));
+    }
+
+    void renewHeldLeases() {
+        Set<String> owners = holdCounts.keySet().stream()
+                .map(HeldLease::owner)
+                .collect(Collectors.toSet());
+        if (owners.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> lockLeaseRepository.renew(owners, leaseSeconds()));
+        } catch (Exception e) {
+            log.warn("Failed to renew discussion lock leases: {}", e.getMessage());
+        }
+    }
+
+    private boolean tryAcquire(Long key, String owner) {
+        try {
+            Boolean acquired = transactionTemplate.execute(status -> {
+                if (lockLeaseRepository.takeOverExpired(key, owner, leaseSeconds()) > 0) {
+                    return true;
+                }
+                lockLeaseRepository.insert(key, owner, leaseSeconds());
+                return true;
+            });
+            return Boolean.TRUE.equals(acquired);
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private String currentOwner() {
+        return nodeId + ":" + Thread.currentThread().threadId();
+    }
+
+    private long leaseSeconds() {
+        return Math.max(leaseTime.toSeconds(), 1L);
+    }
+
+    private boolean sleepBeforeRetry() {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(MIN_RETRY_INTERVAL_MILLIS, MAX_RETRY_INTERVAL_MILLIS));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record HeldLease(Long key, String owner) {
+    }
+}
@@ -1,11 +1,16 @@
 package com.dialog.server.lock;
 
+import com.dialog.server.exception.DialogException;
+import com.dialog.server.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.lang.reflect.Method;
-import lombok.RequiredArgsConstructor;
+import java.time.Duration;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.expression.MethodBasedEvaluationContext;
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.Ordered;
@@ -17,19 +22,35 @@ import org.springframework.stereotype.Component;
 @Aspect
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
-@RequiredArgsConstructor
 public class DiscussionLockAspect {
 
     private final LockManager lockManager;
+    private final MeterRegistry meterRegistry;
+    private final Duration waitTimeout;
     private final ExpressionParser parser = new SpelExpressionParser();
     private final DefaultParameterNameDiscoverer nameDiscoverer = new DefaultParameterNameDiscoverer();
 
+    public DiscussionLockAspect(
+            LockManager lockManager,
+            MeterRegistry meterRegistry,
+            @Value("${lock.wait-timeout:5s}") Duration waitTimeout
+    ) {
+        this.lockManager = lockManager;
+        this.meterRegistry = meterRegistry;
+        this.waitTimeout = waitTimeout;
+    }
+
     @Around("@annotation(com.dialog.server.lock.DiscussionLock)")
     public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
         DiscussionLock discussionLock = signature.getMethod().getAnnotation(DiscussionLock.class);
         Long key = extractKey(joinPoint, discussionLock);
-        lockManager.lock(key);
+        Timer.Sample waitSample = Timer.start(meterRegistry);
+        boolean acquired = lockManager.tryLock(key, waitTimeout);
+        waitSample.stop(meterRegistry.timer("discussion.lock.wait", "acquired", String.valueOf(acquired)));
+        if (!acquired) {
+            throw new DialogException(ErrorCode.LOCK_ACQUISITION_TIMEOUT);
+        }
         try {
             return joinPoint.proceed();
         } finally {
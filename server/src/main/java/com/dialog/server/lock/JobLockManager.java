@@ -0,0 +1,68 @@
+package com.dialog.server.lock;
+
+import com.dialog.server.repository.JobLockRepository;
+import java.time.Duration;
+import java.util.UUID;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * job_locks 테이블로 주기 작업을 여러 노드 중 한 노드에서만 실행한다.
+ * 잠금은 lockAtMostFor가 지나면 갱신 없이 풀리므로, 작업은 그 시간 안에 끝나도록 스스로 멈춰야 한다.
+ * 토론 락(LockManager)과 이름 공간과 테이블을 나눠, 작업 잠금이 토론 id를 차지하거나 lease 갱신에 기대지 않게 한다.
+ */
+@Component
+public class JobLockManager {
+
+    private final JobLockRepository jobLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public JobLockManager(JobLockRepository jobLockRepository, PlatformTransactionManager transactionManager) {
+        this.jobLockRepository = jobLockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 다른 노드가 잡고 있으면 기다리지 않고 false를 반환한다.
+     */
+    public boolean tryLock(String name, Duration lockAtMostFor) {
+        long lockSeconds = Math.max(lockAtMostFor.toSeconds(), 1L);
+        try {
+            Boolean acquired = transactionTemplate.execute(status -> {
+                if (jobLockRepository.takeOverExpired(name, nodeId, lockSeconds) > 0) {
+                    return true;
+                }
+                if (jobLockRepository.existsById(name)) {
+                    return false;
+                }
+                jobLockRepository.insert(name, nodeId, lockSeconds);
+                return true;
+            });
+            return Boolean.TRUE.equals(acquired);
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    public void unlock(String name) {
+        transactionTemplate.executeWithoutResult(status -> jobLockRepository.release(name, nodeId));
+    }
+
+    public long getCursor(String name) {
+        Long cursorId = transactionTemplate.execute(status -> jobLockRepository.findCursorId(name));
+        return cursorId == null ? 0L : cursorId;
+    }
+
+    /**
+     * 잠금을 잡고 있는 동안만 저장한다. 잠금이 이미 만료되었으면 false를 반환한다.
+     */
+    public boolean saveCursor(String name, long cursorId) {
+        Integer updated = transactionTemplate.execute(status -> jobLockRepository.updateCursor(name, nodeId, cursorId));
+        return updated != null && updated > 0;
+    }
+}
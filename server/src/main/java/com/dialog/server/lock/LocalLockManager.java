@@ -1,24 +1,70 @@
 package com.dialog.server.lock;
 
+import java.time.Duration;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+/**
+ * 토론 ID별 ReentrantLock을 참조 카운트로 관리한다.
+ * 락을 기다리거나 보유한 스레드가 모두 빠져나가면 엔트리를 제거하므로, 맵 크기는 동시에 사용 중인 키 수로 제한된다.
+ */
 @Component
+@ConditionalOnProperty(name = "lock.type", havingValue = "local", matchIfMissing = true)
 public class LocalLockManager implements LockManager {
 
-    private final ConcurrentHashMap<Long, ReentrantLock> lockMap = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, LockEntry> lockMap = new ConcurrentHashMap<>();
 
     @Override
     public void lock(Long key) {
-        lockMap.computeIfAbsent(key, k -> new ReentrantLock()).lock();
+        retain(key).lock.lock();
+    }
+
+    @Override
+    public boolean tryLock(Long key, Duration timeout) {
+        LockEntry entry = retain(key);
+        try {
+            if (entry.lock.tryLock(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        release(key);
+        return false;
     }
 
     @Override
     public void unlock(Long key) {
-        ReentrantLock lock = lockMap.get(key);
-        if (lock != null) {
-            lock.unlock();
+        LockEntry entry = lockMap.get(key);
+        if (entry == null || !entry.lock.isHeldByCurrentThread()) {
+            return;
         }
+        entry.lock.unlock();
+        release(key);
+    }
+
+    int lockCount() {
+        return lockMap.size();
+    }
+
+    private LockEntry retain(Long key) {
+        return lockMap.compute(key, (k, entry) -> {
+            LockEntry retained = entry == null ? new LockEntry() : entry;
+            retained.references++;
+            return retained;
+        });
+    }
+
+    private void release(Long key) {
+        lockMap.computeIfPresent(key, (k, entry) -> --entry.references == 0 ? null : entry);
+    }
+
+    private static final class LockEntry {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private int references;
     }
 }
@@ -1,8 +1,12 @@
 package com.dialog.server.lock;
 
+import java.time.Duration;
+
 public interface LockManager {
 
     void lock(Long key);
 
+    boolean tryLock(Long key, Duration timeout);
+
     void unlock(Long key);
 }
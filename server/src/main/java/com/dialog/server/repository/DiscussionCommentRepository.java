@@ -2,14 +2,83 @@ package com.dialog.server.repository;
 
 import com.dialog.server.domain.Discussion;
 import com.dialog.server.domain.DiscussionComment;
+import com.dialog.server.dto.comment.CommentReplyCountDto;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface DiscussionCommentRepository extends JpaRepository<DiscussionComment, Long> {
 
     List<DiscussionComment> findByParentDiscussionComment(DiscussionComment parentDiscussionComment);
 
-    long countByDiscussionId(Long discussionId);
-
     List<DiscussionComment> findByDiscussion(Discussion discussion);
+
+    @Query("""
+            SELECT c
+            FROM DiscussionComment c
+            JOIN FETCH c.author
+            WHERE c.discussion.id = :discussionId AND c.parentDiscussionComment IS NULL AND c.id > :lastCommentId
+            ORDER BY c.id ASC
+            """)
+    List<DiscussionComment> findParentCommentsWithAuthorAfter(Pageable pageable,
+                                                              @Param("discussionId") Long discussionId,
+                                                              @Param("lastCommentId") Long lastCommentId);
+
+    @Query("""
+            SELECT c
+            FROM DiscussionComment c
+            JOIN FETCH c.author
+            WHERE c.parentDiscussionComment.id IN :parentCommentIds
+            ORDER BY c.id ASC
+            """)
+    List<DiscussionComment> findRepliesWithAuthorByParentCommentIdIn(
+            @Param("parentCommentIds") Collection<Long> parentCommentIds);
+
+    @Query("""
+            SELECT c
+            FROM DiscussionComment c
+            WHERE c.discussion.id = :discussionId AND c.parentDiscussionComment IS NULL
+            ORDER BY c.id ASC
+            """)
+    List<DiscussionComment> findFirstPageParentComments(Pageable pageable, @Param("discussionId") Long discussionId);
+
+    @Query("""
+            SELECT c
+            FROM DiscussionComment c
+            WHERE c.discussion.id = :discussionId AND c.parentDiscussionComment IS NULL AND c.id >= :lastCommentId
+            ORDER BY c.id ASC
+            """)
+    List<DiscussionComment> findParentComments(Pageable pageable,
+                                               @Param("discussionId") Long discussionId,
+                                               @Param("lastCommentId") Long lastCommentId);
+
+    @Query("""
+            SELECT c
+            FROM DiscussionComment c
+            WHERE c.parentDiscussionComment.id = :parentCommentId
+            ORDER BY c.id ASC
+            """)
+    List<DiscussionComment> findFirstPageReplies(Pageable pageable, @Param("parentCommentId") Long parentCommentId);
+
+    @Query("""
+            SELECT c
+            FROM DiscussionComment c
+            WHERE c.parentDiscussionComment.id = :parentCommentId AND c.id >= :lastCommentId
+            ORDER BY c.id ASC
+            """)
+    List<DiscussionComment> findReplies(Pageable pageable,
+                                        @Param("parentCommentId") Long parentCommentId,
+                                        @Param("lastCommentId") Long lastCommentId);
+
+    @Query("""
+            SELECT new com.dialog.server.dto.comment.CommentReplyCountDto(c.parentDiscussionComment.id, COUNT(c))
+            FROM DiscussionComment c
+            WHERE c.parentDiscussionComment.id IN :parentCommentIds
+            GROUP BY c.parentDiscussionComment.id
+            """)
+    List<CommentReplyCountDto> countRepliesByParentCommentIdIn(
+            @Param("parentCommentIds") Collection<Long> parentCommentIds);
 }
@@ -18,7 +18,13 @@ public interface DiscussionCustomRepository {
 
     List<Discussion> findByTitleOrContentContainingWithFiltersBeforeDateCursor(String keyword, List<Category> categories, List<DiscussionStatus> statuses, List<DiscussionType> discussionTypes, LocalDateTime cursor, Long id, int limit);
 
+    List<Discussion> findByTitleOrContentMatchingWithFiltersOrderByRelevance(String keyword, List<Category> categories, List<DiscussionStatus> statuses, List<DiscussionType> discussionTypes, long offset, int limit);
+
+    List<Discussion> findByIdInAndTitleOrContentContainingWithFiltersBeforeDateCursor(List<Long> ids, String keyword, List<Category> categories, List<DiscussionStatus> statuses, List<DiscussionType> discussionTypes, LocalDateTime cursor, Long id, int limit);
+
     List<Discussion> findByAuthorNicknameContainingWithFiltersPageable(String nickname, List<Category> categories, List<DiscussionStatus> statuses, List<DiscussionType> discussionTypes, Pageable pageable);
 
     List<Discussion> findByAuthorNicknameContainingWithFiltersBeforeDateCursor(String nickname, List<Category> categories, List<DiscussionStatus> statuses, List<DiscussionType> discussionTypes, LocalDateTime cursor, Long id, int limit);
+
+    List<Discussion> findByIdInAndAuthorNicknameContainingWithFiltersBeforeDateCursor(List<Long> ids, String nickname, List<Category> categories, List<DiscussionStatus> statuses, List<DiscussionType> discussionTypes, LocalDateTime cursor, Long id, int limit);
 }
@@ -8,25 +8,42 @@ import com.dialog.server.domain.QDiscussion;
 import com.dialog.server.domain.QOfflineDiscussion;
 import com.dialog.server.domain.QOnlineDiscussion;
 import com.dialog.server.domain.QUser;
+import com.dialog.server.config.MatchAgainstFunctionContributor;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
-@RequiredArgsConstructor
 @Repository
 public class DiscussionCustomRepositoryImpl implements DiscussionCustomRepository {
 
+    // ngram_token_size 기본값(2)보다 짧은 검색어는 FULLTEXT 인덱스로 찾을 수 없다
+    private static final int MIN_FULL_TEXT_TERM_LENGTH = 2;
+    private static final String BOOLEAN_MODE_OPERATORS = "[+\\-<>()~*\"@]";
+
     private final JPAQueryFactory queryFactory;
+    private final boolean fullTextEnabled;
     private final QDiscussion discussion = QDiscussion.discussion;
     private final QOfflineDiscussion offlineDiscussion = QOfflineDiscussion.offlineDiscussion;
     private final QOnlineDiscussion onlineDiscussion = QOnlineDiscussion.onlineDiscussion;
     private final QUser user = QUser.user;
 
+    public DiscussionCustomRepositoryImpl(
+            JPAQueryFactory queryFactory,
+            @Value("${search.full-text.enabled:false}") boolean fullTextEnabled
+    ) {
+        this.queryFactory = queryFactory;
+        this.fullTextEnabled = fullTextEnabled;
+    }
+
     @Override
     public List<Discussion> findWithFiltersPageable(
             List<Category> categories,
@@ -123,6 +140,59 @@ public class DiscussionCustomRepositoryImpl implements DiscussionCustomRepositor
                 .fetch();
     }
 
+    @Override
+    public List<Discussion> findByIdInAndTitleOrContentContainingWithFiltersBeforeDateCursor(
+            List<Long> ids,
+            String keyword,
+            List<Category> categories,
+            List<DiscussionStatus> statuses,
+            List<DiscussionType> discussionTypes,
+            LocalDateTime cursor,
+            Long cursorId,
+            int limit) {
+
+        return queryFactory.selectFrom(discussion)
+                .leftJoin(offlineDiscussion).on(discussion.id.eq(offlineDiscussion.id))
+                .leftJoin(onlineDiscussion).on(discussion.id.eq(onlineDiscussion.id))
+                .innerJoin(discussion.author, user).fetchJoin()
+                .where(
+                        discussion.id.in(ids),
+                        titleOrContentContains(keyword),
+                        categoryIn(categories),
+                        statusIn(statuses),
+                        discussionTypeIn(discussionTypes),
+                        cursorBefore(cursor, cursorId)
+                )
+                .orderBy(discussion.createdAt.desc(), discussion.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Discussion> findByTitleOrContentMatchingWithFiltersOrderByRelevance(
+            String keyword,
+            List<Category> categories,
+            List<DiscussionStatus> statuses,
+            List<DiscussionType> discussionTypes,
+            long offset,
+            int limit) {
+
+        return queryFactory.selectFrom(discussion)
+                .leftJoin(offlineDiscussion).on(discussion.id.eq(offlineDiscussion.id))
+                .leftJoin(onlineDiscussion).on(discussion.id.eq(onlineDiscussion.id))
+                .innerJoin(discussion.author, user).fetchJoin()
+                .where(
+                        titleOrContentContains(keyword),
+                        categoryIn(categories),
+                        statusIn(statuses),
+                        discussionTypeIn(discussionTypes)
+                )
+                .orderBy(relevanceOrder(keyword), discussion.createdAt.desc(), discussion.id.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
     @Override
     public List<Discussion> findByAuthorNicknameContainingWithFiltersPageable(
             String nickname,
@@ -173,15 +243,91 @@ public class DiscussionCustomRepositoryImpl implements DiscussionCustomRepositor
                 .fetch();
     }
 
+    @Override
+    public List<Discussion> findByIdInAndAuthorNicknameContainingWithFiltersBeforeDateCursor(
+            List<Long> ids,
+            String nickname,
+            List<Category> categories,
+            List<DiscussionStatus> statuses,
+            List<DiscussionType> discussionTypes,
+            LocalDateTime cursor,
+            Long cursorId,
+            int limit) {
+
+        return queryFactory.selectFrom(discussion)
+                .leftJoin(offlineDiscussion).on(discussion.id.eq(offlineDiscussion.id))
+                .leftJoin(onlineDiscussion).on(discussion.id.eq(onlineDiscussion.id))
+                .innerJoin(discussion.author, user).fetchJoin()
+                .where(
+                        discussion.id.in(ids),
+                        nicknameContains(nickname),
+                        categoryIn(categories),
+                        statusIn(statuses),
+                        discussionTypeIn(discussionTypes),
+                        cursorBefore(cursor, cursorId)
+                )
+                .orderBy(discussion.createdAt.desc(), discussion.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
     private BooleanExpression titleOrContentContains(String keyword) {
         if (!hasText(keyword)) {
             return null;
         }
         String trimmed = keyword.trim();
+        if (canUseFullText(trimmed)) {
+            return matchScore(trimmed).gt(0.0);
+        }
         return discussion.title.containsIgnoreCase(trimmed)
                 .or(discussion.content.containsIgnoreCase(trimmed));
     }
 
+    private OrderSpecifier<Double> relevanceOrder(String keyword) {
+        if (!hasText(keyword) || !canUseFullText(keyword.trim())) {
+            return null;
+        }
+        return matchScore(keyword.trim()).desc();
+    }
+
+    private NumberExpression<Double> matchScore(String keyword) {
+        return Expressions.numberTemplate(
+                Double.class,
+                "function('" + MatchAgainstFunctionContributor.FUNCTION_NAME + "', {0}, {1}, {2}, {3})",
+                discussion.title,
+                discussion.content,
+                toBooleanModeQuery(keyword),
+                "%" + escapeLikePattern(keyword) + "%"
+        );
+    }
+
+    private String escapeLikePattern(String keyword) {
+        char escape = MatchAgainstFunctionContributor.ESCAPE_CHARACTER;
+        return keyword.replace(String.valueOf(escape), "" + escape + escape)
+                .replace("%", escape + "%")
+                .replace("_", escape + "_");
+    }
+
+    private boolean canUseFullText(String keyword) {
+        if (!fullTextEnabled) {
+            return false;
+        }
+        List<String> terms = toTerms(keyword);
+        return !terms.isEmpty() && terms.stream().allMatch(term -> term.length() >= MIN_FULL_TEXT_TERM_LENGTH);
+    }
+
+    private String toBooleanModeQuery(String keyword) {
+        return toTerms(keyword).stream()
+                .map(term -> "+\"" + term + "\"")
+                .collect(Collectors.joining(" "));
+    }
+
+    private List<String> toTerms(String keyword) {
+        return Arrays.stream(keyword.replaceAll(BOOLEAN_MODE_OPERATORS, " ").split("\\s+"))
+                .filter(term -> !term.isBlank())
+                .toList();
+    }
+
     private BooleanExpression nicknameContains(String nickname) {
         return nickname != null ? user.nickname.containsIgnoreCase(nickname) : null;
     }
@@ -197,64 +343,16 @@ public class DiscussionCustomRepositoryImpl implements DiscussionCustomRepositor
         if (statuses == null || statuses.isEmpty()) {
             return null;
         }
-
-        BooleanExpression condition = null;
-        LocalDateTime now = LocalDateTime.now();
-
-        for (DiscussionStatus status : statuses) {
-            BooleanExpression statusCondition = createStatusCondition(status, now);
-            condition = condition == null ? statusCondition : condition.or(statusCondition);
-        }
-
-        return condition;
-    }
-
-    private BooleanExpression createStatusCondition(
-            DiscussionStatus status,
-            final LocalDateTime now) {
-
-        BooleanExpression onlineCondition = onlineDiscussion.id.isNotNull().and(
-                switch (status) {
-                    case IN_DISCUSSION -> onlineDiscussion.endDate.gt(LocalDate.from(now));
-
-                    case DISCUSSION_COMPLETE -> onlineDiscussion.endDate.loe(LocalDate.from(now));
-
-                    case RECRUITING, RECRUIT_COMPLETE -> null;
-                }
-        );
-
-        BooleanExpression recruitingCondition = offlineDiscussion.startAt.gt(now)
-                .and(offlineDiscussion.participantCount.lt(offlineDiscussion.maxParticipantCount));
-
-        BooleanExpression recruitCompleteCondition = offlineDiscussion.startAt.gt(now)
-                .and(offlineDiscussion.participantCount.goe(offlineDiscussion.maxParticipantCount));
-
-        BooleanExpression inDiscussionCondition = offlineDiscussion.startAt.loe(now)
-                .and(offlineDiscussion.endAt.goe(now));
-
-        BooleanExpression discussionCompleteCondition = offlineDiscussion.endAt.lt(now);
-
-        BooleanExpression offlineCondition = offlineDiscussion.id.isNotNull().and(
-                switch (status) {
-                    case RECRUITING -> recruitingCondition;
-                    case RECRUIT_COMPLETE -> recruitCompleteCondition;
-                    case IN_DISCUSSION -> inDiscussionCondition;
-                    case DISCUSSION_COMPLETE -> discussionCompleteCondition;
-                }
-        );
-
-        return switch (status) {
-            case RECRUITING, RECRUIT_COMPLETE -> offlineCondition;
-            case IN_DISCUSSION, DISCUSSION_COMPLETE -> onlineCondition.or(offlineCondition);
-        };
+        return discussion.status.in(statuses);
     }
 
     private BooleanExpression cursorBefore(LocalDateTime cursor, Long cursorId) {
         if (cursor == null || cursorId == null) {
             return null;
         }
-        return discussion.createdAt.lt(cursor)
-                .or(discussion.createdAt.eq(cursor).and(discussion.id.lt(cursorId)));
+        // 행 값 비교만으로는 인덱스 범위가 잡히지 않는 옵티마이저가 있어 선두 컬럼 상한을 함께 건다
+        return discussion.createdAt.loe(cursor)
+                .and(Expressions.booleanTemplate("({0}, {1}) < ({2}, {3})", discussion.createdAt, discussion.id, cursor, cursorId));
     }
 
     private BooleanExpression discussionTypeIn(List<DiscussionType> discussionTypes) {
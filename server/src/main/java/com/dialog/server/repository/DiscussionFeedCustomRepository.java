@@ -0,0 +1,13 @@
+package com.dialog.server.repository;
+
+import com.dialog.server.domain.Category;
+import com.dialog.server.domain.DiscussionFeed;
+import com.dialog.server.domain.DiscussionStatus;
+import com.dialog.server.domain.DiscussionType;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DiscussionFeedCustomRepository {
+
+    List<DiscussionFeed> findWithFiltersBeforeDateCursor(List<Category> categories, List<DiscussionStatus> statuses, List<DiscussionType> discussionTypes, LocalDateTime cursor, Long id, int limit);
+}
@@ -0,0 +1,73 @@
+package com.dialog.server.repository;
+
+import com.dialog.server.domain.Category;
+import com.dialog.server.domain.DiscussionFeed;
+import com.dialog.server.domain.DiscussionStatus;
+import com.dialog.server.domain.DiscussionType;
+import com.dialog.server.domain.QDiscussionFeed;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@RequiredArgsConstructor
+@Repository
+public class DiscussionFeedCustomRepositoryImpl implements DiscussionFeedCustomRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final QDiscussionFeed discussionFeed = QDiscussionFeed.discussionFeed;
+
+    @Override
+    public List<DiscussionFeed> findWithFiltersBeforeDateCursor(
+            List<Category> categories,
+            List<DiscussionStatus> statuses,
+            List<DiscussionType> discussionTypes,
+            LocalDateTime cursor,
+            Long cursorId,
+            int limit) {
+
+        return queryFactory.selectFrom(discussionFeed)
+                .where(
+                        categoryIn(categories),
+                        statusIn(statuses),
+                        discussionTypeIn(discussionTypes),
+                        cursorBefore(cursor, cursorId)
+                )
+                .orderBy(discussionFeed.createdAt.desc(), discussionFeed.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression categoryIn(List<Category> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return null;
+        }
+        return discussionFeed.category.in(categories);
+    }
+
+    private BooleanExpression statusIn(List<DiscussionStatus> statuses) {
+        if (statuses == null || statuses.isEmpty()) {
+            return null;
+        }
+        return discussionFeed.status.in(statuses);
+    }
+
+    private BooleanExpression discussionTypeIn(List<DiscussionType> discussionTypes) {
+        if (discussionTypes == null || discussionTypes.isEmpty()) {
+            return null;
+        }
+        return discussionFeed.discussionType.in(discussionTypes);
+    }
+
+    private BooleanExpression cursorBefore(LocalDateTime cursor, Long cursorId) {
+        if (cursor == null || cursorId == null) {
+            return null;
+        }
+        // 행 값 비교만으로는 인덱스 범위가 잡히지 않는 옵티마이저가 있어 선두 컬럼 상한을 함께 건다
+        return discussionFeed.createdAt.loe(cursor)
+                .and(Expressions.booleanTemplate("({0}, {1}) < ({2}, {3})", discussionFeed.createdAt, discussionFeed.id, cursor, cursorId));
+    }
+}
@@ -0,0 +1,89 @@
+package com.dialog.server.repository;
+
+import com.dialog.server.domain.DiscussionFeed;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DiscussionFeedRepository extends JpaRepository<DiscussionFeed, Long>, DiscussionFeedCustomRepository {
+
+    @Modifying
+    @Query(value = """
+            UPDATE discussion_feed
+            SET comment_count = GREATEST(comment_count + :delta, 0)
+            WHERE discussion_id = :id
+            """, nativeQuery = true)
+    void updateCommentCount(@Param("id") Long id, @Param("delta") long delta);
+
+    // status를 먼저 대입해야 MySQL(왼쪽부터 갱신된 값을 참조)과 H2 모두 증가 전 인원으로 판단한다
+    @Modifying
+    @Query(value = """
+            UPDATE discussion_feed
+            SET status = CASE
+                    WHEN status = 'RECRUITING' AND participant_count + 1 >= max_participant_count
+                    THEN 'RECRUIT_COMPLETE'
+                    ELSE status
+                END,
+                participant_count = participant_count + 1
+            WHERE discussion_id = :id
+            """, nativeQuery = true)
+    void increaseParticipantCount(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "UPDATE discussion_feed SET status = :status WHERE discussion_id = :id", nativeQuery = true)
+    void updateStatus(@Param("id") Long id, @Param("status") String status);
+
+    @Modifying
+    @Query(value = """
+            UPDATE discussion_feed
+            SET author_nickname = :nickname
+            WHERE author_id = :authorId
+            """, nativeQuery = true)
+    void updateAuthorNickname(@Param("authorId") Long authorId, @Param("nickname") String nickname);
+
+    @Modifying
+    @Query(value = """
+            UPDATE discussion_feed
+            SET basic_image_uri = :basicImageUri, custom_image_uri = :customImageUri
+            WHERE author_id = :authorId
+            """, nativeQuery = true)
+    void updateAuthorProfileImage(
+            @Param("authorId") Long authorId,
+            @Param("basicImageUri") String basicImageUri,
+            @Param("customImageUri") String customImageUri
+    );
+
+    @Modifying
+    @Query(value = "DELETE FROM discussion_feed WHERE discussion_id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int deleteByIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO discussion_feed (
+                discussion_id, discussion_type, title, category, status,
+                author_id, author_nickname, basic_image_uri, custom_image_uri,
+                comment_count, start_at, end_at, place, participant_count, max_participant_count, end_date,
+                created_at, modified_at
+            )
+            SELECT d.discussion_id,
+                   CASE WHEN o.discussion_id IS NOT NULL THEN 'OFFLINE' ELSE 'ONLINE' END,
+                   d.title, d.category, d.status,
+                   u.user_id,
+                   CASE WHEN u.deleted_at IS NOT NULL THEN '탈퇴한 사용자' ELSE u.nickname END,
+                   p.basic_image_uri, p.custom_image_uri,
+                   d.comment_count, o.start_at, o.end_at, o.place,
+                   COALESCE(o.participant_count, 0), COALESCE(o.max_participant_count, 0), n.end_date,
+                   d.created_at, d.modified_at
+            FROM discussions d
+            JOIN users u ON u.user_id = d.author_id
+            LEFT JOIN offline_discussions o ON o.discussion_id = d.discussion_id
+            LEFT JOIN online_discussions n ON n.discussion_id = d.discussion_id
+            LEFT JOIN profile_image p ON p.user_id = u.user_id
+            WHERE d.discussion_id BETWEEN :fromId AND :toId
+                AND d.deleted_at IS NULL
+            """, nativeQuery = true)
+    int insertFromDiscussionsBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
@@ -0,0 +1,50 @@
+package com.dialog.server.repository;
+
+import com.dialog.server.domain.DiscussionLockLease;
+import java.util.Collection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+// 만료 시각은 노드 간 시계 차이에 영향받지 않도록 모두 데이터베이스 시각으로 계산한다
+public interface DiscussionLockLeaseRepository extends JpaRepository<DiscussionLockLease, Long> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO discussion_locks (discussion_id, owner, expires_at)
+            VALUES (:discussionId, :owner, TIMESTAMPADD(SECOND, :leaseSeconds, CURRENT_TIMESTAMP))
+            """, nativeQuery = true)
+    void insert(
+            @Param("discussionId") Long discussionId,
+            @Param("owner") String owner,
+            @Param("leaseSeconds") long leaseSeconds
+    );
+
+    @Modifying
+    @Query(value = """
+            UPDATE discussion_locks
+            SET owner = :owner, expires_at = TIMESTAMPADD(SECOND, :leaseSeconds, CURRENT_TIMESTAMP)
+            WHERE discussion_id = :discussionId AND expires_at < CURRENT_TIMESTAMP
+            """, nativeQuery = true)
+    int takeOverExpired(
+            @Param("discussionId") Long discussionId,
+            @Param("owner") String owner,
+            @Param("leaseSeconds") long leaseSeconds
+    );
+
+    @Modifying
+    @Query(value = """
+            UPDATE discussion_locks
+            SET expires_at = TIMESTAMPADD(SECOND, :leaseSeconds, CURRENT_TIMESTAMP)
+            WHERE owner IN :owners
+            """, nativeQuery = true)
+    int renew(
+            @Param("owners") Collection<String> owners,
+            @Param("leaseSeconds") long leaseSeconds
+    );
+
+    @Modifying
+    @Query("DELETE FROM DiscussionLockLease l WHERE l.discussionId = :discussionId AND l.owner = :owner")
+    int release(@Param("discussionId") Long discussionId, @Param("owner") String owner);
+}
@@ -1,11 +1,19 @@
 package com.dialog.server.repository;
 
 import com.dialog.server.domain.Discussion;
+import com.dialog.server.domain.OfflineDiscussion;
 import com.dialog.server.domain.User;
+import com.dialog.server.search.DiscussionSearchDocument;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,10 +21,18 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface DiscussionRepository extends JpaRepository<Discussion, Long>, DiscussionCustomRepository {
 
+    @EntityGraph(attributePaths = {"author"})
+    Optional<Discussion> findWithAuthorById(Long id);
+
+    // 조건부 UPDATE로 참여 인원을 올리는 요청이 수정이 끝날 때까지 기다리도록 행을 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM OfflineDiscussion o WHERE o.id = :id")
+    Optional<OfflineDiscussion> findOfflineDiscussionForUpdate(@Param("id") Long id);
+
     @Query("""
             SELECT d
             FROM Discussion d
-            WHERE d.createdAt <= :cursor OR (d.createdAt = :cursor AND d.id < :id)
+            WHERE d.createdAt <= :cursor AND (d.createdAt, d.id) < (:cursor, :id)
             ORDER BY d.createdAt DESC , d.id DESC
             """)
     List<Discussion> findDiscussionsBeforeDateCursor(
@@ -43,7 +59,7 @@ public interface DiscussionRepository extends JpaRepository<Discussion, Long>, D
     @Query("""
             SELECT d
             FROM Discussion d
-            WHERE d.author = :author AND (d.createdAt <= :cursor OR (d.createdAt = :cursor AND d.id < :id))
+            WHERE d.author = :author AND d.createdAt <= :cursor AND (d.createdAt, d.id) < (:cursor, :id)
             ORDER BY d.createdAt DESC , d.id DESC
             """)
     List<Discussion> findDiscussionsByAuthorBeforeDateCursor(
@@ -53,4 +69,106 @@ public interface DiscussionRepository extends JpaRepository<Discussion, Long>, D
             Pageable pageable
     );
 
+    @Modifying
+    @Query(value = """
+            UPDATE discussions
+            SET comment_count = GREATEST(comment_count + :delta, 0)
+            WHERE discussion_id = :id
+            """, nativeQuery = true)
+    void updateCommentCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = """
+            UPDATE discussions
+            SET like_count = GREATEST(like_count + :delta, 0)
+            WHERE discussion_id = :id
+            """, nativeQuery = true)
+    void updateLikeCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = """
+            UPDATE discussions
+            SET scrap_count = GREATEST(scrap_count + :delta, 0)
+            WHERE discussion_id = :id
+            """, nativeQuery = true)
+    void updateScrapCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = """
+            UPDATE offline_discussions
+            SET participant_count = participant_count + 1
+            WHERE discussion_id = :id
+                AND participant_count < max_participant_count
+                AND start_at > :now
+            """, nativeQuery = true)
+    int increaseParticipantCount(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = """
+            UPDATE discussions
+            SET status = 'RECRUIT_COMPLETE'
+            WHERE discussion_id = :id
+                AND status = 'RECRUITING'
+                AND EXISTS (SELECT 1 FROM offline_discussions o
+                            WHERE o.discussion_id = :id AND o.participant_count >= o.max_participant_count)
+            """, nativeQuery = true)
+    int markRecruitCompleteIfFull(@Param("id") Long id);
+
+    // 두 조건을 OR로 묶으면 인덱스를 타지 못하므로, 상태 미계산 토론과 전환 시각이 지난 토론을 따로 조회한다
+    @Query("""
+            SELECT d.id
+            FROM Discussion d
+            WHERE d.status IS NULL
+            ORDER BY d.id
+            """)
+    List<Long> findStatusMissingIds(Pageable pageable);
+
+    @Query("""
+            SELECT d.id
+            FROM Discussion d
+            WHERE d.statusTransitionAt < :now
+            ORDER BY d.statusTransitionAt, d.id
+            """)
+    List<Long> findStatusTransitionDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query(value = "SELECT COALESCE(MAX(discussion_id), 0) FROM discussions", nativeQuery = true)
+    long findMaxId();
+
+    @Modifying
+    @Query(value = """
+            UPDATE discussions d
+            SET comment_count = (SELECT COUNT(*) FROM discussion_comments c
+                                 WHERE c.discussion_id = d.discussion_id AND c.deleted_at IS NULL),
+                like_count = (SELECT COUNT(*) FROM likes l WHERE l.discussion_id = d.discussion_id),
+                scrap_count = (SELECT COUNT(*) FROM scraps s WHERE s.discussion_id = d.discussion_id)
+            WHERE d.discussion_id BETWEEN :fromId AND :toId
+                AND d.deleted_at IS NULL
+            """, nativeQuery = true)
+    int reconcileCounters(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("""
+            SELECT new com.dialog.server.search.DiscussionSearchDocument(d.id, d.title, d.content, a.nickname)
+            FROM Discussion d JOIN d.author a
+            WHERE d.id > :lastId
+            ORDER BY d.id
+            """)
+    List<DiscussionSearchDocument> findSearchDocumentsAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("""
+            SELECT new com.dialog.server.search.DiscussionSearchDocument(d.id, d.title, d.content, a.nickname)
+            FROM Discussion d JOIN d.author a
+            WHERE d.id IN :ids
+            """)
+    List<DiscussionSearchDocument> findSearchDocumentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            SELECT new com.dialog.server.search.DiscussionSearchDocument(d.id, d.title, d.content, a.nickname)
+            FROM Discussion d JOIN d.author a
+            WHERE a.id IN :authorIds
+            """)
+    List<DiscussionSearchDocument> findSearchDocumentsByAuthorIdIn(@Param("authorIds") Collection<Long> authorIds);
+
+    // 삭제된 토론도 색인에서 빼야 하므로 deleted_at으로 거르지 않는다
+    @Query(value = "SELECT discussion_id FROM discussions WHERE modified_at > :since", nativeQuery = true)
+    List<Long> findIdsModifiedAfter(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,47 @@
+package com.dialog.server.repository;
+
+import com.dialog.server.domain.JobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+// 잠금 만료 시각은 노드 간 시계 차이에 영향받지 않도록 모두 데이터베이스 시각으로 계산한다
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO job_locks (name, locked_until, locked_at, locked_by, cursor_id)
+            VALUES (:name, TIMESTAMPADD(SECOND, :lockSeconds, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP, :owner, 0)
+            """, nativeQuery = true)
+    void insert(@Param("name") String name, @Param("owner") String owner, @Param("lockSeconds") long lockSeconds);
+
+    @Modifying
+    @Query(value = """
+            UPDATE job_locks
+            SET locked_until = TIMESTAMPADD(SECOND, :lockSeconds, CURRENT_TIMESTAMP),
+                locked_at = CURRENT_TIMESTAMP,
+                locked_by = :owner
+            WHERE name = :name AND locked_until <= CURRENT_TIMESTAMP
+            """, nativeQuery = true)
+    int takeOverExpired(@Param("name") String name, @Param("owner") String owner, @Param("lockSeconds") long lockSeconds);
+
+    @Modifying
+    @Query(value = """
+            UPDATE job_locks
+            SET locked_until = CURRENT_TIMESTAMP
+            WHERE name = :name AND locked_by = :owner
+            """, nativeQuery = true)
+    int release(@Param("name") String name, @Param("owner") String owner);
+
+    @Modifying
+    @Query(value = """
+            UPDATE job_locks
+            SET cursor_id = :cursorId
+            WHERE name = :name AND locked_by = :owner AND locked_until > CURRENT_TIMESTAMP
+            """, nativeQuery = true)
+    int updateCursor(@Param("name") String name, @Param("owner") String owner, @Param("cursorId") long cursorId);
+
+    @Query(value = "SELECT cursor_id FROM job_locks WHERE name = :name", nativeQuery = true)
+    Long findCursorId(@Param("name") String name);
+}
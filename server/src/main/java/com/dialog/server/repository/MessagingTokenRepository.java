@@ -4,9 +4,25 @@ import com.dialog.server.domain.MessagingToken;
 import com.dialog.server.domain.User;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MessagingTokenRepository extends JpaRepository<MessagingToken, Long> {
     List<MessagingToken> findMessagingTokensByUser(User user);
 
     List<MessagingToken> findByUserIdIn(List<Long> userIds);
+
+    @Query("""
+            SELECT t.fcmToken
+            FROM MessagingToken t
+            WHERE t.user.webPushNotification = true
+                AND t.user.id <> :authorId
+                AND t.user.deletedAt IS NULL
+            """)
+    List<String> findPushTargetTokens(@Param("authorId") Long authorId);
+
+    @Modifying
+    @Query("DELETE FROM MessagingToken t WHERE t.fcmToken IN :tokens")
+    int deleteByFcmTokenIn(@Param("tokens") List<String> tokens);
 }
@@ -0,0 +1,22 @@
+package com.dialog.server.repository;
+
+import com.dialog.server.domain.NotificationOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    List<NotificationOutbox> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("SELECT COALESCE(MAX(o.id), 0) FROM NotificationOutbox o")
+    long findMaxId();
+
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.createdAt < :createdAt")
+    int deleteCreatedBefore(@Param("createdAt") LocalDateTime createdAt);
+}
@@ -7,22 +7,62 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
-    List<Notification> findAllByReceiverAndIdGreaterThanOrderByCreatedAtAsc(User user, Long id);
-
-    Long countByReceiverAndIsReadFalse(User receiver);
+    @EntityGraph(attributePaths = {"sender"})
+    List<Notification> findAllByReceiverAndIdGreaterThanOrderByIdAsc(User user, Long id);
 
+    @EntityGraph(attributePaths = {"sender"})
     Page<Notification> findAllByReceiverOrderByCreatedAtDesc(User receiver, Pageable pageable);
 
+    @Query("""
+            SELECT n
+            FROM Notification n
+            LEFT JOIN FETCH n.sender
+            WHERE n.receiver = :receiver
+            ORDER BY n.id DESC
+            """)
+    List<Notification> findFirstPageByReceiver(Pageable pageable, @Param("receiver") User receiver);
+
+    @Query("""
+            SELECT n
+            FROM Notification n
+            LEFT JOIN FETCH n.sender
+            WHERE n.receiver = :receiver AND n.id <= :lastNotificationId
+            ORDER BY n.id DESC
+            """)
+    List<Notification> findPageByReceiver(Pageable pageable,
+                                          @Param("receiver") User receiver,
+                                          @Param("lastNotificationId") Long lastNotificationId);
+
     Optional<Notification> findByIdAndReceiver(Long notificationId, User receiver);
 
+    @Query(value = "SELECT COALESCE(MIN(notification_id), 0) FROM notifications", nativeQuery = true)
+    long findMinId();
+
+    @Query(value = "SELECT COALESCE(MAX(notification_id), 0) FROM notifications", nativeQuery = true)
+    long findMaxId();
+
+    @Query("""
+            SELECT n
+            FROM Notification n
+            WHERE n.id BETWEEN :fromId AND :toId
+              AND n.createdAt < :createdAt
+              AND (n.isRead = true OR n.id <= n.receiver.notificationReadWatermark)
+            ORDER BY n.id ASC
+            """)
+    List<Notification> findReadCreatedBefore(@Param("fromId") long fromId,
+                                             @Param("toId") long toId,
+                                             @Param("createdAt") LocalDateTime createdAt);
+
+    boolean existsByIdBetweenAndCreatedAtGreaterThanEqual(Long fromId, Long toId, LocalDateTime createdAt);
+
     @Modifying
-    @Query("UPDATE Notification n SET n.isRead = true, n.modifiedAt = :now " +
-            "WHERE n.receiver = :receiver AND n.isRead = false")
-    int bulkUpdateAsRead(@Param("receiver") User receiver, @Param("now") LocalDateTime now);
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
 }
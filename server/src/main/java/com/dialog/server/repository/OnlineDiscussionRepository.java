@@ -11,6 +11,7 @@ public interface OnlineDiscussionRepository extends JpaRepository<OnlineDiscussi
     @Query("""
             SELECT o
             FROM OnlineDiscussion o
+            JOIN FETCH o.author
             WHERE (o.summary IS NULL OR o.summary = '')
                 AND o.endDate < :date
             """)
@@ -2,9 +2,12 @@ package com.dialog.server.repository;
 
 import com.dialog.server.domain.SocialType;
 import com.dialog.server.domain.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -18,6 +21,77 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.oauthId = :oauthId AND u.socialType = :socialType AND u.deletedAt IS NULL")
     Optional<User> findByOauthIdAndSocialType(@Param("oauthId") String oauthId, @Param("socialType") SocialType socialType);
 
-@Query("SELECT u FROM User u WHERE u.webPushNotification = :webPushNotification AND u.id != :id AND u.deletedAt IS NULL")
-    List<User> findByWebPushNotificationAndIdNot(@Param("webPushNotification") boolean webPushNotification, @Param("id") Long id);
+    @Modifying
+    @Query(value = """
+            UPDATE users
+            SET unread_notification_count = GREATEST(unread_notification_count + :delta, 0)
+            WHERE user_id = :id
+            """, nativeQuery = true)
+    void updateUnreadNotificationCount(@Param("id") Long id, @Param("delta") long delta);
+
+    // 마지막으로 받은 알림 id를 같은 UPDATE 안에서 읽어, 행 잠금 사이에 커밋된 알림까지 빠짐없이 워터마크에 담는다
+    @Modifying
+    @Query(value = """
+            UPDATE users u
+            SET notification_read_watermark = GREATEST(u.notification_read_watermark, COALESCE(
+                    (SELECT MAX(n.notification_id) FROM notifications n WHERE n.receiver_id = u.user_id),
+                    0)),
+                unread_notification_count = 0
+            WHERE u.user_id = :id
+              AND (u.unread_notification_count > 0
+                   OR u.notification_read_watermark < (SELECT MAX(n.notification_id) FROM notifications n
+                                                       WHERE n.receiver_id = u.user_id))
+            """, nativeQuery = true)
+    int markAllNotificationsRead(@Param("id") Long id);
+
+    @Query(value = "SELECT unread_notification_count FROM users WHERE user_id = :id AND deleted_at IS NULL", nativeQuery = true)
+    Optional<Long> findUnreadNotificationCount(@Param("id") Long id);
+
+    @Query(value = "SELECT notification_read_watermark FROM users WHERE user_id = :id", nativeQuery = true)
+    Optional<Long> findNotificationReadWatermark(@Param("id") Long id);
+
+    // 워터마크 위의 읽지 않은 알림 수만 다시 센다
+    @Modifying
+    @Query(value = """
+            UPDATE users u
+            SET unread_notification_count = (SELECT COUNT(*) FROM notifications n
+                                             WHERE n.receiver_id = u.user_id AND n.is_read = false
+                                               AND n.notification_id > u.notification_read_watermark)
+            WHERE u.user_id BETWEEN :fromId AND :toId
+            """, nativeQuery = true)
+    int backfillUnreadNotificationCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 워터마크 위에서 읽지 않은 가장 오래된 알림 직전까지 워터마크를 올리고, 안 읽은 알림 수를 다시 센다
+    // 이미 모두 읽음 처리된 구간은 되돌리지 않으며, MySQL은 SET을 왼쪽부터 적용하므로 개수를 먼저 센다
+    @Modifying
+    @Query(value = """
+            UPDATE users u
+            SET unread_notification_count = (SELECT COUNT(*) FROM notifications n
+                                             WHERE n.receiver_id = u.user_id AND n.is_read = false
+                                               AND n.notification_id > u.notification_read_watermark),
+                notification_read_watermark = GREATEST(u.notification_read_watermark, COALESCE(
+                    (SELECT MIN(n.notification_id) - 1 FROM notifications n
+                     WHERE n.receiver_id = u.user_id AND n.is_read = false
+                       AND n.notification_id > u.notification_read_watermark),
+                    (SELECT MAX(n.notification_id) FROM notifications n
+                     WHERE n.receiver_id = u.user_id),
+                    0))
+            WHERE u.user_id BETWEEN :fromId AND :toId
+            """, nativeQuery = true)
+    int backfillNotificationReadWatermarks(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query(value = "SELECT COALESCE(MAX(user_id), 0) FROM users", nativeQuery = true)
+    long findMaxId();
+
+    @Query(value = "SELECT user_id FROM users WHERE modified_at > :since", nativeQuery = true)
+    List<Long> findIdsModifiedAfter(@Param("since") LocalDateTime since);
+
+    // 탈퇴한 사용자도 작성자로 표시해야 하므로 deletedAt으로 거르지 않는다
+    @Query("""
+            SELECT u, p
+            FROM User u
+            LEFT JOIN ProfileImage p ON p.user = u
+            WHERE u.id IN :ids
+            """)
+    List<Object[]> findAllWithProfileImageByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,46 @@
+package com.dialog.server.search;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 한글처럼 띄어쓰기만으로 단어를 나눌 수 없는 텍스트를 위해 단어 안의 인접한 두 글자(bigram)를 토큰으로 사용한다.
+ */
+public final class BigramTokenizer {
+
+    private static final Pattern WORD_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int GRAM_SIZE = 2;
+
+    private BigramTokenizer() {
+    }
+
+    public static Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String word : WORD_DELIMITER.split(text.toLowerCase(Locale.ROOT))) {
+            for (int i = 0; i + GRAM_SIZE <= word.length(); i++) {
+                tokens.add(word.substring(i, i + GRAM_SIZE));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 한 글자 단어는 bigram으로 찾을 수 없으므로, 그런 단어가 섞인 검색어는 빈 집합을 돌려 색인을 쓰지 않게 한다.
+     */
+    public static Set<String> tokenizeQuery(String query) {
+        if (query == null || query.isBlank()) {
+            return Set.of();
+        }
+        for (String word : WORD_DELIMITER.split(query.trim().toLowerCase(Locale.ROOT))) {
+            if (word.length() == 1) {
+                return Set.of();
+            }
+        }
+        return tokenize(query);
+    }
+}
@@ -0,0 +1,9 @@
+package com.dialog.server.search;
+
+public record DiscussionSearchDocument(
+        Long id,
+        String title,
+        String content,
+        String authorNickname
+) {
+}
@@ -0,0 +1,14 @@
+package com.dialog.server.search;
+
+import com.dialog.server.dto.request.SearchType;
+import java.util.List;
+import java.util.Optional;
+
+public interface DiscussionSearchIndex {
+
+    /**
+     * 검색어를 포함할 수 있는 토론 id를 내림차순으로 돌려준다.
+     * 색인으로 처리할 수 없는 검색이면 빈 Optional을 돌려주고, 호출 측은 데이터베이스 검색을 사용한다.
+     */
+    Optional<List<Long>> findCandidateIds(SearchType searchType, String query);
+}
@@ -0,0 +1,180 @@
+package com.dialog.server.search;
+
+import com.dialog.server.dto.request.SearchType;
+import com.dialog.server.event.DiscussionCreatedEvent;
+import com.dialog.server.event.DiscussionDeletedEvent;
+import com.dialog.server.event.DiscussionUpdatedEvent;
+import com.dialog.server.event.UserUpdatedEvent;
+import com.dialog.server.repository.DiscussionRepository;
+import com.dialog.server.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 토론 제목/내용과 작성자 닉네임을 메모리 역색인으로 유지한다.
+ * 기동 시 전체를 색인하고, 이 노드의 변경은 커밋 이벤트로 바로, 다른 노드의 변경은 modified_at을 주기적으로 조회해 반영한다.
+ * 색인 쓰기는 모두 한 잠금 안에서 DB를 읽은 뒤 반영하므로, 먼저 읽은 스냅샷이 나중에 읽은 내용을 덮어쓰지 않는다.
+ * 마지막 동기화가 max-lag보다 오래되면 후보를 내지 않아 데이터베이스 검색으로 대신한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "search.index.type", havingValue = "inverted")
+public class InvertedDiscussionSearchIndex implements DiscussionSearchIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final DiscussionRepository discussionRepository;
+    private final UserRepository userRepository;
+    private final InvertedIndex titleOrContentIndex = new InvertedIndex();
+    private final InvertedIndex authorNicknameIndex = new InvertedIndex();
+    private final Object writeLock = new Object();
+    private final Duration syncOverlap;
+    private final Duration maxLag;
+    private volatile boolean ready;
+    private volatile long lastSyncedNanos;
+    private LocalDateTime syncedSince;
+
+    public InvertedDiscussionSearchIndex(
+            DiscussionRepository discussionRepository,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${search.index.sync-overlap:1m}") Duration syncOverlap,
+            @Value("${search.index.max-lag:30s}") Duration maxLag
+    ) {
+        this.discussionRepository = discussionRepository;
+        this.userRepository = userRepository;
+        this.syncOverlap = syncOverlap;
+        this.maxLag = maxLag;
+        Gauge.builder("search.index.documents", titleOrContentIndex, InvertedIndex::documentCount)
+                .description("검색 색인에 올라간 토론 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime rebuildStartedAt = LocalDateTime.now();
+        long lastId = 0L;
+        List<DiscussionSearchDocument> documents;
+        do {
+            synchronized (writeLock) {
+                documents = discussionRepository.findSearchDocumentsAfterId(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                documents.forEach(this::index);
+            }
+            if (!documents.isEmpty()) {
+                lastId = documents.getLast().id();
+            }
+        } while (documents.size() == REBUILD_BATCH_SIZE);
+        synchronized (writeLock) {
+            syncedSince = rebuildStartedAt;
+        }
+        lastSyncedNanos = System.nanoTime();
+        ready = true;
+        log.info("Discussion search index built with {} documents", titleOrContentIndex.documentCount());
+    }
+
+    /**
+     * 다른 노드에서 수정/삭제된 토론과 닉네임이 바뀐 작성자의 토론을 다시 색인한다.
+     * 작성 노드와의 시계 차이를 흡수하도록 마지막 조회 시각보다 sync-overlap만큼 앞에서부터 읽는다.
+     */
+    @Scheduled(fixedDelayString = "${search.index.sync-interval:5s}")
+    public void syncModified() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime syncStartedAt = LocalDateTime.now();
+        synchronized (writeLock) {
+            LocalDateTime since = syncedSince.minus(syncOverlap);
+            reindex(discussionRepository.findIdsModifiedAfter(since));
+            List<Long> authorIds = userRepository.findIdsModifiedAfter(since);
+            if (!authorIds.isEmpty()) {
+                discussionRepository.findSearchDocumentsByAuthorIdIn(authorIds).forEach(this::index);
+            }
+            syncedSince = syncStartedAt;
+        }
+        lastSyncedNanos = System.nanoTime();
+    }
+
+    @Override
+    public Optional<List<Long>> findCandidateIds(SearchType searchType, String query) {
+        if (!ready || System.nanoTime() - lastSyncedNanos > maxLag.toNanos()) {
+            return Optional.empty();
+        }
+        Set<String> tokens = BigramTokenizer.tokenizeQuery(query);
+        if (tokens.isEmpty()) {
+            return Optional.empty();
+        }
+        InvertedIndex index = searchType == SearchType.AUTHOR_NICKNAME ? authorNicknameIndex : titleOrContentIndex;
+        int[] ids = index.search(tokens);
+        List<Long> candidateIds = new ArrayList<>(ids.length);
+        for (int i = ids.length - 1; i >= 0; i--) {
+            candidateIds.add((long) ids[i]);
+        }
+        return Optional.of(candidateIds);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleDiscussionCreated(DiscussionCreatedEvent event) {
+        reindex(List.of(event.getDiscussionId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleDiscussionUpdated(DiscussionUpdatedEvent event) {
+        reindex(List.of(event.getDiscussionId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleDiscussionDeleted(DiscussionDeletedEvent event) {
+        reindex(List.of(event.getDiscussionId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleUserUpdated(UserUpdatedEvent event) {
+        synchronized (writeLock) {
+            discussionRepository.findSearchDocumentsByAuthorIdIn(List.of(event.getUserId())).forEach(this::index);
+        }
+    }
+
+    // 조회되지 않는 id는 삭제된 토론이므로 색인에서 뺀다
+    private void reindex(List<Long> discussionIds) {
+        if (discussionIds.isEmpty()) {
+            return;
+        }
+        synchronized (writeLock) {
+            Set<Long> removedIds = new HashSet<>(discussionIds);
+            for (DiscussionSearchDocument document : discussionRepository.findSearchDocumentsByIdIn(discussionIds)) {
+                index(document);
+                removedIds.remove(document.id());
+            }
+            removedIds.forEach(this::remove);
+        }
+    }
+
+    private void index(DiscussionSearchDocument document) {
+        int documentId = Math.toIntExact(document.id());
+        titleOrContentIndex.index(documentId, document.title() + " " + document.content());
+        authorNicknameIndex.index(documentId, document.authorNickname());
+    }
+
+    private void remove(Long discussionId) {
+        int documentId = Math.toIntExact(discussionId);
+        titleOrContentIndex.remove(documentId);
+        authorNicknameIndex.remove(documentId);
+    }
+}
@@ -0,0 +1,86 @@
+package com.dialog.server.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * bigram 토큰 → 문서 id 목록 색인. 문서를 다시 색인하거나 지울 수 있도록 문서별 토큰도 함께 보관한다.
+ */
+final class InvertedIndex {
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Integer, String[]> documentTokens = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void index(int documentId, String text) {
+        Set<String> tokens = BigramTokenizer.tokenize(text);
+        lock.writeLock().lock();
+        try {
+            removeDocument(documentId);
+            for (String token : tokens) {
+                postings.computeIfAbsent(token, key -> new PostingList()).add(documentId);
+            }
+            documentTokens.put(documentId, tokens.toArray(String[]::new));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(int documentId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(documentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 토큰을 포함하는 문서 id를 오름차순으로 돌려준다.
+     * bigram이 모두 있어도 원문이 연속으로 포함됐다는 보장은 없으므로 결과는 후보로만 사용해야 한다.
+     */
+    int[] search(Set<String> tokens) {
+        lock.readLock().lock();
+        try {
+            List<PostingList> postingLists = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                PostingList postingList = postings.get(token);
+                if (postingList == null) {
+                    return new int[0];
+                }
+                postingLists.add(postingList);
+            }
+            return PostingList.intersect(postingLists);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documentTokens.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeDocument(int documentId) {
+        String[] tokens = documentTokens.remove(documentId);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            PostingList postingList = postings.get(token);
+            postingList.remove(documentId);
+            if (postingList.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+}
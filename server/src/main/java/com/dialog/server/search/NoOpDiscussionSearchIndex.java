@@ -0,0 +1,17 @@
+package com.dialog.server.search;
+
+import com.dialog.server.dto.request.SearchType;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "search.index.type", havingValue = "none", matchIfMissing = true)
+public class NoOpDiscussionSearchIndex implements DiscussionSearchIndex {
+
+    @Override
+    public Optional<List<Long>> findCandidateIds(SearchType searchType, String query) {
+        return Optional.empty();
+    }
+}
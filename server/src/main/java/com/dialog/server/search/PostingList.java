@@ -0,0 +1,92 @@
+package com.dialog.server.search;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 토큰이 등장한 문서 id를 오름차순 int 배열로 보관한다.
+ * 토론 id는 증가하며 발급되므로 대부분의 추가는 배열 끝에 붙는다.
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int size;
+
+    void add(int id) {
+        if (size == 0 || ids[size - 1] < id) {
+            ensureCapacity();
+            ids[size++] = id;
+            return;
+        }
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return;
+        }
+        int insertionPoint = -index - 1;
+        ensureCapacity();
+        System.arraycopy(ids, insertionPoint, ids, insertionPoint + 1, size - insertionPoint);
+        ids[insertionPoint] = id;
+        size++;
+    }
+
+    void remove(int id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+    }
+
+    boolean contains(int id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 가장 짧은 목록을 기준으로 나머지 목록을 이진 탐색해 교집합을 구한다. 결과는 오름차순이다.
+     */
+    static int[] intersect(List<PostingList> postingLists) {
+        if (postingLists.isEmpty()) {
+            return new int[0];
+        }
+        List<PostingList> sorted = postingLists.stream()
+                .sorted(Comparator.comparingInt(PostingList::size))
+                .toList();
+        PostingList smallest = sorted.getFirst();
+        int[] result = new int[smallest.size];
+        int count = 0;
+        for (int i = 0; i < smallest.size; i++) {
+            int id = smallest.ids[i];
+            if (containedInAll(sorted, id)) {
+                result[count++] = id;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static boolean containedInAll(List<PostingList> postingLists, int id) {
+        for (int i = 1; i < postingLists.size(); i++) {
+            if (!postingLists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.dialog.server.service;
+
+import com.dialog.server.domain.User;
+import com.dialog.server.event.UserUpdatedEvent;
+import com.dialog.server.exception.DialogException;
+import com.dialog.server.exception.ErrorCode;
+import com.dialog.server.repository.UserRepository;
+import com.dialog.server.util.TtlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증된 사용자 id를 탈퇴하지 않은 사용자로 확인한다.
+ * 최근에 확인한 id는 데이터베이스를 다시 조회하지 않고 프록시 참조를 돌려주므로,
+ * 연관관계 설정이나 id 비교에만 쓰는 곳에서 요청마다 반복되던 사용자 조회가 사라진다.
+ * 탈퇴와 정보 변경 시 해당 id만 비우고, 다른 노드의 탈퇴는 TTL이 지나면 다시 확인한다.
+ */
+@Component
+public class AuthenticatedUserReader {
+
+    private final UserRepository userRepository;
+    private final TtlCache<Long, Boolean> verifiedUsers;
+    private final boolean enabled;
+
+    public AuthenticatedUserReader(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${user.active-cache.enabled:false}") boolean enabled,
+            @Value("${user.active-cache.ttl:30s}") Duration ttl,
+            @Value("${user.active-cache.max-size:10000}") int maxSize
+    ) {
+        this.userRepository = userRepository;
+        this.verifiedUsers = new TtlCache<>(meterRegistry, "authenticated.user.cache", "확인된 사용자", ttl, maxSize);
+        this.enabled = enabled;
+    }
+
+    /**
+     * 캐시에서 찾은 경우 초기화되지 않은 프록시를 돌려준다.
+     * 트랜잭션 밖에서 id 외의 필드를 읽거나 비동기 처리로 넘길 엔티티가 필요하면 UserRepository로 직접 조회한다.
+     */
+    public User getActiveUser(Long userId) {
+        if (!enabled) {
+            return findActiveUser(userId);
+        }
+        AtomicReference<User> loadedUser = new AtomicReference<>();
+        verifiedUsers.get(userId, id -> {
+            loadedUser.set(findActiveUser(id));
+            return Boolean.TRUE;
+        });
+        User user = loadedUser.get();
+        return user != null ? user : userRepository.getReferenceById(userId);
+    }
+
+    public void invalidate(Long userId) {
+        verifiedUsers.invalidate(userId);
+    }
+
+    @EventListener
+    public void handleUserUpdated(UserUpdatedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    private User findActiveUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new DialogException(ErrorCode.USER_NOT_FOUND));
+    }
+}
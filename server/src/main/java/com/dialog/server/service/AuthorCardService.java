@@ -0,0 +1,89 @@
+package com.dialog.server.service;
+
+import com.dialog.server.domain.AuthorCard;
+import com.dialog.server.domain.ProfileImage;
+import com.dialog.server.domain.User;
+import com.dialog.server.event.ProfileImageChangedEvent;
+import com.dialog.server.event.UserUpdatedEvent;
+import com.dialog.server.repository.UserRepository;
+import com.dialog.server.util.TtlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 토론/스크랩/댓글 목록이 함께 쓰는 작성자 카드(닉네임, 프로필 이미지, 탈퇴 여부)를 사용자 id별로 메모리에 캐싱한다.
+ * 여러 id를 한 번에 조회하면 캐시에 없는 id만 한 번의 쿼리로 읽는다.
+ * 닉네임/프로필 이미지 변경과 탈퇴 시 해당 사용자만 비우고, 다른 노드의 변경은 TTL이 지나면 다시 읽는다.
+ */
+@Service
+public class AuthorCardService {
+
+    private static final int USER_INDEX = 0;
+    private static final int PROFILE_IMAGE_INDEX = 1;
+
+    private final UserRepository userRepository;
+    private final TtlCache<Long, AuthorCard> cache;
+
+    public AuthorCardService(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${author-card.cache-ttl:10m}") Duration ttl,
+            @Value("${author-card.cache-max-size:10000}") int maxSize
+    ) {
+        this.userRepository = userRepository;
+        this.cache = new TtlCache<>(meterRegistry, "author.card.cache", "작성자 카드", ttl, maxSize);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, AuthorCard> getAll(Collection<Long> userIds) {
+        return cache.getAll(userIds, this::load);
+    }
+
+    /**
+     * 목록 항목마다 작성자를 꺼내 작성자 카드를 한 번에 조회한다. 작성자 프록시는 id만 읽으므로 초기화되지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public <T> Map<Long, AuthorCard> getAuthorCards(Collection<T> items, Function<T, User> authorGetter) {
+        Set<Long> authorIds = items.stream()
+                .map(item -> authorGetter.apply(item).getId())
+                .collect(Collectors.toSet());
+        return getAll(authorIds);
+    }
+
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @EventListener
+    public void handleUserUpdated(UserUpdatedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    @EventListener
+    public void handleProfileImageChanged(ProfileImageChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    private Map<Long, AuthorCard> load(Collection<Long> userIds) {
+        Map<Long, AuthorCard> authorCards = new HashMap<>();
+        for (Object[] row : userRepository.findAllWithProfileImageByIdIn(userIds)) {
+            AuthorCard authorCard = AuthorCard.of((User) row[USER_INDEX], (ProfileImage) row[PROFILE_IMAGE_INDEX]);
+            authorCards.put(authorCard.userId(), authorCard);
+        }
+        return authorCards;
+    }
+}
@@ -7,7 +7,6 @@ import com.dialog.server.exception.DialogException;
 import com.dialog.server.exception.ErrorCode;
 import com.dialog.server.repository.CommentLikeRepository;
 import com.dialog.server.repository.DiscussionCommentRepository;
-import com.dialog.server.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,13 +16,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommentLikeService {
 
     private final CommentLikeRepository commentLikeRepository;
-    private final UserRepository userRepository;
+    private final AuthenticatedUserReader authenticatedUserReader;
     private final DiscussionCommentRepository discussionCommentRepository;
 
     @Transactional
     public void create(Long userId, Long commentId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new DialogException(ErrorCode.USER_NOT_FOUND));
+        User user = authenticatedUserReader.getActiveUser(userId);
         DiscussionComment comment = discussionCommentRepository.findById(commentId)
                 .orElseThrow(() -> new DialogException(ErrorCode.COMMENT_NOT_FOUND));
 
@@ -40,8 +38,7 @@ public class CommentLikeService {
 
     @Transactional
     public void delete(Long userId, Long commentId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new DialogException(ErrorCode.USER_NOT_FOUND));
+        User user = authenticatedUserReader.getActiveUser(userId);
         DiscussionComment comment = discussionCommentRepository.findById(commentId)
                 .orElseThrow(() -> new DialogException(ErrorCode.COMMENT_NOT_FOUND));
 
@@ -0,0 +1,66 @@
+package com.dialog.server.service;
+
+import com.dialog.server.domain.Discussion;
+import com.dialog.server.domain.DiscussionParticipant;
+import com.dialog.server.domain.OfflineDiscussion;
+import com.dialog.server.domain.User;
+import com.dialog.server.event.DiscussionParticipatedEvent;
+import com.dialog.server.exception.DialogException;
+import com.dialog.server.exception.ErrorCode;
+import com.dialog.server.repository.DiscussionParticipantRepository;
+import com.dialog.server.repository.DiscussionRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 애플리케이션 락 없이 조건부 UPDATE 한 번으로 참여 인원을 증가시킨다.
+ * 정원과 시작 시각 검증은 UPDATE의 WHERE 절이, 중복 참여 검증은 (discussion_id, participant_id) 유니크 제약이 담당한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "participation.strategy", havingValue = "conditional-update")
+public class ConditionalUpdateDiscussionParticipationExecutor implements DiscussionParticipationExecutor {
+
+    private final DiscussionRepository discussionRepository;
+    private final DiscussionParticipantRepository discussionParticipantRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public void execute(User participant, Long discussionId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (discussionRepository.increaseParticipantCount(discussionId, now) == 0) {
+            throw resolveRejection(discussionId, now);
+        }
+        discussionRepository.markRecruitCompleteIfFull(discussionId);
+
+        Discussion discussion = discussionRepository.getReferenceById(discussionId);
+        DiscussionParticipant discussionParticipant = DiscussionParticipant.builder()
+                .participant(participant)
+                .discussion(discussion)
+                .build();
+        try {
+            discussionParticipantRepository.saveAndFlush(discussionParticipant);
+        } catch (DataIntegrityViolationException e) {
+            throw new DialogException(ErrorCode.ALREADY_PARTICIPATION_DISCUSSION);
+        }
+        eventPublisher.publishEvent(new DiscussionParticipatedEvent(discussionId));
+    }
+
+    private DialogException resolveRejection(Long discussionId, LocalDateTime now) {
+        Discussion discussion = discussionRepository.findById(discussionId)
+                .orElseThrow(() -> new DialogException(ErrorCode.NOT_FOUND_DISCUSSION));
+        if (!(discussion instanceof OfflineDiscussion offlineDiscussion)) {
+            return new DialogException(ErrorCode.NOT_OFFLINE_DISCUSSION);
+        }
+        if (!offlineDiscussion.getStartAt().isAfter(now)) {
+            return new DialogException(ErrorCode.DISCUSSION_ALREADY_STARTED);
+        }
+        return new DialogException(ErrorCode.PARTICIPATION_LIMIT_EXCEEDED);
+    }
+}
@@ -1,33 +1,39 @@
 package com.dialog.server.service;
 
+import com.dialog.server.domain.AuthorCard;
 import com.dialog.server.domain.CommentReplyRouteParams;
 import com.dialog.server.domain.Discussion;
 import com.dialog.server.domain.DiscussionComment;
 import com.dialog.server.domain.DiscussionCommentRouteParams;
 import com.dialog.server.domain.NotificationType;
-import com.dialog.server.domain.ProfileImage;
 import com.dialog.server.domain.RouteParams;
 import com.dialog.server.domain.User;
 import com.dialog.server.dto.comment.CommentLikeCountDto;
+import com.dialog.server.dto.comment.CommentReplyCountDto;
 import com.dialog.server.dto.comment.request.DiscussionCommentCreateRequest;
+import com.dialog.server.dto.comment.request.DiscussionCommentCursorPageRequest;
 import com.dialog.server.dto.comment.response.DiscussionCommentCreateResponse;
+import com.dialog.server.dto.comment.response.DiscussionCommentCursorPageResponse;
+import com.dialog.server.dto.comment.response.DiscussionCommentCursorPageResponse.CommentResponse;
 import com.dialog.server.dto.comment.response.DiscussionCommentListResponse;
 import com.dialog.server.dto.comment.response.DiscussionCommentListResponse.DiscussionCommentResponse;
+import com.dialog.server.event.DiscussionCommentCountChangedEvent;
 import com.dialog.server.exception.DialogException;
 import com.dialog.server.exception.ErrorCode;
 import com.dialog.server.repository.CommentLikeRepository;
 import com.dialog.server.repository.DiscussionCommentRepository;
 import com.dialog.server.repository.DiscussionRepository;
-import com.dialog.server.repository.ProfileImageRepository;
 import com.dialog.server.repository.UserRepository;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,15 +45,18 @@ public class DiscussionCommentService {
     private final DiscussionCommentRepository discussionCommentRepository;
     private final DiscussionRepository discussionRepository;
     private final UserRepository userRepository;
-    private final ProfileImageRepository profileImageRepository;
+    private final AuthenticatedUserReader authenticatedUserReader;
+    private final AuthorCardService authorCardService;
     private final NotificationService notificationService;
     private final CommentLikeRepository commentLikeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public DiscussionCommentCreateResponse createComment(DiscussionCommentCreateRequest request, Long authorId) {
         Discussion discussion = discussionRepository.findById(request.discussionId())
                 .orElseThrow(() -> new DialogException(ErrorCode.NOT_FOUND_DISCUSSION));
 
+        // 알림은 커밋 후 트랜잭션 밖에서 작성자 닉네임을 읽으므로 프록시가 아닌 엔티티로 조회한다
         User author = userRepository.findById(authorId)
                 .orElseThrow(() -> new DialogException(ErrorCode.USER_NOT_FOUND));
 
@@ -69,6 +78,8 @@ public class DiscussionCommentService {
                 .build();
 
         DiscussionComment savedComment = discussionCommentRepository.save(comment);
+        discussionRepository.updateCommentCount(discussion.getId(), 1);
+        eventPublisher.publishEvent(new DiscussionCommentCountChangedEvent(discussion.getId(), 1));
 
         if (parentComment != null && parentComment.isNotAuthor(authorId)) {
             RouteParams routeParams = new CommentReplyRouteParams(
@@ -108,26 +119,19 @@ public class DiscussionCommentService {
                 .toList();
         Map<Long, List<DiscussionComment>> childCommentsByParentId = groupChildCommentsByParentId(discussionComments);
 
-        final Map<User, ProfileImage> authorProfileImages = getAuthorProfileImages(discussionComments);
+        final Map<Long, AuthorCard> authorCards = authorCardService.getAuthorCards(
+                discussionComments, DiscussionComment::getAuthor
+        );
 
         List<Long> commentIds = discussionComments.stream().map(DiscussionComment::getId).toList();
-        Map<Long, Long> likeCountByCommentId = commentLikeRepository.countByCommentIdIn(commentIds).stream()
-                .collect(Collectors.toMap(CommentLikeCountDto::commentId, CommentLikeCountDto::likeCount));
-
-        Set<Long> likedCommentIds;
-        if (userId != null) {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new DialogException(ErrorCode.USER_NOT_FOUND));
-            likedCommentIds = Set.copyOf(commentLikeRepository.findLikedCommentIdsByUserAndCommentIdIn(user, commentIds));
-        } else {
-            likedCommentIds = Collections.emptySet();
-        }
+        Map<Long, Long> likeCountByCommentId = getLikeCounts(commentIds);
+        Set<Long> likedCommentIds = getLikedCommentIds(userId, commentIds);
 
         List<DiscussionCommentResponse> parentCommentResponses = parentComments.stream()
                 .map(parentComment -> DiscussionCommentResponse.withChildren(
                         parentComment,
                         childCommentsByParentId.getOrDefault(parentComment.getId(), List.of()),
-                        authorProfileImages,
+                        authorCards,
                         likeCountByCommentId,
                         likedCommentIds
                 ))
@@ -135,6 +139,104 @@ public class DiscussionCommentService {
         return new DiscussionCommentListResponse(parentCommentResponses);
     }
 
+    @Transactional(readOnly = true)
+    public DiscussionCommentCursorPageResponse getCommentPage(
+            Long discussionId,
+            DiscussionCommentCursorPageRequest request,
+            Long userId
+    ) {
+        if (!discussionRepository.existsById(discussionId)) {
+            throw new DialogException(ErrorCode.NOT_FOUND_DISCUSSION);
+        }
+
+        PageRequest pageRequest = PageRequest.of(0, request.size() + 1);
+        List<DiscussionComment> parentComments;
+        if (request.lastCursorId() == null) {
+            parentComments = discussionCommentRepository.findFirstPageParentComments(pageRequest, discussionId);
+        } else {
+            parentComments = discussionCommentRepository.findParentComments(
+                    pageRequest, discussionId, request.lastCursorId()
+            );
+        }
+        return createCursorResponse(parentComments, request.size(), userId, true);
+    }
+
+    @Transactional(readOnly = true)
+    public DiscussionCommentCursorPageResponse getReplyPage(
+            Long parentCommentId,
+            DiscussionCommentCursorPageRequest request,
+            Long userId
+    ) {
+        if (!discussionCommentRepository.existsById(parentCommentId)) {
+            throw new DialogException(ErrorCode.COMMENT_NOT_FOUND);
+        }
+
+        PageRequest pageRequest = PageRequest.of(0, request.size() + 1);
+        List<DiscussionComment> replies;
+        if (request.lastCursorId() == null) {
+            replies = discussionCommentRepository.findFirstPageReplies(pageRequest, parentCommentId);
+        } else {
+            replies = discussionCommentRepository.findReplies(pageRequest, parentCommentId, request.lastCursorId());
+        }
+        return createCursorResponse(replies, request.size(), userId, false);
+    }
+
+    // 답글 수, 작성자, 좋아요는 응답에 담길 페이지의 댓글만 조회한다
+    private DiscussionCommentCursorPageResponse createCursorResponse(
+            List<DiscussionComment> comments,
+            int pageSize,
+            Long userId,
+            boolean countReplies
+    ) {
+        boolean hasNext = comments.size() > pageSize;
+        Long nextCursorId = null;
+        List<DiscussionComment> pagingComments = comments;
+        if (hasNext) {
+            nextCursorId = comments.getLast().getId();
+            pagingComments = comments.subList(0, pageSize);
+        }
+        if (pagingComments.isEmpty()) {
+            return new DiscussionCommentCursorPageResponse(List.of(), null, false, pageSize);
+        }
+
+        List<Long> commentIds = pagingComments.stream().map(DiscussionComment::getId).toList();
+        Map<Long, Long> replyCountByCommentId = countReplies ? getReplyCounts(commentIds) : Map.of();
+        Map<Long, AuthorCard> authorCards = authorCardService.getAuthorCards(
+                pagingComments, DiscussionComment::getAuthor
+        );
+        Map<Long, Long> likeCountByCommentId = getLikeCounts(commentIds);
+        Set<Long> likedCommentIds = getLikedCommentIds(userId, commentIds);
+
+        List<CommentResponse> commentResponses = pagingComments.stream()
+                .map(comment -> CommentResponse.of(
+                        comment,
+                        authorCards.get(comment.getAuthor().getId()),
+                        replyCountByCommentId.getOrDefault(comment.getId(), 0L),
+                        likeCountByCommentId.getOrDefault(comment.getId(), 0L),
+                        likedCommentIds.contains(comment.getId())
+                ))
+                .toList();
+        return new DiscussionCommentCursorPageResponse(commentResponses, nextCursorId, hasNext, pageSize);
+    }
+
+    private Map<Long, Long> getReplyCounts(List<Long> parentCommentIds) {
+        return discussionCommentRepository.countRepliesByParentCommentIdIn(parentCommentIds).stream()
+                .collect(Collectors.toMap(CommentReplyCountDto::parentCommentId, CommentReplyCountDto::replyCount));
+    }
+
+    private Map<Long, Long> getLikeCounts(List<Long> commentIds) {
+        return commentLikeRepository.countByCommentIdIn(commentIds).stream()
+                .collect(Collectors.toMap(CommentLikeCountDto::commentId, CommentLikeCountDto::likeCount));
+    }
+
+    private Set<Long> getLikedCommentIds(Long userId, List<Long> commentIds) {
+        if (userId == null) {
+            return Collections.emptySet();
+        }
+        User user = authenticatedUserReader.getActiveUser(userId);
+        return Set.copyOf(commentLikeRepository.findLikedCommentIdsByUserAndCommentIdIn(user, commentIds));
+    }
+
     private Map<Long, List<DiscussionComment>> groupChildCommentsByParentId(List<DiscussionComment> allComments) {
         return allComments.stream()
                 .filter(DiscussionComment::hasParent)
@@ -143,24 +245,33 @@ public class DiscussionCommentService {
                 ));
     }
 
-    private Map<User, ProfileImage> getAuthorProfileImages(List<DiscussionComment> discussionComments) {
-        List<User> discussionAuthors = discussionComments.stream().map(DiscussionComment::getAuthor).toList();
-        List<ProfileImage> discussionCommentAuthorProfileImages = profileImageRepository.findAllByUserIn(
-                discussionAuthors);
-        return discussionCommentAuthorProfileImages.stream()
-                .collect(Collectors.toMap(ProfileImage::getUser, Function.identity()));
-    }
-
+    /**
+     * 최상위 댓글을 id 순으로 lastCommentId 다음부터 size개 읽고, 각 댓글의 답글을 작성자와 함께 묶어 돌려준다.
+     * 토론 전체 댓글을 한 번에 메모리에 올리지 않도록 요약처럼 모든 댓글을 훑는 작업은 이 메서드로 나눠 읽는다.
+     */
     @Transactional(readOnly = true)
-    public Map<DiscussionComment, List<DiscussionComment>> getDiscussionCommentAndReply(Discussion discussion) {
-        List<DiscussionComment> allComments = discussionCommentRepository.findByDiscussion(discussion);
+    public Map<DiscussionComment, List<DiscussionComment>> getDiscussionCommentAndReply(
+            Long discussionId,
+            Long lastCommentId,
+            int size
+    ) {
+        List<DiscussionComment> parentComments = discussionCommentRepository.findParentCommentsWithAuthorAfter(
+                PageRequest.of(0, size), discussionId, lastCommentId
+        );
+        if (parentComments.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> parentCommentIds = parentComments.stream().map(DiscussionComment::getId).toList();
+        Map<Long, List<DiscussionComment>> childCommentsByParentId = groupChildCommentsByParentId(
+                discussionCommentRepository.findRepliesWithAuthorByParentCommentIdIn(parentCommentIds)
+        );
 
-        return allComments.stream()
-                .filter(comment -> !comment.hasParent())
-                .collect(Collectors.toMap(
-                        comment -> comment,
-                        discussionCommentRepository::findByParentDiscussionComment
-                ));
+        Map<DiscussionComment, List<DiscussionComment>> commentAndReply = new LinkedHashMap<>();
+        parentComments.forEach(parentComment -> commentAndReply.put(
+                parentComment,
+                childCommentsByParentId.getOrDefault(parentComment.getId(), List.of())
+        ));
+        return commentAndReply;
     }
 
     @Transactional
@@ -188,5 +299,8 @@ public class DiscussionCommentService {
 
         discussionCommentRepository.deleteAll(replies);
         discussionCommentRepository.delete(comment);
+        long delta = -(replies.size() + 1L);
+        discussionRepository.updateCommentCount(comment.getDiscussion().getId(), delta);
+        eventPublisher.publishEvent(new DiscussionCommentCountChangedEvent(comment.getDiscussion().getId(), delta));
     }
 }
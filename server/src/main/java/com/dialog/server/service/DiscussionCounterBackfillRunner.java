@@ -0,0 +1,25 @@
+package com.dialog.server.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * discussion.counter.backfill=true로 기동하면 토론의 좋아요/댓글/스크랩 카운터를 원본 테이블에서 한 번 다시 계산한다.
+ * 새벽 보정 작업과 같은 잠금을 잡으므로 여러 노드가 함께 기동해도 동시에 다시 계산하지 않는다.
+ * 카운터 컬럼이 추가된 기존 토론은 0으로 시작하므로, 새벽 보정 작업을 기다리지 않고 배포 직후 바로 맞춘다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "discussion.counter.backfill", havingValue = "true")
+class DiscussionCounterBackfillRunner implements ApplicationRunner {
+
+    private final DiscussionCounterReconciliationScheduler discussionCounterReconciliationScheduler;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        discussionCounterReconciliationScheduler.reconcileOnLockedNode();
+    }
+}
@@ -0,0 +1,94 @@
+package com.dialog.server.service;
+
+import com.dialog.server.lock.JobLockManager;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매일 새벽 토론의 좋아요/댓글/스크랩 카운터를 원본 테이블에서 다시 계산한다.
+ * 여러 노드 중 job_locks 잠금을 잡은 한 노드만 실행한다.
+ */
+@Slf4j
+@Component
+class DiscussionCounterReconciliationScheduler {
+
+    private static final String JOB_NAME = "discussion-counter-reconciliation";
+    private static final long BATCH_SIZE = 1_000L;
+
+    private final DiscussionService discussionService;
+    private final JobLockManager jobLockManager;
+    private final Duration lockAtMostFor;
+    private final ThreadPoolExecutor executor;
+
+    DiscussionCounterReconciliationScheduler(
+            DiscussionService discussionService,
+            JobLockManager jobLockManager,
+            @Value("${discussion.counter.lock-at-most-for:1h}") Duration lockAtMostFor
+    ) {
+        this.discussionService = discussionService;
+        this.jobLockManager = jobLockManager;
+        this.lockAtMostFor = lockAtMostFor;
+        // 이전 실행이 아직 돌고 있으면 대기열에 쌓지 않고 건너뛴다
+        this.executor = new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(),
+                new CustomizableThreadFactory("discussion-counter-reconciliation-")
+        );
+    }
+
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void reconcileDiscussionCounters() {
+        try {
+            executor.execute(this::reconcileOnLockedNode);
+        } catch (RejectedExecutionException e) {
+            log.warn("이전 토론 카운터 보정이 아직 실행 중이어서 건너뜀");
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void reconcileOnLockedNode() {
+        if (!jobLockManager.tryLock(JOB_NAME, lockAtMostFor)) {
+            log.info("다른 노드가 토론 카운터 보정을 실행 중이어서 건너뜀");
+            return;
+        }
+        try {
+            reconcile();
+        } finally {
+            jobLockManager.unlock(JOB_NAME);
+        }
+    }
+
+    private void reconcile() {
+        long maxDiscussionId = discussionService.getMaxDiscussionId();
+
+        log.info("토론 카운터 보정 시작 (최대 토론 ID: {})", maxDiscussionId);
+
+        int reconciledCount = 0;
+        for (long fromId = 1; fromId <= maxDiscussionId; fromId += BATCH_SIZE) {
+            long toId = Math.min(fromId + BATCH_SIZE - 1, maxDiscussionId);
+            try {
+                reconciledCount += discussionService.reconcileCounters(fromId, toId);
+            } catch (Exception e) {
+                log.error("토론 ID {}~{} 카운터 보정 실패: {}", fromId, toId, e.getMessage());
+            }
+        }
+
+        log.info("토론 카운터 보정 완료: {}개", reconciledCount);
+    }
+}
@@ -0,0 +1,98 @@
+package com.dialog.server.service;
+
+import com.dialog.server.dto.response.DiscussionDetailResponse;
+import com.dialog.server.dto.response.DiscussionDetailResponse.ParticipantResponse;
+import com.dialog.server.event.DiscussionDeletedEvent;
+import com.dialog.server.event.DiscussionLikeChangedEvent;
+import com.dialog.server.event.DiscussionParticipatedEvent;
+import com.dialog.server.event.DiscussionStatusChangedEvent;
+import com.dialog.server.event.DiscussionUpdatedEvent;
+import com.dialog.server.event.ProfileImageChangedEvent;
+import com.dialog.server.event.UserUpdatedEvent;
+import com.dialog.server.util.TtlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토론 상세 응답을 토론 id별로 메모리에 캐싱한다.
+ * 같은 id를 동시에 조회하면 한 요청만 데이터베이스에서 읽고 나머지는 그 결과를 기다린다.
+ * 토론 수정/삭제/요약/좋아요/참여/상태 전환은 해당 id만, 닉네임과 프로필 이미지 변경은 그 사용자가 작성자나 참여자로 보이는 항목만 비운다.
+ */
+@Component
+public class DiscussionDetailCache {
+
+    private final TtlCache<Long, DiscussionDetailResponse> cache;
+    private final boolean enabled;
+
+    public DiscussionDetailCache(
+            MeterRegistry meterRegistry,
+            @Value("${discussion.detail-cache.enabled:false}") boolean enabled,
+            @Value("${discussion.detail-cache.ttl:1m}") Duration ttl,
+            @Value("${discussion.detail-cache.max-size:10000}") int maxSize
+    ) {
+        this.cache = new TtlCache<>(meterRegistry, "discussion.detail.cache", "토론 상세", ttl, maxSize);
+        this.enabled = enabled;
+    }
+
+    public DiscussionDetailResponse get(Long discussionId, Supplier<DiscussionDetailResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return cache.get(discussionId, key -> loader.get());
+    }
+
+    public void invalidate(Long discussionId) {
+        cache.invalidate(discussionId);
+    }
+
+    @EventListener
+    public void handleDiscussionUpdated(DiscussionUpdatedEvent event) {
+        invalidate(event.getDiscussionId());
+    }
+
+    @EventListener
+    public void handleDiscussionDeleted(DiscussionDeletedEvent event) {
+        invalidate(event.getDiscussionId());
+    }
+
+    @EventListener
+    public void handleDiscussionParticipated(DiscussionParticipatedEvent event) {
+        invalidate(event.getDiscussionId());
+    }
+
+    @EventListener
+    public void handleStatusChanged(DiscussionStatusChangedEvent event) {
+        invalidate(event.getDiscussionId());
+    }
+
+    @EventListener
+    public void handleDiscussionLikeChanged(DiscussionLikeChangedEvent event) {
+        invalidate(event.getDiscussionId());
+    }
+
+    @EventListener
+    public void handleUserUpdated(UserUpdatedEvent event) {
+        cache.invalidateIf(detail -> isShowing(detail, event.getUserId()));
+    }
+
+    @EventListener
+    public void handleProfileImageChanged(ProfileImageChangedEvent event) {
+        cache.invalidateIf(detail -> isShowing(detail, event.getUserId()));
+    }
+
+    private boolean isShowing(DiscussionDetailResponse detail, Long userId) {
+        if (userId.equals(detail.commonDiscussionInfo().author().id())) {
+            return true;
+        }
+        if (detail.offlineDiscussionInfo() == null) {
+            return false;
+        }
+        List<ParticipantResponse> participants = detail.offlineDiscussionInfo().participants();
+        return participants.stream().anyMatch(participant -> userId.equals(participant.id()));
+    }
+}
@@ -0,0 +1,92 @@
+package com.dialog.server.service;
+
+import com.dialog.server.domain.DiscussionFeed;
+import com.dialog.server.domain.ProfileImage;
+import com.dialog.server.event.DiscussionCommentCountChangedEvent;
+import com.dialog.server.event.DiscussionCreatedEvent;
+import com.dialog.server.event.DiscussionDeletedEvent;
+import com.dialog.server.event.DiscussionParticipatedEvent;
+import com.dialog.server.event.DiscussionStatusChangedEvent;
+import com.dialog.server.event.DiscussionUpdatedEvent;
+import com.dialog.server.event.ProfileImageChangedEvent;
+import com.dialog.server.event.UserUpdatedEvent;
+import com.dialog.server.repository.DiscussionFeedRepository;
+import com.dialog.server.repository.DiscussionRepository;
+import com.dialog.server.repository.ProfileImageRepository;
+import com.dialog.server.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원본 변경 이벤트를 받아 discussion_feed 읽기 모델을 같은 트랜잭션 안에서 갱신한다.
+ * 카운터와 작성자 정보는 행 전체를 다시 쓰지 않고 해당 컬럼만 UPDATE한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DiscussionFeedProjector {
+
+    private final DiscussionFeedRepository discussionFeedRepository;
+    private final DiscussionRepository discussionRepository;
+    private final ProfileImageRepository profileImageRepository;
+    private final UserRepository userRepository;
+
+    @EventListener
+    public void handleDiscussionCreated(DiscussionCreatedEvent event) {
+        project(event.getDiscussionId());
+    }
+
+    @EventListener
+    public void handleDiscussionUpdated(DiscussionUpdatedEvent event) {
+        project(event.getDiscussionId());
+    }
+
+    @EventListener
+    public void handleDiscussionDeleted(DiscussionDeletedEvent event) {
+        discussionFeedRepository.deleteById(event.getDiscussionId());
+    }
+
+    @EventListener
+    public void handleDiscussionParticipated(DiscussionParticipatedEvent event) {
+        discussionFeedRepository.increaseParticipantCount(event.getDiscussionId());
+    }
+
+    @EventListener
+    public void handleCommentCountChanged(DiscussionCommentCountChangedEvent event) {
+        discussionFeedRepository.updateCommentCount(event.getDiscussionId(), event.getDelta());
+    }
+
+    @EventListener
+    public void handleStatusChanged(DiscussionStatusChangedEvent event) {
+        discussionFeedRepository.updateStatus(event.getDiscussionId(), event.getStatus().name());
+    }
+
+    @EventListener
+    public void handleUserUpdated(UserUpdatedEvent event) {
+        userRepository.findById(event.getUserId())
+                .ifPresent(user -> discussionFeedRepository.updateAuthorNickname(user.getId(), user.getNickname()));
+    }
+
+    @EventListener
+    public void handleProfileImageChanged(ProfileImageChangedEvent event) {
+        userRepository.findById(event.getUserId())
+                .flatMap(profileImageRepository::findByUser)
+                .ifPresent(profileImage -> discussionFeedRepository.updateAuthorProfileImage(
+                        event.getUserId(),
+                        profileImage.getBasicImageUri(),
+                        profileImage.getCustomImageUri()
+                ));
+    }
+
+    private void project(Long discussionId) {
+        // 감사 필드(modifiedAt)가 반영된 값으로 투영하기 위해 먼저 flush한다
+        discussionRepository.flush();
+        discussionRepository.findById(discussionId).ifPresent(discussion -> {
+            ProfileImage profileImage = profileImageRepository.findByUser(discussion.getAuthor()).orElse(null);
+            discussionFeedRepository.findById(discussionId).ifPresentOrElse(
+                    discussionFeed -> discussionFeed.update(discussion, profileImage),
+                    () -> discussionFeedRepository.save(DiscussionFeed.from(discussion, profileImage))
+            );
+        });
+    }
+}
@@ -0,0 +1,43 @@
+package com.dialog.server.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * discussion.feed.rebuild=true로 기동하면 discussion_feed 읽기 모델을 원본 테이블에서 다시 채운다.
+ * 읽기 모델을 처음 도입하거나 이벤트 누락이 의심될 때 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "discussion.feed.rebuild", havingValue = "true")
+class DiscussionFeedRebuildRunner implements ApplicationRunner {
+
+    private static final long BATCH_SIZE = 1_000L;
+
+    private final DiscussionService discussionService;
+    private final DiscussionFeedService discussionFeedService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long maxDiscussionId = discussionService.getMaxDiscussionId();
+
+        log.info("토론 피드 재구성 시작 (최대 토론 ID: {})", maxDiscussionId);
+
+        int rebuiltCount = 0;
+        for (long fromId = 1; fromId <= maxDiscussionId; fromId += BATCH_SIZE) {
+            long toId = Math.min(fromId + BATCH_SIZE - 1, maxDiscussionId);
+            try {
+                rebuiltCount += discussionFeedService.rebuild(fromId, toId);
+            } catch (Exception e) {
+                log.error("토론 ID {}~{} 피드 재구성 실패: {}", fromId, toId, e.getMessage());
+            }
+        }
+
+        log.info("토론 피드 재구성 완료: {}개", rebuiltCount);
+    }
+}
@@ -0,0 +1,90 @@
+package com.dialog.server.service;
+
+import com.dialog.server.domain.Category;
+import com.dialog.server.domain.DiscussionFeed;
+import com.dialog.server.domain.DiscussionStatus;
+import com.dialog.server.domain.DiscussionType;
+import com.dialog.server.dto.response.DiscussionCursorPageResponse;
+import com.dialog.server.dto.response.DiscussionPreviewResponse;
+import com.dialog.server.repository.DiscussionFeedRepository;
+import com.dialog.server.util.DateCursor;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * discussion_feed 읽기 모델로 토론 목록을 조회한다. 한 페이지를 단일 테이블 인덱스 범위 조회로 가져온다.
+ */
+@Service
+public class DiscussionFeedService {
+
+    private final DiscussionFeedRepository discussionFeedRepository;
+    private final DiscussionFirstPageCache discussionFirstPageCache;
+    private final boolean readEnabled;
+
+    public DiscussionFeedService(
+            DiscussionFeedRepository discussionFeedRepository,
+            DiscussionFirstPageCache discussionFirstPageCache,
+            @Value("${discussion.feed.read-model.enabled:false}") boolean readEnabled
+    ) {
+        this.discussionFeedRepository = discussionFeedRepository;
+        this.discussionFirstPageCache = discussionFirstPageCache;
+        this.readEnabled = readEnabled;
+    }
+
+    public boolean isReadEnabled() {
+        return readEnabled;
+    }
+
+    @Transactional(readOnly = true)
+    public DiscussionCursorPageResponse<DiscussionPreviewResponse> getDiscussionsPage(
+            List<Category> categories,
+            List<DiscussionStatus> statuses,
+            List<DiscussionType> discussionTypes,
+            String cursor,
+            int pageSize
+    ) {
+        LocalDateTime cursorTime = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            DateCursor dateCursor = DateCursor.decode(cursor);
+            cursorTime = dateCursor.createdAt();
+            cursorId = dateCursor.id();
+        }
+
+        List<DiscussionFeed> discussionFeeds = discussionFeedRepository.findWithFiltersBeforeDateCursor(
+                categories,
+                statuses,
+                discussionTypes,
+                cursorTime,
+                cursorId,
+                pageSize + 1
+        );
+
+        boolean hasNext = discussionFeeds.size() > pageSize;
+        String nextCursor = null;
+        if (hasNext) {
+            discussionFeeds = discussionFeeds.subList(0, pageSize);
+            DiscussionFeed cursorFeed = discussionFeeds.getLast();
+            nextCursor = DateCursor.of(cursorFeed.getCreatedAt(), cursorFeed.getId()).encode();
+        }
+
+        List<DiscussionPreviewResponse> responses = discussionFeeds.stream()
+                .map(DiscussionPreviewResponse::fromDiscussionFeed)
+                .toList();
+        return new DiscussionCursorPageResponse<>(responses, nextCursor, hasNext, pageSize);
+    }
+
+    /**
+     * [fromId, toId] 구간의 읽기 모델을 원본 테이블에서 다시 만든다.
+     */
+    @Transactional
+    public int rebuild(Long fromId, Long toId) {
+        discussionFeedRepository.deleteByIdBetween(fromId, toId);
+        int rebuiltCount = discussionFeedRepository.insertFromDiscussionsBetween(fromId, toId);
+        discussionFirstPageCache.invalidateAll();
+        return rebuiltCount;
+    }
+}
@@ -0,0 +1,113 @@
+package com.dialog.server.service;
+
+import com.dialog.server.domain.Category;
+import com.dialog.server.domain.DiscussionStatus;
+import com.dialog.server.domain.DiscussionType;
+import com.dialog.server.dto.response.DiscussionCursorPageResponse;
+import com.dialog.server.dto.response.DiscussionPreviewResponse;
+import com.dialog.server.event.DiscussionCreatedEvent;
+import com.dialog.server.event.DiscussionDeletedEvent;
+import com.dialog.server.event.DiscussionParticipatedEvent;
+import com.dialog.server.event.DiscussionStatusChangedEvent;
+import com.dialog.server.event.DiscussionUpdatedEvent;
+import com.dialog.server.util.TtlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커서 없는 토론 목록 첫 페이지를 필터 조합과 페이지 크기별로 메모리에 캐싱한다.
+ * 토론 생성/수정/삭제/참여/상태 변경 시 전체를 비우고, 다른 노드의 변경이나 댓글 수 변화는 TTL이 지나면 다시 읽는다.
+ * 트랜잭션 안에서 발생한 변경은 즉시 한 번, 트랜잭션이 끝난 뒤 한 번 더 비워 커밋 전(또는 롤백된) 값이 캐시에 남지 않게 한다.
+ */
+@Component
+public class DiscussionFirstPageCache {
+
+    private final TtlCache<FirstPageKey, DiscussionCursorPageResponse<DiscussionPreviewResponse>> cache;
+    private final boolean enabled;
+
+    public DiscussionFirstPageCache(
+            MeterRegistry meterRegistry,
+            @Value("${discussion.feed.first-page-cache.enabled:false}") boolean enabled,
+            @Value("${discussion.feed.first-page-cache.ttl:5s}") Duration ttl,
+            @Value("${discussion.feed.first-page-cache.max-size:500}") int maxSize
+    ) {
+        this.cache = new TtlCache<>(meterRegistry, "discussion.feed.first-page.cache", "첫 페이지", ttl, maxSize);
+        this.enabled = enabled;
+    }
+
+    public DiscussionCursorPageResponse<DiscussionPreviewResponse> get(
+            List<Category> categories,
+            List<DiscussionStatus> statuses,
+            List<DiscussionType> discussionTypes,
+            int pageSize,
+            Supplier<DiscussionCursorPageResponse<DiscussionPreviewResponse>> loader
+    ) {
+        if (!enabled) {
+            return loader.get();
+        }
+        FirstPageKey key = FirstPageKey.of(categories, statuses, discussionTypes, pageSize);
+        return cache.get(key, ignored -> loader.get());
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @EventListener
+    public void handleDiscussionCreated(DiscussionCreatedEvent event) {
+        invalidateAll();
+    }
+
+    @EventListener
+    public void handleDiscussionUpdated(DiscussionUpdatedEvent event) {
+        invalidateAll();
+    }
+
+    @EventListener
+    public void handleDiscussionDeleted(DiscussionDeletedEvent event) {
+        invalidateAll();
+    }
+
+    @EventListener
+    public void handleDiscussionParticipated(DiscussionParticipatedEvent event) {
+        invalidateAll();
+    }
+
+    @EventListener
+    public void handleStatusChanged(DiscussionStatusChangedEvent event) {
+        invalidateAll();
+    }
+
+    // null과 빈 목록, 순서나 중복만 다른 필터는 같은 키가 되도록 정규화한다
+    private record FirstPageKey(
+            List<Category> categories,
+            List<DiscussionStatus> statuses,
+            List<DiscussionType> discussionTypes,
+            int pageSize
+    ) {
+
+        private static FirstPageKey of(
+                List<Category> categories,
+                List<DiscussionStatus> statuses,
+                List<DiscussionType> discussionTypes,
+                int pageSize
+        ) {
+            return new FirstPageKey(normalize(categories), normalize(statuses), normalize(discussionTypes), pageSize);
+        }
+
+        private static <E extends Enum<E>> List<E> normalize(List<E> filters) {
+            if (filters == null) {
+                return List.of();
+            }
+            return filters.stream()
+                    .distinct()
+                    .sorted()
+                    .toList();
+        }
+    }
+}
@@ -8,7 +8,6 @@ import com.dialog.server.exception.DialogException;
 import com.dialog.server.exception.ErrorCode;
 import com.dialog.server.repository.DiscussionParticipantRepository;
 import com.dialog.server.repository.DiscussionRepository;
-import com.dialog.server.repository.UserRepository;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -19,7 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class DiscussionParticipantService {
 
     private final DiscussionParticipantRepository discussionParticipantRepository;
-    private final UserRepository userRepository;
+    private final AuthenticatedUserReader authenticatedUserReader;
     private final DiscussionRepository discussionRepository;
     private final DiscussionParticipationExecutor participationExecutor;
 
@@ -70,8 +69,7 @@ public class DiscussionParticipantService {
     }
 
     private User getUserById(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new DialogException(ErrorCode.USER_NOT_FOUND));
+        return authenticatedUserReader.getActiveUser(userId);
     }
 
     private Discussion getDiscussionById(Long discussionId) {
@@ -0,0 +1,75 @@
+package com.dialog.server.service;
+
+import com.dialog.server.event.DiscussionCreatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 토론 생성이 커밋된 뒤 새 토론 푸시를 별도의 제한된 스레드 풀에서 발송한다.
+ * 큐가 가득 차면 요청 스레드를 막지 않고 발송을 건너뛴다.
+ */
+@Slf4j
+@Component
+public class DiscussionPushNotifier {
+
+    private static final String DISCUSSION_PATH_PREFIX = "/api/discussions/";
+
+    private final NotificationService notificationService;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejectedCounter;
+
+    public DiscussionPushNotifier(
+            NotificationService notificationService,
+            MeterRegistry meterRegistry,
+            @Value("${notification.push.pool-size:2}") int poolSize,
+            @Value("${notification.push.queue-capacity:100}") int queueCapacity
+    ) {
+        this.notificationService = notificationService;
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("push-notification-")
+        );
+        this.rejectedCounter = Counter.builder("push.notification.rejected")
+                .description("발송 큐가 가득 차 건너뛴 새 토론 푸시 수")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleDiscussionCreatedEvent(DiscussionCreatedEvent event) {
+        String path = DISCUSSION_PATH_PREFIX + event.getDiscussionId();
+        try {
+            executor.execute(() -> send(event.getAuthorId(), path));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Push notification queue is full, skipped discussion {}", event.getDiscussionId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void send(Long authorId, String path) {
+        try {
+            notificationService.sendDiscussionCreatedNotification(authorId, path);
+        } catch (Exception e) {
+            log.error("Fail to send discussion created push notification: {}", path, e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.dialog.server.service;
 
+import com.dialog.server.domain.AuthorCard;
 import com.dialog.server.domain.Category;
 import com.dialog.server.domain.Discussion;
 import com.dialog.server.domain.DiscussionParticipant;
@@ -14,52 +15,65 @@ import com.dialog.server.dto.request.OfflineDiscussionCreateRequest;
 import com.dialog.server.dto.request.OfflineDiscussionUpdateRequest;
 import com.dialog.server.dto.request.OnlineDiscussionCreateRequest;
 import com.dialog.server.dto.request.OnlineDiscussionUpdateRequest;
+import com.dialog.server.dto.request.SearchOrder;
 import com.dialog.server.dto.request.SearchType;
 import com.dialog.server.dto.response.DiscussionCreateResponse;
 import com.dialog.server.dto.response.DiscussionCursorPageResponse;
 import com.dialog.server.dto.response.DiscussionDetailResponse;
 import com.dialog.server.dto.response.DiscussionPreviewResponse;
+import com.dialog.server.event.DiscussionCreatedEvent;
+import com.dialog.server.event.DiscussionDeletedEvent;
+import com.dialog.server.event.DiscussionStatusChangedEvent;
+import com.dialog.server.event.DiscussionUpdatedEvent;
 import com.dialog.server.exception.DialogException;
 import com.dialog.server.exception.ErrorCode;
-import com.dialog.server.repository.DiscussionCommentRepository;
+import com.dialog.server.lock.DiscussionLock;
 import com.dialog.server.repository.DiscussionParticipantRepository;
 import com.dialog.server.repository.DiscussionRepository;
-import com.dialog.server.repository.LikeRepository;
 import com.dialog.server.repository.OnlineDiscussionRepository;
 import com.dialog.server.repository.ProfileImageRepository;
-import com.dialog.server.repository.UserRepository;
+import com.dialog.server.search.DiscussionSearchIndex;
+import com.dialog.server.util.DateCursor;
 import jakarta.validation.Valid;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class DiscussionService {
 
-    private static final String CURSOR_PART_DELIMITER = "_";
-    private static final int CURSOR_TIME_INDEX = 0;
-    private static final int CURSOR_ID_INDEX = 1;
     private static final int MAX_PAGE_SIZE = 50;
+    private static final int SEARCH_CANDIDATE_BATCH_SIZE = 500;
 
     private final DiscussionRepository discussionRepository;
     private final DiscussionParticipantRepository discussionParticipantRepository;
     private final OnlineDiscussionRepository onlineDiscussionRepository;
-    private final LikeRepository likeRepository;
-    private final UserRepository userRepository;
+    private final AuthenticatedUserReader authenticatedUserReader;
     private final ProfileImageRepository profileImageRepository;
-    private final DiscussionCommentRepository discussionCommentRepository;
     private final DiscussionCommentService discussionCommentService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DiscussionSearchIndex discussionSearchIndex;
+    private final DiscussionFeedService discussionFeedService;
+    private final DiscussionFirstPageCache discussionFirstPageCache;
+    private final DiscussionDetailCache discussionDetailCache;
+    private final AuthorCardService authorCardService;
+    private final PlatformTransactionManager transactionManager;
 
     @Transactional
     public DiscussionCreateResponse createOfflineDiscussion(OfflineDiscussionCreateRequest request, Long userId) {
@@ -68,6 +82,7 @@ public class DiscussionService {
 
         Discussion savedDiscussion = discussionRepository.save(offlineDiscussion);
         participateOfflineDiscussion(author, offlineDiscussion);
+        eventPublisher.publishEvent(new DiscussionCreatedEvent(savedDiscussion.getId(), userId));
         return DiscussionCreateResponse.from(savedDiscussion);
     }
 
@@ -80,22 +95,27 @@ public class DiscussionService {
         discussionParticipantRepository.save(discussionParticipant);
     }
 
+    @Transactional
     public DiscussionCreateResponse createOnlineDiscussion(
             final @Valid OnlineDiscussionCreateRequest request, final Long userId) {
         User author = getUser(userId);
         OnlineDiscussion onlineDiscussion = request.toOnlineDiscussion(author);
         Discussion savedDiscussion = discussionRepository.save(onlineDiscussion);
+        eventPublisher.publishEvent(new DiscussionCreatedEvent(savedDiscussion.getId(), userId));
         return DiscussionCreateResponse.from(savedDiscussion);
     }
 
+    /**
+     * 참여와 같은 토론 락을 잡고 행도 잠가, 락 없이 조건부 UPDATE로 인원을 올리는 참여까지 수정이 끝날 때까지 기다리게 한다.
+     * 그래서 수정하며 다시 정하는 상태는 항상 최신 참여 인원을 기준으로 한다.
+     */
+    @DiscussionLock(key = "#discussionId")
     @Transactional
     public void updateOfflineDiscussion(Long discussionId, OfflineDiscussionUpdateRequest request) {
-        Discussion savedDiscussion = discussionRepository.findById(discussionId)
-                .orElseThrow(() -> new DialogException(ErrorCode.NOT_FOUND_DISCUSSION));
-
-        if (!(savedDiscussion instanceof OfflineDiscussion offlineDiscussion)) {
-            throw new DialogException(ErrorCode.NOT_OFFLINE_DISCUSSION);
-        }
+        OfflineDiscussion offlineDiscussion = discussionRepository.findOfflineDiscussionForUpdate(discussionId)
+                .orElseThrow(() -> discussionRepository.existsById(discussionId)
+                        ? new DialogException(ErrorCode.NOT_OFFLINE_DISCUSSION)
+                        : new DialogException(ErrorCode.NOT_FOUND_DISCUSSION));
         offlineDiscussion.update(
                 request.title(),
                 request.content(),
@@ -106,6 +126,7 @@ public class DiscussionService {
                 request.place(),
                 request.maxParticipantCount()
         );
+        eventPublisher.publishEvent(new DiscussionUpdatedEvent(discussionId));
     }
 
     @Transactional
@@ -122,6 +143,7 @@ public class DiscussionService {
                 request.category(),
                 request.endDate()
         );
+        eventPublisher.publishEvent(new DiscussionUpdatedEvent(discussionId));
     }
 
     @Transactional
@@ -132,19 +154,25 @@ public class DiscussionService {
             throw new DialogException(ErrorCode.CANNOT_DELETE_DISCUSSION);
         }
         discussionRepository.delete(deleteDiscussion);
+        eventPublisher.publishEvent(new DiscussionDeletedEvent(discussionId));
     }
 
-    @Transactional(readOnly = true)
+    // 같은 토론을 기다리는 요청이 커넥션을 잡고 있지 않도록 캐시는 트랜잭션 밖에서 확인하고, 읽는 요청만 트랜잭션을 연다
     public DiscussionDetailResponse getDiscussionById(Long discussionId) {
-        Discussion discussion = discussionRepository.findById(discussionId)
+        return discussionDetailCache.get(discussionId, () -> readOnly(() -> loadDiscussionDetail(discussionId)));
+    }
+
+    private DiscussionDetailResponse loadDiscussionDetail(Long discussionId) {
+        Discussion discussion = discussionRepository.findWithAuthorById(discussionId)
                 .orElseThrow(() -> new DialogException(ErrorCode.NOT_FOUND_DISCUSSION));
         User author = discussion.getAuthor();
         ProfileImage profileImage = profileImageRepository.findByUser(author).orElse(null);
-        long likeCount = likeRepository.countByDiscussion(discussion);
+        long likeCount = discussion.getLikeCount();
 
         if (discussion instanceof OfflineDiscussion offlineDiscussion) {
             return DiscussionDetailResponse.fromOfflineDiscussion(
                     offlineDiscussion,
+                    discussionParticipantRepository.findByDiscussion(offlineDiscussion),
                     likeCount,
                     profileImage
             );
@@ -161,11 +189,11 @@ public class DiscussionService {
 
     @Transactional(readOnly = true)
     public Discussion getDiscussionEntityById(Long discussionId) {
-        return discussionRepository.findById(discussionId)
+        return discussionRepository.findWithAuthorById(discussionId)
                 .orElseThrow(() -> new DialogException(ErrorCode.NOT_FOUND_DISCUSSION));
     }
 
-    @Transactional(readOnly = true)
+    // 첫 페이지 캐시 적중은 커넥션을 잡지 않도록 트랜잭션 밖에서 확인하고, 데이터베이스를 읽을 때만 트랜잭션을 연다
     public DiscussionCursorPageResponse<DiscussionPreviewResponse> getDiscussionsPage(
             List<Category> categories,
             List<DiscussionStatus> statuses,
@@ -175,6 +203,24 @@ public class DiscussionService {
         int pageSize = request.size();
         String cursor = request.cursor();
 
+        if (cursor == null || cursor.isEmpty()) {
+            return discussionFirstPageCache.get(categories, statuses, discussionTypes, pageSize,
+                    () -> readOnly(() -> loadDiscussionsPage(categories, statuses, discussionTypes, null, pageSize)));
+        }
+        return readOnly(() -> loadDiscussionsPage(categories, statuses, discussionTypes, cursor, pageSize));
+    }
+
+    private DiscussionCursorPageResponse<DiscussionPreviewResponse> loadDiscussionsPage(
+            List<Category> categories,
+            List<DiscussionStatus> statuses,
+            List<DiscussionType> discussionTypes,
+            String cursor,
+            int pageSize
+    ) {
+        if (discussionFeedService.isReadEnabled()) {
+            return discussionFeedService.getDiscussionsPage(categories, statuses, discussionTypes, cursor, pageSize);
+        }
+
         List<Discussion> discussions;
 
         if (cursor == null || cursor.isEmpty()) {
@@ -186,16 +232,14 @@ public class DiscussionService {
                     )
             );
         } else {
-            String[] cursorParts = cursor.split(CURSOR_PART_DELIMITER);
-            LocalDateTime cursorTime = LocalDateTime.parse(cursorParts[CURSOR_TIME_INDEX]);
-            Long cursorId = Long.valueOf(cursorParts[CURSOR_ID_INDEX]);
+            DateCursor dateCursor = DateCursor.decode(cursor);
 
             discussions = discussionRepository.findWithFiltersBeforeDateCursor(
                     categories,
                     statuses,
                     discussionTypes,
-                    cursorTime,
-                    cursorId,
+                    dateCursor.createdAt(),
+                    dateCursor.id(),
                     pageSize + 1
             );
         }
@@ -212,8 +256,48 @@ public class DiscussionService {
             List<DiscussionType> discussionTypes,
             String cursor,
             int size
+    ) {
+        return searchDiscussionWithFilters(
+                searchType,
+                SearchOrder.LATEST,
+                query,
+                categories,
+                statuses,
+                discussionTypes,
+                cursor,
+                size
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public DiscussionCursorPageResponse<DiscussionPreviewResponse> searchDiscussionWithFilters(
+            SearchType searchType,
+            SearchOrder searchOrder,
+            String query,
+            List<Category> categories,
+            List<DiscussionStatus> statuses,
+            List<DiscussionType> discussionTypes,
+            String cursor,
+            int size
     ) {
         validatePageSize(size);
+        if (searchType == SearchType.TITLE_OR_CONTENT && searchOrder == SearchOrder.RELEVANCE) {
+            return searchDiscussionByRelevance(query, categories, statuses, discussionTypes, cursor, size);
+        }
+        Optional<List<Long>> candidateIds = discussionSearchIndex.findCandidateIds(searchType, query);
+        if (candidateIds.isPresent()) {
+            List<Discussion> discussions = searchDiscussionByCandidateIds(
+                    searchType,
+                    query,
+                    candidateIds.get(),
+                    categories,
+                    statuses,
+                    discussionTypes,
+                    cursor,
+                    size
+            );
+            return buildDateCursorResponse(discussions, size);
+        }
         List<Discussion> discussions;
         switch (searchType) {
             case TITLE_OR_CONTENT -> discussions = searchDiscussionByTitleOrContentWithFilters(
@@ -268,9 +352,42 @@ public class DiscussionService {
             throw new DialogException(ErrorCode.FAILED_AI_SUMMARY);
         }
         discussion.updateSummary(summary);
+        eventPublisher.publishEvent(new DiscussionUpdatedEvent(discussionId));
         return discussion;
     }
 
+    @Transactional(readOnly = true)
+    public long getMaxDiscussionId() {
+        return discussionRepository.findMaxId();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> getStatusTransitionTargetIds(LocalDateTime now, int size) {
+        List<Long> discussionIds = new ArrayList<>(discussionRepository.findStatusMissingIds(PageRequest.of(0, size)));
+        if (discussionIds.size() < size) {
+            discussionIds.addAll(discussionRepository.findStatusTransitionDueIds(
+                    now, PageRequest.of(0, size - discussionIds.size())
+            ));
+        }
+        return discussionIds;
+    }
+
+    @Transactional
+    public void refreshStatuses(List<Long> discussionIds, LocalDateTime now) {
+        for (Discussion discussion : discussionRepository.findAllById(discussionIds)) {
+            DiscussionStatus previousStatus = discussion.getStatus();
+            discussion.refreshStatus(now);
+            if (discussion.getStatus() != previousStatus) {
+                eventPublisher.publishEvent(new DiscussionStatusChangedEvent(discussion.getId(), discussion.getStatus()));
+            }
+        }
+    }
+
+    @Transactional
+    public int reconcileCounters(Long fromId, Long toId) {
+        return discussionRepository.reconcileCounters(fromId, toId);
+    }
+
     private DiscussionCursorPageResponse<DiscussionPreviewResponse> createCursorBasedDiscussionsByAuthor(
             String cursor, int pageSize, User author) {
         List<Discussion> discussions;
@@ -280,13 +397,11 @@ public class DiscussionService {
                     author
             );
         } else {
-            String[] cursorParts = cursor.split(CURSOR_PART_DELIMITER);
-            LocalDateTime cursorTime = LocalDateTime.parse(cursorParts[CURSOR_TIME_INDEX]);
-            Long cursorId = Long.valueOf(cursorParts[CURSOR_ID_INDEX]);
+            DateCursor dateCursor = DateCursor.decode(cursor);
 
             discussions = discussionRepository.findDiscussionsByAuthorBeforeDateCursor(
-                    cursorTime,
-                    cursorId,
+                    dateCursor.createdAt(),
+                    dateCursor.id(),
                     author,
                     PageRequest.of(0, pageSize + 1)
             );
@@ -296,8 +411,7 @@ public class DiscussionService {
     }
 
     private User getUser(Long authorId) {
-        return userRepository.findById(authorId)
-                .orElseThrow(() -> new DialogException(ErrorCode.USER_NOT_FOUND));
+        return authenticatedUserReader.getActiveUser(authorId);
     }
 
     private void validatePageSize(int size) {
@@ -324,23 +438,101 @@ public class DiscussionService {
                     PageRequest.of(0, size + 1)
             );
         } else {
-            String[] cursorParts = cursor.split(CURSOR_PART_DELIMITER);
-            LocalDateTime cursorTime = LocalDateTime.parse(cursorParts[CURSOR_TIME_INDEX]);
-            Long cursorId = Long.valueOf(cursorParts[CURSOR_ID_INDEX]);
+            DateCursor dateCursor = DateCursor.decode(cursor);
 
             discussions = discussionRepository.findByTitleOrContentContainingWithFiltersBeforeDateCursor(
                     query,
                     categories,
                     statuses,
                     discussionTypes,
-                    cursorTime,
-                    cursorId,
+                    dateCursor.createdAt(),
+                    dateCursor.id(),
                     size + 1
             );
         }
         return discussions;
     }
 
+    // 색인 후보는 bigram 교집합이라 실제 포함 여부를 보장하지 않으므로 기존 검색 조건으로 다시 거르고, 후보를 묶음 단위로 넘겨 한 페이지만 조회한다.
+    // 토론 id는 작성 순서대로 증가하므로 커서 이전의 후보만 id 내림차순으로 훑는다.
+    private List<Discussion> searchDiscussionByCandidateIds(
+            SearchType searchType,
+            String query,
+            List<Long> candidateIds,
+            List<Category> categories,
+            List<DiscussionStatus> statuses,
+            List<DiscussionType> discussionTypes,
+            String cursor,
+            int size
+    ) {
+        LocalDateTime cursorTime = null;
+        Long cursorId = null;
+        int from = 0;
+        if (cursor != null && !cursor.isEmpty()) {
+            DateCursor dateCursor = DateCursor.decode(cursor);
+            cursorTime = dateCursor.createdAt();
+            cursorId = dateCursor.id();
+            int index = Collections.binarySearch(candidateIds, cursorId, Comparator.reverseOrder());
+            from = index >= 0 ? index + 1 : -index - 1;
+        }
+
+        List<Discussion> discussions = new ArrayList<>();
+        while (from < candidateIds.size() && discussions.size() <= size) {
+            int to = Math.min(from + SEARCH_CANDIDATE_BATCH_SIZE, candidateIds.size());
+            List<Long> batch = candidateIds.subList(from, to);
+            int limit = size + 1 - discussions.size();
+            discussions.addAll(switch (searchType) {
+                case TITLE_OR_CONTENT -> discussionRepository.findByIdInAndTitleOrContentContainingWithFiltersBeforeDateCursor(
+                        batch, query, categories, statuses, discussionTypes, cursorTime, cursorId, limit
+                );
+                case AUTHOR_NICKNAME -> discussionRepository.findByIdInAndAuthorNicknameContainingWithFiltersBeforeDateCursor(
+                        batch, query, categories, statuses, discussionTypes, cursorTime, cursorId, limit
+                );
+            });
+            from = to;
+        }
+        return discussions;
+    }
+
+    // 관련도 점수는 커서로 재현할 수 없으므로 정렬 결과의 오프셋을 커서로 사용한다
+    private DiscussionCursorPageResponse<DiscussionPreviewResponse> searchDiscussionByRelevance(
+            String query,
+            List<Category> categories,
+            List<DiscussionStatus> statuses,
+            List<DiscussionType> discussionTypes,
+            String cursor,
+            int size
+    ) {
+        long offset = parseOffsetCursor(cursor);
+        List<Discussion> discussions = discussionRepository.findByTitleOrContentMatchingWithFiltersOrderByRelevance(
+                query,
+                categories,
+                statuses,
+                discussionTypes,
+                offset,
+                size + 1
+        );
+        boolean hasNext = discussions.size() > size;
+        List<Discussion> pagingDiscussions = hasNext ? discussions.subList(0, size) : discussions;
+        String nextCursor = hasNext ? String.valueOf(offset + size) : null;
+        return new DiscussionCursorPageResponse<>(toPreviewResponses(pagingDiscussions), nextCursor, hasNext, size);
+    }
+
+    private long parseOffsetCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0L;
+        }
+        try {
+            long offset = Long.parseLong(cursor);
+            if (offset < 0) {
+                throw new DialogException(ErrorCode.INVALID_CURSOR);
+            }
+            return offset;
+        } catch (NumberFormatException e) {
+            throw new DialogException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
     private List<Discussion> searchDiscussionByAuthorNicknameWithFilters(
             String query,
             List<Category> categories,
@@ -359,17 +551,15 @@ public class DiscussionService {
                     PageRequest.of(0, size + 1)
             );
         } else {
-            String[] cursorParts = cursor.split(CURSOR_PART_DELIMITER);
-            LocalDateTime cursorTime = LocalDateTime.parse(cursorParts[CURSOR_TIME_INDEX]);
-            Long cursorId = Long.valueOf(cursorParts[CURSOR_ID_INDEX]);
+            DateCursor dateCursor = DateCursor.decode(cursor);
 
             discussions = discussionRepository.findByAuthorNicknameContainingWithFiltersBeforeDateCursor(
                     query,
                     categories,
                     statuses,
                     discussionTypes,
-                    cursorTime,
-                    cursorId,
+                    dateCursor.createdAt(),
+                    dateCursor.id(),
                     size + 1
             );
         }
@@ -385,50 +575,41 @@ public class DiscussionService {
         List<Discussion> pagingDiscussions = new ArrayList<>(discussions);
 
         if (!pagingDiscussions.isEmpty() && hasNext) {
-            Discussion cursorDiscussion = pagingDiscussions.getLast();
             pagingDiscussions = pagingDiscussions.subList(0, pageSize);
-            nextCursor = cursorDiscussion.getCreatedAt().toString() + CURSOR_PART_DELIMITER + cursorDiscussion.getId();
+            Discussion cursorDiscussion = pagingDiscussions.getLast();
+            nextCursor = DateCursor.of(cursorDiscussion.getCreatedAt(), cursorDiscussion.getId()).encode();
         }
 
-        Map<User, ProfileImage> userProfileImageMap = getAuthorProfileImages(pagingDiscussions);
-        Map<Long, Long> commentCountMap = getDiscussionCommentCounts(pagingDiscussions);
+        return new DiscussionCursorPageResponse<>(toPreviewResponses(pagingDiscussions), nextCursor, hasNext, pageSize);
+    }
+
+    private List<DiscussionPreviewResponse> toPreviewResponses(List<Discussion> discussions) {
+        Map<Long, AuthorCard> authorCards = authorCardService.getAuthorCards(discussions, Discussion::getAuthor);
 
-        List<DiscussionPreviewResponse> responses = pagingDiscussions.stream()
+        return discussions.stream()
                 .map(discussion -> {
                             if (discussion instanceof OfflineDiscussion offlineDiscussion) {
                                 return DiscussionPreviewResponse.fromOfflineDiscussion(
                                         offlineDiscussion,
-                                        userProfileImageMap.get(offlineDiscussion.getAuthor()),
-                                        commentCountMap.getOrDefault(offlineDiscussion.getId(), 0L)
+                                        authorCards.get(offlineDiscussion.getAuthor().getId()),
+                                        offlineDiscussion.getCommentCount()
                                 );
                             } else if (discussion instanceof OnlineDiscussion onlineDiscussion) {
                                 return DiscussionPreviewResponse.fromOnlineDiscussion(
                                         onlineDiscussion,
-                                        userProfileImageMap.get(onlineDiscussion.getAuthor()),
-                                        commentCountMap.getOrDefault(onlineDiscussion.getId(), 0L)
+                                        authorCards.get(onlineDiscussion.getAuthor().getId()),
+                                        onlineDiscussion.getCommentCount()
                                 );
                             }
                             throw new DialogException(ErrorCode.BAD_REQUEST);
                         }
                 )
                 .toList();
-
-        return new DiscussionCursorPageResponse<>(responses, nextCursor, hasNext, pageSize);
-    }
-
-    private Map<User, ProfileImage> getAuthorProfileImages(List<Discussion> discussions) {
-        List<User> discussionAuthors = discussions.stream().map(Discussion::getAuthor).toList();
-        List<ProfileImage> discussionAuthorProfileImages = profileImageRepository.findAllByUserIn(discussionAuthors);
-        return discussionAuthorProfileImages.stream()
-                .collect(Collectors.toMap(ProfileImage::getUser, Function.identity()));
     }
 
-    private Map<Long, Long> getDiscussionCommentCounts(List<Discussion> discussions) {
-        List<Long> discussionIds = discussions.stream().map(Discussion::getId).toList();
-        return discussionIds.stream()
-                .collect(Collectors.toMap(
-                        Function.identity(),
-                        discussionCommentRepository::countByDiscussionId
-                ));
+    private <T> T readOnly(Supplier<T> loader) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> loader.get());
     }
 }
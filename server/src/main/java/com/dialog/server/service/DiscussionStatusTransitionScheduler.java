@@ -0,0 +1,46 @@
+package com.dialog.server.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장된 토론 상태 중 전환 시각이 지난 것(또는 아직 계산되지 않은 것)만 골라 다시 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class DiscussionStatusTransitionScheduler {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final DiscussionService discussionService;
+
+    @Scheduled(fixedDelayString = "${discussion.status.transition-interval:1m}")
+    public void transitionStatuses() {
+        LocalDateTime now = LocalDateTime.now();
+        int transitionedCount = 0;
+        List<Long> discussionIds;
+        do {
+            discussionIds = discussionService.getStatusTransitionTargetIds(now, BATCH_SIZE);
+            if (discussionIds.isEmpty()) {
+                break;
+            }
+            try {
+                discussionService.refreshStatuses(discussionIds, now);
+                transitionedCount += discussionIds.size();
+            } catch (Exception e) {
+                log.error("토론 상태 전환 실패 (토론 ID {} 외 {}개): {}",
+                        discussionIds.getFirst(), discussionIds.size() - 1, e.getMessage());
+                break;
+            }
+        } while (discussionIds.size() == BATCH_SIZE);
+
+        if (transitionedCount > 0) {
+            log.info("토론 상태 전환 완료: {}개", transitionedCount);
+        }
+    }
+}
@@ -0,0 +1,395 @@
+package com.dialog.server.service;
+
+import com.dialog.server.domain.Discussion;
+import com.dialog.server.domain.DiscussionComment;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토론 본문과 댓글을 추정 토큰 예산 단위의 조각으로 나눠 요약한다.
+ * 댓글은 최상위 댓글 기준 페이지 단위로 읽어 답글과 함께 조각에 채우고, 전체가 한 조각에 들어가면 한 번에 요약한다.
+ * 답글까지 합친 댓글 하나가 예산을 넘으면 그 댓글만 줄 단위로, 한 줄도 넘으면 글자 단위로 나눈다.
+ * 여러 조각이면 조각이 찰 때마다 제한된 스레드 풀에 중간 정리를 맡기고(map), 중간 정리를 모아 최종 요약을 만든다(reduce).
+ * 스레드 풀에 맡긴 호출 수를 스레드 수와 대기열 크기의 합으로 제한해, 댓글을 읽는 쪽이 앞서 나가면 기다리게 한다.
+ * 그래서 댓글이 많아도 조각 전체를 메모리에 쌓지 않고, 대기열도 넘치지 않는다.
+ * 중간 정리를 모은 것도 예산을 넘으면 예산 안에 들어올 때까지 중간 정리끼리 다시 합친다(merge).
+ * 중간 정리 하나는 예산의 절반까지만 쓰므로 합칠 때마다 묶음 수가 줄고, 최종 요약 입력은 항상 예산 안에 들어온다.
+ */
+@Slf4j
+@Component
+public class DiscussionSummaryPipeline {
+
+    private static final String SYSTEM_PROMPT_PATH = "prompts/discussion-summary-system.st";
+    private static final String USER_PROMPT_PATH = "prompts/discussion-summary.st";
+    private static final String CHUNK_PROMPT_PATH = "prompts/discussion-summary-chunk.st";
+    private static final String REDUCE_PROMPT_PATH = "prompts/discussion-summary-reduce.st";
+    private static final String CONTENT_KEY = "content";
+    private static final String COMMENTS_HEADER = "[댓글 및 답글]\n";
+    private static final String METRIC_NAME = "discussion.summary.ai.calls";
+
+    private final AiClient aiClient;
+    private final AiPromptLoader aiPromptLoader;
+    private final DiscussionCommentService discussionCommentService;
+    private final int chunkTokenBudget;
+    private final int commentPageSize;
+    private final Semaphore pendingCalls;
+    private final ThreadPoolExecutor executor;
+    private final Counter singleCallCounter;
+    private final Counter mapCallCounter;
+    private final Counter mergeCallCounter;
+    private final Counter reduceCallCounter;
+    private String systemPrompt;
+    private String userPrompt;
+    private String chunkPrompt;
+    private String reducePrompt;
+
+    public DiscussionSummaryPipeline(
+            AiClient aiClient,
+            AiPromptLoader aiPromptLoader,
+            DiscussionCommentService discussionCommentService,
+            MeterRegistry meterRegistry,
+            @Value("${discussion.summary.chunk-token-budget:6000}") int chunkTokenBudget,
+            @Value("${discussion.summary.comment-page-size:100}") int commentPageSize,
+            @Value("${discussion.summary.max-concurrency:4}") int maxConcurrency
+    ) {
+        this.aiClient = aiClient;
+        this.aiPromptLoader = aiPromptLoader;
+        this.discussionCommentService = discussionCommentService;
+        this.chunkTokenBudget = chunkTokenBudget;
+        this.commentPageSize = commentPageSize;
+        // 실행 중인 호출과 대기열을 합친 수만큼만 허가해 대기열이 넘치지 않는다
+        this.pendingCalls = new Semaphore(maxConcurrency * 2);
+        this.executor = new ThreadPoolExecutor(
+                maxConcurrency,
+                maxConcurrency,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(maxConcurrency),
+                new CustomizableThreadFactory("discussion-summary-")
+        );
+        this.singleCallCounter = createCallCounter(meterRegistry, "single", "한 번에 요약한 AI 호출 수");
+        this.mapCallCounter = createCallCounter(meterRegistry, "map", "조각별 중간 정리 AI 호출 수");
+        this.mergeCallCounter = createCallCounter(meterRegistry, "merge", "중간 정리끼리 다시 합친 AI 호출 수");
+        this.reduceCallCounter = createCallCounter(meterRegistry, "reduce", "중간 정리를 합친 최종 요약 AI 호출 수");
+    }
+
+    @PostConstruct
+    void init() {
+        systemPrompt = aiPromptLoader.loadPrompt(SYSTEM_PROMPT_PATH);
+        userPrompt = aiPromptLoader.loadPrompt(USER_PROMPT_PATH);
+        chunkPrompt = aiPromptLoader.loadPrompt(CHUNK_PROMPT_PATH);
+        reducePrompt = aiPromptLoader.loadPrompt(REDUCE_PROMPT_PATH);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public String summarize(Discussion discussion) {
+        String discussionContent = formatDiscussion(discussion);
+        int contentTokenBudget = getContentTokenBudget(discussionContent);
+        ChunkSummarizer chunkSummarizer = new ChunkSummarizer(discussionContent);
+        try {
+            splitComments(discussion.getId(), contentTokenBudget, chunkSummarizer::accept);
+        } catch (RuntimeException e) {
+            chunkSummarizer.cancel();
+            throw e;
+        }
+        if (!chunkSummarizer.isSplit()) {
+            singleCallCounter.increment();
+            return execute(userPrompt, discussionContent + COMMENTS_HEADER + chunkSummarizer.singleChunk());
+        }
+
+        log.info("토론 ID {} 댓글을 {}개 조각으로 나눠 요약", discussion.getId(), chunkSummarizer.chunkCount());
+        return reduce(discussionContent, contentTokenBudget, chunkSummarizer.join());
+    }
+
+    // 본문이 예산 대부분을 차지해도 조각마다 댓글을 담을 최소한의 자리는 남긴다
+    private int getContentTokenBudget(String discussionContent) {
+        return Math.max(chunkTokenBudget - estimateTokens(discussionContent), chunkTokenBudget / 4);
+    }
+
+    private void splitComments(Long discussionId, int commentTokenBudget, Consumer<String> chunkConsumer) {
+        StringBuilder chunk = new StringBuilder();
+        int chunkTokens = 0;
+        Long lastCommentId = 0L;
+        Map<DiscussionComment, List<DiscussionComment>> commentAndReply;
+        do {
+            commentAndReply = discussionCommentService.getDiscussionCommentAndReply(
+                    discussionId, lastCommentId, commentPageSize
+            );
+            for (Map.Entry<DiscussionComment, List<DiscussionComment>> thread : commentAndReply.entrySet()) {
+                String threadContent = formatThread(thread.getKey(), thread.getValue());
+                for (String piece : splitByTokenBudget(threadContent, commentTokenBudget)) {
+                    int pieceTokens = estimateTokens(piece);
+                    if (chunkTokens > 0 && chunkTokens + pieceTokens > commentTokenBudget) {
+                        chunkConsumer.accept(chunk.toString());
+                        chunk.setLength(0);
+                        chunkTokens = 0;
+                    }
+                    chunk.append(piece);
+                    chunkTokens += pieceTokens;
+                }
+                lastCommentId = thread.getKey().getId();
+            }
+        } while (commentAndReply.size() == commentPageSize);
+
+        if (chunkTokens > 0) {
+            chunkConsumer.accept(chunk.toString());
+        }
+    }
+
+    private String reduce(String discussionContent, int contentTokenBudget, List<String> partialSummaries) {
+        List<String> summaries = partialSummaries;
+        List<String> groups = groupPartialSummaries(summaries, contentTokenBudget);
+        // 예산이 부분 요약 머리글보다 작게 설정되어 묶음 수가 줄지 않을 때만 여러 묶음을 그대로 넘긴다
+        while (groups.size() > 1 && groups.size() < summaries.size()) {
+            summaries = summarizeInParallel(
+                    groups.stream()
+                            .map(group -> discussionContent + group)
+                            .toList(),
+                    mergeCallCounter
+            );
+            groups = groupPartialSummaries(summaries, contentTokenBudget);
+        }
+
+        reduceCallCounter.increment();
+        return execute(reducePrompt, discussionContent + String.join("", groups));
+    }
+
+    // 중간 정리 하나를 예산의 절반 안으로 자르므로 한 묶음에 적어도 두 개가 들어가 합칠 때마다 묶음 수가 줄어든다
+    private List<String> groupPartialSummaries(List<String> summaries, int contentTokenBudget) {
+        List<String> groups = new ArrayList<>();
+        StringBuilder group = new StringBuilder();
+        int groupTokens = 0;
+        for (int i = 0; i < summaries.size(); i++) {
+            String header = "[부분 요약 " + (i + 1) + "]\n";
+            int summaryTokenBudget = Math.max(1, contentTokenBudget / 2 - estimateTokens(header) - 1);
+            String partialSummary = header + truncate(summaries.get(i), summaryTokenBudget) + "\n\n";
+            int partialTokens = estimateTokens(partialSummary);
+            if (groupTokens > 0 && groupTokens + partialTokens > contentTokenBudget) {
+                groups.add(group.toString());
+                group.setLength(0);
+                groupTokens = 0;
+            }
+            group.append(partialSummary);
+            groupTokens += partialTokens;
+        }
+        if (groupTokens > 0) {
+            groups.add(group.toString());
+        }
+        return groups;
+    }
+
+    private List<String> summarizeInParallel(List<String> contents, Counter callCounter) {
+        List<CompletableFuture<String>> futures = contents.stream()
+                .map(content -> summarizeAsync(content, callCounter))
+                .toList();
+        return futures.stream()
+                .map(this::join)
+                .toList();
+    }
+
+    /**
+     * 조각이 하나뿐이면 한 번에 요약하도록 첫 조각은 들고 있다가, 두 번째 조각이 오면 둘 다 중간 정리에 맡긴다.
+     */
+    private final class ChunkSummarizer {
+
+        private final String discussionContent;
+        private final List<CompletableFuture<String>> summaries = new ArrayList<>();
+        private String firstChunk;
+        private volatile CompletableFuture<String> failedSummary;
+
+        private ChunkSummarizer(String discussionContent) {
+            this.discussionContent = discussionContent;
+        }
+
+        private void accept(String chunk) {
+            if (summaries.isEmpty() && firstChunk == null) {
+                firstChunk = chunk;
+                return;
+            }
+            if (firstChunk != null) {
+                submit(firstChunk);
+                firstChunk = null;
+            }
+            submit(chunk);
+        }
+
+        private boolean isSplit() {
+            return !summaries.isEmpty();
+        }
+
+        private String singleChunk() {
+            return firstChunk == null ? "" : firstChunk;
+        }
+
+        private int chunkCount() {
+            return summaries.size();
+        }
+
+        private List<String> join() {
+            return summaries.stream()
+                    .map(DiscussionSummaryPipeline.this::join)
+                    .toList();
+        }
+
+        private void cancel() {
+            summaries.forEach(summary -> summary.cancel(false));
+        }
+
+        private void submit(String chunk) {
+            // 이미 실패한 중간 정리가 있으면 남은 조각을 더 보내지 않고 그 예외를 던진다
+            if (failedSummary != null) {
+                cancel();
+                DiscussionSummaryPipeline.this.join(failedSummary);
+            }
+            CompletableFuture<String> summary = summarizeAsync(
+                    discussionContent + COMMENTS_HEADER + chunk, mapCallCounter
+            );
+            summary.whenComplete((ignored, e) -> {
+                if (e != null) {
+                    failedSummary = summary;
+                }
+            });
+            summaries.add(summary);
+        }
+    }
+
+    // 허가를 얻을 때까지 기다렸다가 맡기고, 호출이 끝나면 허가를 돌려준다
+    private CompletableFuture<String> summarizeAsync(String content, Counter callCounter) {
+        pendingCalls.acquireUninterruptibly();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                        callCounter.increment();
+                        return execute(chunkPrompt, content);
+                    }, executor)
+                    .whenComplete((summary, e) -> pendingCalls.release());
+        } catch (RejectedExecutionException e) {
+            pendingCalls.release();
+            throw e;
+        }
+    }
+
+    private String execute(String prompt, String content) {
+        return aiClient.execute(systemPrompt, prompt, Map.of(CONTENT_KEY, content));
+    }
+
+    private String join(CompletableFuture<String> summary) {
+        try {
+            return summary.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String formatDiscussion(Discussion discussion) {
+        return "[토론 본문]\n"
+                + "작성자: " + discussion.getAuthor().getNickname() + "\n"
+                + "제목: " + discussion.getTitle() + "\n"
+                + "내용: " + discussion.getContent() + "\n\n";
+    }
+
+    private String formatThread(DiscussionComment comment, List<DiscussionComment> replies) {
+        StringBuilder threadBuilder = new StringBuilder();
+        threadBuilder.append("- ").append(comment.getAuthor().getNickname())
+                .append(": ").append(comment.getContent()).append("\n");
+        replies.forEach(reply -> threadBuilder.append("  └ ").append(reply.getAuthor().getNickname())
+                .append(": ").append(reply.getContent()).append("\n"));
+        return threadBuilder.toString();
+    }
+
+    // 줄 단위로 예산만큼 채우고, 한 줄이 예산을 넘으면 그 줄은 글자 단위로 나눈다
+    private static List<String> splitByTokenBudget(String text, int tokenBudget) {
+        if (estimateTokens(text) <= tokenBudget) {
+            return List.of(text);
+        }
+        List<String> pieces = new ArrayList<>();
+        StringBuilder piece = new StringBuilder();
+        for (String line : text.split("(?<=\n)")) {
+            if (estimateTokens(line) > tokenBudget) {
+                if (!piece.isEmpty()) {
+                    pieces.add(piece.toString());
+                    piece.setLength(0);
+                }
+                String rest = line;
+                while (!rest.isEmpty()) {
+                    String head = truncate(rest, tokenBudget);
+                    pieces.add(head);
+                    rest = rest.substring(head.length());
+                }
+                continue;
+            }
+            if (!piece.isEmpty() && estimateTokens(piece + line) > tokenBudget) {
+                pieces.add(piece.toString());
+                piece.setLength(0);
+            }
+            piece.append(line);
+        }
+        if (!piece.isEmpty()) {
+            pieces.add(piece.toString());
+        }
+        return pieces;
+    }
+
+    // 추정 토큰이 예산 안에 들어오는 가장 긴 앞부분. 예산이 1토큰 이상이면 적어도 한 글자는 남긴다
+    private static String truncate(String text, int tokenBudget) {
+        int asciiCount = 0;
+        int otherCount = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 128) {
+                asciiCount++;
+            } else {
+                otherCount++;
+            }
+            if (i > 0 && otherCount + (asciiCount + 3) / 4 > tokenBudget) {
+                // 서로게이트 쌍 가운데를 자르지 않는다
+                int end = Character.isLowSurrogate(text.charAt(i)) && i > 1 ? i - 1 : i;
+                return text.substring(0, end);
+            }
+        }
+        return text;
+    }
+
+    // 토크나이저 없이 보수적으로 어림한다. 한글 등 ASCII 밖의 문자는 한 글자를 1토큰, ASCII는 4글자를 1토큰으로 본다
+    private static int estimateTokens(String text) {
+        int asciiCount = 0;
+        int otherCount = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 128) {
+                asciiCount++;
+            } else {
+                otherCount++;
+            }
+        }
+        return otherCount + (asciiCount + 3) / 4;
+    }
+
+    private static Counter createCallCounter(MeterRegistry meterRegistry, String phase, String description) {
+        return Counter.builder(METRIC_NAME)
+                .tag("phase", phase)
+                .description(description)
+                .register(meterRegistry);
+    }
+}
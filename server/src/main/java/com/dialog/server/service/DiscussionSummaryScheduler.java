@@ -2,22 +2,58 @@ package com.dialog.server.service;
 
 import com.dialog.server.domain.OnlineDiscussion;
 import com.dialog.server.exception.DialogException;
+import jakarta.annotation.PreDestroy;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
+/**
+ * 매일 자정 종료된 온라인 토론의 요약을 만든다.
+ * AI 호출로 오래 걸리므로 공유 스케줄러 스레드를 막지 않도록 전용 스레드에서 실행한다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 class DiscussionSummaryScheduler {
 
     private final DiscussionService discussionService;
     private final DiscussionSummaryService discussionSummaryService;
+    private final ThreadPoolExecutor executor;
+
+    DiscussionSummaryScheduler(DiscussionService discussionService, DiscussionSummaryService discussionSummaryService) {
+        this.discussionService = discussionService;
+        this.discussionSummaryService = discussionSummaryService;
+        // 이전 실행이 아직 돌고 있으면 대기열에 쌓지 않고 건너뛴다
+        this.executor = new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(),
+                new CustomizableThreadFactory("discussion-summary-scheduler-")
+        );
+    }
 
     @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
     public void generateSummariesForEndedDiscussions() {
+        try {
+            executor.execute(this::summarizeEndedDiscussions);
+        } catch (RejectedExecutionException e) {
+            log.warn("이전 토론 요약 생성이 아직 실행 중이어서 건너뜀");
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void summarizeEndedDiscussions() {
         List<OnlineDiscussion> onlineDiscussions = discussionService.getEndedAndBlankSummaryOnlineDiscussions();
 
         log.info("종료된 온라인 토론 {}개에 대한 요약 생성 시작", onlineDiscussions.size());
@@ -1,9 +1,16 @@
 package com.dialog.server.service;
 
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
 import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -11,20 +18,57 @@ import org.springframework.stereotype.Service;
 @Service
 public class FcmService {
 
-    public void sendNotification(String token, String title, String body, String path) {
-        try {
-            Message message = Message.builder()
-                    .setToken(token)
-                    .setNotification(Notification.builder()
-                            .setTitle(title)
-                            .setBody(body)
-                            .build())
-                    .putData("path", path)
-                    .build();
+    public static final int MAX_MULTICAST_TOKENS = 500;
+
+    private final Counter successCounter;
+    private final Counter failureCounter;
+
+    public FcmService(MeterRegistry meterRegistry) {
+        this.successCounter = Counter.builder("fcm.send")
+                .tag("result", "success")
+                .description("FCM 푸시 발송 건수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("fcm.send")
+                .tag("result", "failure")
+                .description("FCM 푸시 발송 건수")
+                .register(meterRegistry);
+    }
 
-            FirebaseMessaging.getInstance().send(message);
+    /**
+     * 최대 500개의 토큰에 한 번의 요청으로 푸시를 보낸다.
+     *
+     * @return 더 이상 유효하지 않아(UNREGISTERED) 삭제해야 하는 토큰 목록
+     */
+    public List<String> sendMulticast(List<String> tokens, String title, String body, String path) {
+        MulticastMessage message = MulticastMessage.builder()
+                .addAllTokens(tokens)
+                .setNotification(Notification.builder()
+                        .setTitle(title)
+                        .setBody(body)
+                        .build())
+                .putData("path", path)
+                .build();
+        try {
+            BatchResponse batchResponse = FirebaseMessaging.getInstance().sendEachForMulticast(message);
+            successCounter.increment(batchResponse.getSuccessCount());
+            failureCounter.increment(batchResponse.getFailureCount());
+            return findUnregisteredTokens(tokens, batchResponse.getResponses());
         } catch (FirebaseMessagingException e) {
+            failureCounter.increment(tokens.size());
             log.error("[NOTIFICATION] {}", e.getErrorCode().name());
+            return List.of();
+        }
+    }
+
+    private List<String> findUnregisteredTokens(List<String> tokens, List<SendResponse> responses) {
+        List<String> unregisteredTokens = new ArrayList<>();
+        for (int i = 0; i < responses.size(); i++) {
+            SendResponse response = responses.get(i);
+            if (!response.isSuccessful()
+                    && response.getException().getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED) {
+                unregisteredTokens.add(tokens.get(i));
+            }
         }
+        return unregisteredTokens;
     }
 }
@@ -3,12 +3,13 @@ package com.dialog.server.service;
 import com.dialog.server.domain.Discussion;
 import com.dialog.server.domain.Like;
 import com.dialog.server.domain.User;
+import com.dialog.server.event.DiscussionLikeChangedEvent;
 import com.dialog.server.exception.DialogException;
 import com.dialog.server.exception.ErrorCode;
 import com.dialog.server.repository.DiscussionRepository;
 import com.dialog.server.repository.LikeRepository;
-import com.dialog.server.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,8 +18,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class LikeService {
 
     private final LikeRepository likeRepository;
-    private final UserRepository userRepository;
+    private final AuthenticatedUserReader authenticatedUserReader;
     private final DiscussionRepository discussionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void create(Long userId, Long discussionId) {
@@ -33,6 +35,8 @@ public class LikeService {
                 .discussion(discussion)
                 .build();
         likeRepository.save(like);
+        discussionRepository.updateLikeCount(discussion.getId(), 1);
+        eventPublisher.publishEvent(new DiscussionLikeChangedEvent(discussion.getId()));
     }
 
     @Transactional
@@ -43,6 +47,8 @@ public class LikeService {
             throw new DialogException(ErrorCode.NOT_LIKED_YET);
         }
         likeRepository.deleteByUserAndDiscussion(user, discussion);
+        discussionRepository.updateLikeCount(discussion.getId(), -1);
+        eventPublisher.publishEvent(new DiscussionLikeChangedEvent(discussion.getId()));
     }
 
     @Transactional(readOnly = true)
@@ -54,8 +60,7 @@ public class LikeService {
     }
 
     private User getUserById(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException(userId + "에 해당하는 user를 찾을 수 없습니다."));
+        return authenticatedUserReader.getActiveUser(userId);
     }
 
     private Discussion getDiscussionById(Long discussionId) {
@@ -0,0 +1,42 @@
+package com.dialog.server.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * notification.read-watermark.backfill=true로 기동하면 사용자별 알림 읽음 워터마크와 안 읽은 알림 수를 알림 테이블에서 다시 채운다.
+ * 워터마크를 처음 도입하거나 카운터가 어긋났을 때 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.read-watermark.backfill", havingValue = "true")
+class NotificationReadWatermarkBackfillRunner implements ApplicationRunner {
+
+    private static final long BATCH_SIZE = 1_000L;
+
+    private final NotificationService notificationService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long maxUserId = notificationService.getMaxUserId();
+
+        log.info("알림 읽음 워터마크 채우기 시작 (최대 사용자 ID: {})", maxUserId);
+
+        int backfilledCount = 0;
+        for (long fromId = 1; fromId <= maxUserId; fromId += BATCH_SIZE) {
+            long toId = Math.min(fromId + BATCH_SIZE - 1, maxUserId);
+            try {
+                backfilledCount += notificationService.backfillReadWatermarks(fromId, toId);
+            } catch (Exception e) {
+                log.error("사용자 ID {}~{} 알림 읽음 워터마크 채우기 실패: {}", fromId, toId, e.getMessage());
+            }
+        }
+
+        log.info("알림 읽음 워터마크 채우기 완료: {}명", backfilledCount);
+    }
+}
@@ -0,0 +1,281 @@
+package com.dialog.server.service;
+
+import com.dialog.server.domain.Notification;
+import com.dialog.server.domain.NotificationType;
+import com.dialog.server.domain.RouteParams;
+import com.dialog.server.lock.JobLockManager;
+import com.dialog.server.repository.NotificationRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 보관 기간이 지난 읽은 알림을 작은 id 구간 단위로 나눠 삭제한다.
+ * 구간마다 트랜잭션을 따로 커밋하고 구간 사이에 쉬어, 한 번에 오래 잠금을 잡거나 복제 지연을 만들지 않는다.
+ * 알림 id는 생성 순서를 따르므로 보관 기간 안의 알림이 처음 나오는 구간에서 멈추고, 그 앞까지 훑은 id를 작업 잠금에 남긴다.
+ * 다음 실행은 남긴 id 다음부터 기본 키 구간으로 이어서 훑으므로, 오래 읽지 않은 알림이 앞쪽에 남아 있어도 매번 다시 훑지 않는다.
+ * 그 뒤에 읽음 처리된 앞쪽 알림은 일주일에 한 번(full-sweep-day) 처음부터 다시 훑을 때 지운다.
+ * 여러 노드가 같은 시각에 실행되므로 job_locks 잠금을 잡은 한 노드만 정리하고, 나머지 노드는 기다리지 않고 건너뛴다.
+ * 잠금은 lock-at-most-for가 지나면 풀리므로 그 전에 구간 처리를 멈춘다.
+ * 정리는 @Scheduled 스레드가 아닌 전용 스레드에서 실행해, 구간 사이에 쉬는 동안 다른 주기 작업을 막지 않는다.
+ * 보관 설정을 켜면 삭제 전에 gzip 압축 JSON Lines 파일로 로컬 디스크에 남기고, 파일 쓰기에 실패하면 삭제하지 않고 멈춘다.
+ */
+@Slf4j
+@Component
+class NotificationRetentionScheduler {
+
+    private static final String METRIC_NAME = "notification.retention";
+    private static final String JOB_NAME = "notification-retention";
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter ARCHIVE_FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final NotificationRepository notificationRepository;
+    private final JobLockManager jobLockManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration readRetention;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final boolean archiveEnabled;
+    private final Path archiveDirectory;
+    private final Duration lockAtMostFor;
+    private final DayOfWeek fullSweepDay;
+    private final ThreadPoolExecutor executor;
+    private final Counter purgedCounter;
+    private final Counter archivedCounter;
+    private final Timer durationTimer;
+
+    NotificationRetentionScheduler(
+            NotificationRepository notificationRepository,
+            JobLockManager jobLockManager,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${notification.retention.enabled:false}") boolean enabled,
+            @Value("${notification.retention.read-retention:90d}") Duration readRetention,
+            @Value("${notification.retention.batch-size:500}") int batchSize,
+            @Value("${notification.retention.batch-pause:200ms}") Duration batchPause,
+            @Value("${notification.retention.archive.enabled:false}") boolean archiveEnabled,
+            @Value("${notification.retention.archive.directory:notification-archive}") Path archiveDirectory,
+            @Value("${notification.retention.lock-at-most-for:6h}") Duration lockAtMostFor,
+            @Value("${notification.retention.full-sweep-day:SUNDAY}") DayOfWeek fullSweepDay
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.jobLockManager = jobLockManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.readRetention = readRetention;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.archiveEnabled = archiveEnabled;
+        this.archiveDirectory = archiveDirectory;
+        this.lockAtMostFor = lockAtMostFor;
+        this.fullSweepDay = fullSweepDay;
+        // 이전 실행이 아직 돌고 있으면 대기열에 쌓지 않고 건너뛴다
+        this.executor = new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(),
+                new CustomizableThreadFactory("notification-retention-")
+        );
+        this.purgedCounter = Counter.builder(METRIC_NAME + ".purged")
+                .description("보관 기간이 지나 삭제한 알림 수")
+                .register(meterRegistry);
+        this.archivedCounter = Counter.builder(METRIC_NAME + ".archived")
+                .description("삭제 전에 파일로 보관한 알림 수")
+                .register(meterRegistry);
+        this.durationTimer = Timer.builder(METRIC_NAME + ".duration")
+                .description("알림 보관 기간 정리 작업 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${notification.retention.cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void purgeExpiredNotifications() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            executor.execute(this::purgeOnLockedNode);
+        } catch (RejectedExecutionException e) {
+            log.warn("이전 알림 보관 기간 정리가 아직 실행 중이어서 건너뜀");
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void purgeOnLockedNode() {
+        if (!jobLockManager.tryLock(JOB_NAME, lockAtMostFor)) {
+            log.info("다른 노드가 알림 보관 기간 정리를 실행 중이어서 건너뜀");
+            return;
+        }
+        try {
+            LocalDateTime threshold = LocalDateTime.now().minus(readRetention);
+            long cursorId = jobLockManager.getCursor(JOB_NAME);
+            boolean fullSweep = LocalDate.now(ZONE).getDayOfWeek() == fullSweepDay;
+            long fromId = fullSweep ? notificationRepository.findMinId() : cursorId + 1;
+            // 마지막 구간을 마치고 잠금을 풀 시간을 남긴다
+            Duration maxRunTime = lockAtMostFor.minus(lockAtMostFor.dividedBy(10));
+
+            log.info("알림 보관 기간 정리 시작 (기준 시각: {}, 시작 id: {})", threshold, fromId);
+            PurgeResult result = durationTimer.recordCallable(() -> purge(threshold, fromId, maxRunTime));
+            if (result.scannedToId() > cursorId) {
+                jobLockManager.saveCursor(JOB_NAME, result.scannedToId());
+            }
+            log.info("알림 보관 기간 정리 완료: {}개 (훑은 id: {})", result.purgedCount(), result.scannedToId());
+        } catch (Exception e) {
+            log.error("알림 보관 기간 정리 실패: {}", e.getMessage());
+        } finally {
+            jobLockManager.unlock(JOB_NAME);
+        }
+    }
+
+    /**
+     * fromId부터 구간 단위로 삭제하고, 보관 기간 안의 알림이 없어 끝까지 훑은 마지막 구간의 끝 id를 함께 반환한다.
+     */
+    PurgeResult purge(LocalDateTime threshold, long fromId, Duration maxRunTime) throws IOException {
+        long deadlineNanos = System.nanoTime() + maxRunTime.toNanos();
+        long maxNotificationId = notificationRepository.findMaxId();
+        int purgedCount = 0;
+        long scannedToId = fromId - 1;
+        BufferedWriter archiveWriter = null;
+        try {
+            for (long startId = Math.max(fromId, 1L); startId <= maxNotificationId; startId += batchSize) {
+                long toId = Math.min(startId + batchSize - 1, maxNotificationId);
+                if (archiveEnabled && archiveWriter == null) {
+                    archiveWriter = openArchive();
+                }
+                purgedCount += purgeBatch(startId, toId, threshold, archiveWriter);
+                if (notificationRepository.existsByIdBetweenAndCreatedAtGreaterThanEqual(startId, toId, threshold)) {
+                    break;
+                }
+                scannedToId = toId;
+                if (System.nanoTime() - deadlineNanos > 0 || !pause()) {
+                    break;
+                }
+            }
+        } finally {
+            if (archiveWriter != null) {
+                archiveWriter.close();
+            }
+        }
+        return new PurgeResult(purgedCount, scannedToId);
+    }
+
+    private int purgeBatch(long fromId, long toId, LocalDateTime threshold, BufferedWriter archiveWriter) {
+        Integer purgedCount = transactionTemplate.execute(status -> {
+            List<Notification> notifications = notificationRepository.findReadCreatedBefore(fromId, toId, threshold);
+            if (notifications.isEmpty()) {
+                return 0;
+            }
+            if (archiveWriter != null) {
+                archive(archiveWriter, notifications);
+            }
+            List<Long> notificationIds = notifications.stream()
+                    .map(Notification::getId)
+                    .toList();
+            return notificationRepository.deleteAllByIdIn(notificationIds);
+        });
+        purgedCounter.increment(purgedCount);
+        return purgedCount;
+    }
+
+    private BufferedWriter openArchive() throws IOException {
+        Files.createDirectories(archiveDirectory);
+        String fileName = "notifications-" + LocalDateTime.now().format(ARCHIVE_FILE_TIME_FORMAT) + ".jsonl.gz";
+        Path archiveFile = archiveDirectory.resolve(fileName);
+        log.info("삭제할 알림을 {}에 보관", archiveFile);
+        // syncFlush: flush마다 압축 블록을 내보내 삭제 전에 보관한 행이 파일에 남게 한다
+        GZIPOutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(archiveFile), true);
+        return new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    private void archive(BufferedWriter archiveWriter, List<Notification> notifications) {
+        try {
+            for (Notification notification : notifications) {
+                archiveWriter.write(objectMapper.writeValueAsString(ArchivedNotification.from(notification)));
+                archiveWriter.newLine();
+            }
+            archiveWriter.flush();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림을 보관 형식으로 변환하지 못했습니다.", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        archivedCounter.increment(notifications.size());
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    record PurgeResult(int purgedCount, long scannedToId) {
+    }
+
+    // 연관 사용자는 id만 남겨 프록시를 초기화하지 않는다
+    private record ArchivedNotification(
+            Long id,
+            Long senderId,
+            Long receiverId,
+            NotificationType type,
+            RouteParams routeParams,
+            boolean isRead,
+            LocalDateTime createdAt,
+            LocalDateTime modifiedAt
+    ) {
+
+        private static ArchivedNotification from(Notification notification) {
+            return new ArchivedNotification(
+                    notification.getId(),
+                    notification.getSender() == null ? null : notification.getSender().getId(),
+                    notification.getReceiver().getId(),
+                    notification.getType(),
+                    notification.getRouteParams(),
+                    notification.isRead(),
+                    notification.getCreatedAt(),
+                    notification.getModifiedAt()
+            );
+        }
+    }
+}
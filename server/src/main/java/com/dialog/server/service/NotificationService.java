@@ -5,8 +5,10 @@ import com.dialog.server.domain.Notification;
 import com.dialog.server.domain.NotificationType;
 import com.dialog.server.domain.RouteParams;
 import com.dialog.server.domain.User;
+import com.dialog.server.dto.notification.request.NotificationCursorPageRequest;
 import com.dialog.server.dto.notification.request.NotificationPageRequest;
 import com.dialog.server.dto.notification.resposne.MyTokenResponse;
+import com.dialog.server.dto.notification.resposne.NotificationCursorPageResponse;
 import com.dialog.server.dto.notification.resposne.NotificationPageResponse;
 import com.dialog.server.dto.notification.resposne.NotificationResponse;
 import com.dialog.server.dto.notification.resposne.TokenCreationResponse;
@@ -17,7 +19,6 @@ import com.dialog.server.exception.ErrorCode;
 import com.dialog.server.repository.MessagingTokenRepository;
 import com.dialog.server.repository.NotificationRepository;
 import com.dialog.server.repository.UserRepository;
-import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,21 +27,29 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @RequiredArgsConstructor
 @Slf4j
 @Service
 public class NotificationService {
+
+    private static final String DISCUSSION_CREATED_TITLE = "Dialog";
+    private static final String DISCUSSION_CREATED_BODY = "새 토론 게시글이 등록되었습니다.";
+
     private final MessagingTokenRepository messagingTokenRepository;
-    private final UserRepository userRepository;
+    private final AuthenticatedUserReader authenticatedUserReader;
     private final FcmService fcmService;
     private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final PlatformTransactionManager transactionManager;
 
     public TokenCreationResponse addMessagingToken(Long userId, String token) {
-        final User user = userRepository.findById(userId)
-                .orElseThrow(() -> new DialogException(ErrorCode.USER_NOT_FOUND));
+        final User user = authenticatedUserReader.getActiveUser(userId);
         final MessagingToken messagingToken = MessagingToken.builder()
                 .user(user)
                 .fcmToken(token)
@@ -53,16 +62,14 @@ public class NotificationService {
     }
 
     public List<MyTokenResponse> getMessagingTokensByUserId(Long userId) {
-        final User user = userRepository.findById(userId)
-                .orElseThrow(() -> new DialogException(ErrorCode.USER_NOT_FOUND));
+        final User user = authenticatedUserReader.getActiveUser(userId);
         return messagingTokenRepository.findMessagingTokensByUser(user).stream()
                 .map(MyTokenResponse::from)
                 .toList();
     }
 
     public void updateToken(Long userId, Long tokenId, String newToken) {
-        final User user = userRepository.findById(userId)
-                .orElseThrow(() -> new DialogException(ErrorCode.USER_NOT_FOUND));
+        final User user = authenticatedUserReader.getActiveUser(userId);
         final MessagingToken messagingToken = messagingTokenRepository.findById(tokenId)
                 .orElseThrow(() -> new DialogException(ErrorCode.MESSAGING_TOKEN_NOT_FOUND));
         if (!messagingToken.getUser().getId().equals(user.getId())) {
@@ -71,22 +78,18 @@ public class NotificationService {
         messagingToken.updateToken(newToken);
     }
 
+    // FCM 호출 동안 커넥션을 잡지 않도록 트랜잭션 없이 발송하고, 만료 토큰 삭제만 배치마다 짧은 트랜잭션으로 실행한다
     public void sendDiscussionCreatedNotification(Long authorId, String path) {
-        final User author = userRepository.findById(authorId)
-                .orElseThrow(() -> new DialogException(ErrorCode.USER_NOT_FOUND));
-        final List<Long> notificationTargetIds = userRepository.findByWebPushNotificationAndIdNot(
-                        true, author.getId()
-                ).stream()
-                .map(User::getId)
-                .toList();
-        final List<String> toSend = messagingTokenRepository.findByUserIdIn(notificationTargetIds).stream()
-                .map(MessagingToken::getFcmToken)
-                .toList();
-        for (String token : toSend) {
-            try {
-                fcmService.sendNotification(token, "Dialog", "새 토론 게시글이 등록되었습니다.", path);
-            } catch (Exception e) {
-                log.error("Fail to send push notification, receiver token : {}", token);
+        final List<String> toSend = messagingTokenRepository.findPushTargetTokens(authorId);
+        for (int from = 0; from < toSend.size(); from += FcmService.MAX_MULTICAST_TOKENS) {
+            List<String> batch = toSend.subList(from, Math.min(from + FcmService.MAX_MULTICAST_TOKENS, toSend.size()));
+            List<String> unregisteredTokens = fcmService.sendMulticast(
+                    batch, DISCUSSION_CREATED_TITLE, DISCUSSION_CREATED_BODY, path
+            );
+            if (!unregisteredTokens.isEmpty()) {
+                new TransactionTemplate(transactionManager).executeWithoutResult(
+                        status -> messagingTokenRepository.deleteByFcmTokenIn(unregisteredTokens)
+                );
             }
         }
     }
@@ -101,27 +104,27 @@ public class NotificationService {
                 .build();
 
         Notification savedNotification = notificationRepository.save(notification);
-        Long unreadCount = notificationRepository.countByReceiverAndIsReadFalse(receiver);
+        Long unreadCount = unreadNotificationCounter.increase(receiver.getId());
 
         eventPublisher.publishEvent(new NotificationCreatedEvent(savedNotification, unreadCount));
     }
 
     @Transactional(readOnly = true)
     public NotificationPageResponse getNotificationPage(Long userId, NotificationPageRequest request) {
-        User receiver = userRepository.findById(userId)
-                .orElseThrow(() -> new DialogException(ErrorCode.USER_NOT_FOUND));
+        User receiver = authenticatedUserReader.getActiveUser(userId);
 
         Pageable pageable = PageRequest.of(request.page(), request.size());
 
         Page<Notification> notificationPage = notificationRepository.findAllByReceiverOrderByCreatedAtDesc(receiver,
                 pageable);
 
+        long readWatermark = getReadWatermark(receiver.getId());
         List<NotificationResponse> notificationResponses = notificationPage.getContent()
                 .stream()
-                .map(NotificationResponse::from)
+                .map(notification -> NotificationResponse.from(notification, readWatermark))
                 .toList();
 
-        Long unreadCount = notificationRepository.countByReceiverAndIsReadFalse(receiver);
+        Long unreadCount = unreadNotificationCounter.get(receiver.getId());
 
         return NotificationPageResponse.of(
                 notificationResponses,
@@ -132,40 +135,96 @@ public class NotificationService {
         );
     }
 
+    @Transactional(readOnly = true)
+    public NotificationCursorPageResponse getNotificationCursorPage(Long userId, NotificationCursorPageRequest request) {
+        User receiver = authenticatedUserReader.getActiveUser(userId);
+
+        int pageSize = request.size();
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        List<Notification> notifications;
+        if (request.lastCursorId() == null) {
+            notifications = notificationRepository.findFirstPageByReceiver(pageRequest, receiver);
+        } else {
+            notifications = notificationRepository.findPageByReceiver(pageRequest, receiver, request.lastCursorId());
+        }
+
+        boolean hasNext = notifications.size() > pageSize;
+        Long nextCursorId = null;
+        List<Notification> pagingNotifications = notifications;
+        if (hasNext) {
+            nextCursorId = notifications.getLast().getId();
+            pagingNotifications = notifications.subList(0, pageSize);
+        }
+
+        long readWatermark = getReadWatermark(receiver.getId());
+        List<NotificationResponse> notificationResponses = pagingNotifications.stream()
+                .map(notification -> NotificationResponse.from(notification, readWatermark))
+                .toList();
+        Long unreadCount = unreadNotificationCounter.get(receiver.getId());
+
+        return new NotificationCursorPageResponse(notificationResponses, unreadCount, nextCursorId, hasNext, pageSize);
+    }
+
     @Transactional(readOnly = true)
     public Long getUnreadCount(Long userId) {
-        User receiver = userRepository.findById(userId)
+        return unreadNotificationCounter.get(userId);
+    }
+
+    @Transactional(readOnly = true)
+    public long getReadWatermark(Long userId) {
+        return userRepository.findNotificationReadWatermark(userId)
                 .orElseThrow(() -> new DialogException(ErrorCode.USER_NOT_FOUND));
-        return notificationRepository.countByReceiverAndIsReadFalse(receiver);
     }
 
     @Transactional
     public void updateNotificationAsRead(Long userId, Long notificationId) {
-        User receiver = userRepository.findById(userId)
-                .orElseThrow(() -> new DialogException(ErrorCode.USER_NOT_FOUND));
+        User receiver = authenticatedUserReader.getActiveUser(userId);
 
         Notification notification = notificationRepository.findByIdAndReceiver(notificationId, receiver)
                 .orElseThrow(() -> new DialogException(ErrorCode.NOTIFICATION_NOT_FOUND));
 
-        notification.read();
+        if (!notification.isRead(getReadWatermark(receiver.getId()))) {
+            notification.read();
+            unreadNotificationCounter.decrease(receiver.getId());
+        }
     }
 
     @Transactional
     public void updateAllNotificationAsRead(Long userId) {
-        User receiver = userRepository.findById(userId)
-                .orElseThrow(() -> new DialogException(ErrorCode.USER_NOT_FOUND));
+        User receiver = authenticatedUserReader.getActiveUser(userId);
 
-        int updateCount = notificationRepository.bulkUpdateAsRead(receiver, LocalDateTime.now());
+        // 알림 행은 건드리지 않고, 카운터 초기화와 워터마크 이동을 사용자 행 하나를 잠그는 UPDATE 한 번으로 처리한다
+        int updateCount = unreadNotificationCounter.markAllRead(receiver.getId());
 
         if (updateCount > 0) {
-            Long newUnreadCount = notificationRepository.countByReceiverAndIsReadFalse(receiver);
-            eventPublisher.publishEvent(new NotificationsReadEvent(userId, newUnreadCount));
+            eventPublisher.publishEvent(new NotificationsReadEvent(userId, 0L));
         }
     }
 
+    /**
+     * [fromUserId, toUserId] 구간 사용자의 안 읽은 알림 수를 알림 테이블에서 다시 센다.
+     */
+    @Transactional
+    public int backfillUnreadCounts(Long fromUserId, Long toUserId) {
+        return userRepository.backfillUnreadNotificationCounts(fromUserId, toUserId);
+    }
+
+    /**
+     * [fromUserId, toUserId] 구간 사용자의 읽음 워터마크와 안 읽은 알림 수를 알림 테이블에서 다시 계산한다.
+     */
+    @Transactional
+    public int backfillReadWatermarks(Long fromUserId, Long toUserId) {
+        return userRepository.backfillNotificationReadWatermarks(fromUserId, toUserId);
+    }
+
+    @Transactional(readOnly = true)
+    public long getMaxUserId() {
+        return userRepository.findMaxId();
+    }
+
     @Transactional(readOnly = true)
     public List<Notification> findMissedNotifications(User user, Long lastNotificationId) {
-        return notificationRepository.findAllByReceiverAndIdGreaterThanOrderByCreatedAtAsc(
+        return notificationRepository.findAllByReceiverAndIdGreaterThanOrderByIdAsc(
                 user, lastNotificationId);
     }
 }
@@ -0,0 +1,186 @@
+package com.dialog.server.service;
+
+import com.dialog.server.domain.Notification;
+import com.dialog.server.domain.User;
+import com.dialog.server.dto.notification.resposne.NotificationPollingResponse;
+import com.dialog.server.event.NotificationDeliveryEvent;
+import com.dialog.server.exception.DialogException;
+import com.dialog.server.exception.ErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * SSE로 알림을 전달한다.
+ * 연결은 재요청 없이 유지되며, 프록시가 유휴 연결을 끊지 않도록 전용 스레드에서 주기적으로 heartbeat 주석을 보낸다.
+ * 새 알림 이벤트의 ID는 알림 ID이므로 재연결 시 Last-Event-ID 이후의 알림을 다시 보내준다.
+ */
+@Slf4j
+@Service
+public class NotificationStreamService {
+
+    private static final String NOTIFICATION_EVENT = "notification";
+    private static final String CONNECTED_EVENT = "connected";
+
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final NotificationService notificationService;
+    private final AuthenticatedUserReader authenticatedUserReader;
+    private final Duration streamTimeout;
+    private final int maxConnections;
+    private final Duration heartbeatInterval;
+    private final ScheduledThreadPoolExecutor heartbeatExecutor;
+
+    public NotificationStreamService(
+            NotificationService notificationService,
+            AuthenticatedUserReader authenticatedUserReader,
+            MeterRegistry meterRegistry,
+            @Value("${notification.stream.timeout:30m}") Duration streamTimeout,
+            @Value("${notification.stream.max-connections:10000}") int maxConnections,
+            @Value("${notification.stream.heartbeat-interval:15s}") Duration heartbeatInterval
+    ) {
+        this.notificationService = notificationService;
+        this.authenticatedUserReader = authenticatedUserReader;
+        this.streamTimeout = streamTimeout;
+        this.maxConnections = maxConnections;
+        this.heartbeatInterval = heartbeatInterval;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("notification-stream-heartbeat-");
+        threadFactory.setDaemon(true);
+        this.heartbeatExecutor = new ScheduledThreadPoolExecutor(1, threadFactory);
+        Gauge.builder("notification.stream.connections", connectionCount, AtomicInteger::get)
+                .description("열려 있는 SSE 알림 연결 수")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Long userId, Long lastEventId) {
+        User user = authenticatedUserReader.getActiveUser(userId);
+        Long unreadCount = notificationService.getUnreadCount(userId);
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            throw new DialogException(ErrorCode.NOTIFICATION_STREAM_LIMIT_EXCEEDED);
+        }
+
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        emitters.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(emitter);
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(userId, emitter));
+
+        send(userId, emitter, SseEmitter.event()
+                .name(CONNECTED_EVENT)
+                .data(NotificationPollingResponse.createBulkReadResponse(unreadCount)));
+        if (lastEventId != null) {
+            replayMissedNotifications(user, emitter, lastEventId, unreadCount);
+        }
+        return emitter;
+    }
+
+    @EventListener
+    public void handleNotificationDelivery(NotificationDeliveryEvent event) {
+        Long notificationId = event.getNotificationId();
+        broadcast(event.getReceiverId(), () -> {
+            SseEventBuilder builder = SseEmitter.event()
+                    .name(NOTIFICATION_EVENT)
+                    .data(event.getResponse());
+            return notificationId == null ? builder : builder.id(String.valueOf(notificationId));
+        });
+    }
+
+    // 느린 클라이언트에 쓰느라 막혀도 공유 스케줄러 스레드의 다른 작업이 밀리지 않도록 전용 스레드에서 보낸다
+    @PostConstruct
+    void startHeartbeats() {
+        long intervalMillis = heartbeatInterval.toMillis();
+        heartbeatExecutor.scheduleWithFixedDelay(
+                this::sendHeartbeatsQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS
+        );
+    }
+
+    public void sendHeartbeats() {
+        emitters.forEach((userId, userEmitters) ->
+                userEmitters.forEach(emitter -> send(userId, emitter, SseEmitter.event().comment("heartbeat")))
+        );
+    }
+
+    // 종료 시 열린 연결을 모두 닫아 클라이언트가 다른 노드로 재연결하게 한다
+    @PreDestroy
+    public void completeAll() {
+        heartbeatExecutor.shutdownNow();
+        emitters.forEach((userId, userEmitters) -> userEmitters.forEach(emitter -> {
+            emitter.complete();
+            remove(userId, emitter);
+        }));
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    private void replayMissedNotifications(User user, SseEmitter emitter, Long lastEventId, Long unreadCount) {
+        List<Notification> missedNotifications = notificationService.findMissedNotifications(user, lastEventId);
+        if (missedNotifications.isEmpty()) {
+            return;
+        }
+        long readWatermark = notificationService.getReadWatermark(user.getId());
+        for (Notification notification : missedNotifications) {
+            send(user.getId(), emitter, SseEmitter.event()
+                    .id(String.valueOf(notification.getId()))
+                    .name(NOTIFICATION_EVENT)
+                    .data(NotificationPollingResponse.of(notification, readWatermark, unreadCount)));
+        }
+    }
+
+    // 예외가 밖으로 나가면 이후 heartbeat가 모두 취소되므로 여기서 막는다
+    private void sendHeartbeatsQuietly() {
+        try {
+            sendHeartbeats();
+        } catch (Exception e) {
+            log.warn("Failed to send notification stream heartbeats: {}", e.getMessage());
+        }
+    }
+
+    private void broadcast(Long userId, Supplier<SseEventBuilder> event) {
+        Set<SseEmitter> userEmitters = emitters.get(userId);
+        if (userEmitters == null) {
+            return;
+        }
+        userEmitters.forEach(emitter -> send(userId, emitter, event.get()));
+    }
+
+    private void send(Long userId, SseEmitter emitter, SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Failed to send notification stream event to a disconnected client: {}", userId);
+            // 비동기 요청을 바로 끝내야 컨테이너가 타임아웃까지 연결을 붙잡고 있지 않는다
+            emitter.completeWithError(e);
+            remove(userId, emitter);
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (id, userEmitters) -> {
+            if (userEmitters.remove(emitter)) {
+                connectionCount.decrementAndGet();
+            }
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+    }
+}
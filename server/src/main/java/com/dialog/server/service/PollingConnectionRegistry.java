@@ -0,0 +1,92 @@
+package com.dialog.server.service;
+
+import com.dialog.server.dto.notification.resposne.NotificationPollingResponse;
+import com.dialog.server.exception.ApiSuccessResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * 대기 중인 롱폴링 요청을 사용자 ID → (세션 ID → DeferredResult) 구조로 보관한다.
+ * 알림 전파 시 수신자의 세션만 조회하므로 전체 연결 수와 무관하게 동작한다.
+ */
+@Slf4j
+@Component
+public class PollingConnectionRegistry {
+
+    private final Map<Long, Map<String, DeferredResult<ResponseEntity<ApiSuccessResponse<NotificationPollingResponse>>>>>
+            waitingRequests = new ConcurrentHashMap<>();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+
+    public PollingConnectionRegistry(MeterRegistry meterRegistry) {
+        Gauge.builder("notification.polling.users", waitingRequests, Map::size)
+                .description("롱폴링으로 대기 중인 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.polling.sessions", sessionCount, AtomicInteger::get)
+                .description("롱폴링으로 대기 중인 세션 수")
+                .register(meterRegistry);
+    }
+
+    public void register(
+            Long userId,
+            String sessionId,
+            DeferredResult<ResponseEntity<ApiSuccessResponse<NotificationPollingResponse>>> deferredResult
+    ) {
+        deferredResult.onCompletion(() -> unregister(userId, sessionId, deferredResult));
+        waitingRequests.compute(userId, (id, sessions) -> {
+            Map<String, DeferredResult<ResponseEntity<ApiSuccessResponse<NotificationPollingResponse>>>> userSessions =
+                    sessions == null ? new ConcurrentHashMap<>() : sessions;
+            if (userSessions.put(sessionId, deferredResult) == null) {
+                sessionCount.incrementAndGet();
+            }
+            return userSessions;
+        });
+    }
+
+    public void notify(Long userId, NotificationPollingResponse response) {
+        Map<String, DeferredResult<ResponseEntity<ApiSuccessResponse<NotificationPollingResponse>>>> sessions =
+                waitingRequests.remove(userId);
+        if (sessions == null) {
+            return;
+        }
+        sessionCount.addAndGet(-sessions.size());
+
+        sessions.forEach((sessionId, deferredResult) -> {
+            if (deferredResult.isSetOrExpired()) {
+                return;
+            }
+            try {
+                deferredResult.setResult(ResponseEntity.ok(new ApiSuccessResponse<>(response)));
+            } catch (Exception e) {
+                log.debug("Failed to send notification to a disconnected client: {}_{}", userId, sessionId);
+            }
+        });
+    }
+
+    public int getUserCount() {
+        return waitingRequests.size();
+    }
+
+    public int getSessionCount() {
+        return sessionCount.get();
+    }
+
+    private void unregister(
+            Long userId,
+            String sessionId,
+            DeferredResult<ResponseEntity<ApiSuccessResponse<NotificationPollingResponse>>> deferredResult
+    ) {
+        waitingRequests.computeIfPresent(userId, (id, sessions) -> {
+            if (sessions.remove(sessionId, deferredResult)) {
+                sessionCount.decrementAndGet();
+            }
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+}
@@ -3,35 +3,25 @@ package com.dialog.server.service;
 import com.dialog.server.domain.Notification;
 import com.dialog.server.domain.User;
 import com.dialog.server.dto.notification.resposne.NotificationPollingResponse;
-import com.dialog.server.event.NotificationCreatedEvent;
-import com.dialog.server.event.NotificationsReadEvent;
+import com.dialog.server.event.NotificationDeliveryEvent;
 import com.dialog.server.exception.ApiSuccessResponse;
-import com.dialog.server.exception.DialogException;
-import com.dialog.server.exception.ErrorCode;
-import com.dialog.server.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.context.request.async.DeferredResult;
 
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PollingNotificationService {
 
-    private final Map<String, DeferredResult<ResponseEntity<ApiSuccessResponse<NotificationPollingResponse>>>>
-            waitingRequests = new ConcurrentHashMap<>();
-
     private final NotificationService notificationService;
-    private final UserRepository userRepository;
+    private final AuthenticatedUserReader authenticatedUserReader;
+    private final PollingConnectionRegistry connectionRegistry;
 
     public void pollNotifications(
             Long userId,
@@ -39,64 +29,29 @@ public class PollingNotificationService {
             Long lastNotificationId,
             DeferredResult<ResponseEntity<ApiSuccessResponse<NotificationPollingResponse>>> deferredResult
     ) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new DialogException(ErrorCode.USER_NOT_FOUND));
+        User user = authenticatedUserReader.getActiveUser(userId);
 
         if (lastNotificationId != null) {
             List<Notification> missedNotifications = notificationService.findMissedNotifications(user, lastNotificationId);
             if (!missedNotifications.isEmpty()) {
                 Long unreadCount = notificationService.getUnreadCount(user.getId());
+                long readWatermark = notificationService.getReadWatermark(user.getId());
                 NotificationPollingResponse response = NotificationPollingResponse.of(
-                        missedNotifications, unreadCount);
+                        missedNotifications, readWatermark, unreadCount);
                 deferredResult.setResult(ResponseEntity.ok(new ApiSuccessResponse<>(response)));
                 return;
             }
         }
 
-        String connectionKey = createConnectionKey(user.getId(), sessionId);
-        deferredResult.onCompletion(() -> waitingRequests.remove(connectionKey));
-        waitingRequests.put(connectionKey, deferredResult);
-    }
-
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void handleNotificationEvent(NotificationCreatedEvent event) {
-        Notification savedNotification = event.getNotification();
-        Long unreadCount = event.getUnreadCount();
-        User receiver = savedNotification.getReceiver();
-        notifyToActivePollers(receiver.getId(), NotificationPollingResponse.of(savedNotification, unreadCount));
+        connectionRegistry.register(user.getId(), sessionId, deferredResult);
     }
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void handleNotificationsReadEvent(NotificationsReadEvent event) {
-        notifyToActivePollers(event.getUserId(), NotificationPollingResponse.createBulkReadResponse(event.getUnreadCount()));
+    @EventListener
+    public void handleNotificationDelivery(NotificationDeliveryEvent event) {
+        notifyToActivePollers(event.getReceiverId(), event.getResponse());
     }
 
     public void notifyToActivePollers(Long receiverId, NotificationPollingResponse response) {
-        List<String> connections = waitingRequests.keySet().stream()
-                .filter(key -> key.startsWith(receiverId.toString()))
-                .toList();
-
-        for (String connection : connections) {
-            DeferredResult<ResponseEntity<ApiSuccessResponse<NotificationPollingResponse>>> deferredResult =
-                    waitingRequests.get(connection);
-
-            if (deferredResult != null && !deferredResult.isSetOrExpired()) {
-                try {
-                    deferredResult.setResult(
-                            ResponseEntity.ok(new ApiSuccessResponse<>(response))
-                    );
-                } catch (Exception e) {
-                    log.debug("Failed to send notification to a disconnected client: {}", connection);
-                } finally {
-                    waitingRequests.remove(connection);
-                }
-            }
-        }
-    }
-
-    private String createConnectionKey(Long userId, String sessionId) {
-        return userId + "_" + sessionId;
+        connectionRegistry.notify(receiverId, response);
     }
 }
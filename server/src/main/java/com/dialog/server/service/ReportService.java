@@ -12,7 +12,6 @@ import com.dialog.server.repository.CommentReportRepository;
 import com.dialog.server.repository.DiscussionCommentRepository;
 import com.dialog.server.repository.DiscussionReportRepository;
 import com.dialog.server.repository.DiscussionRepository;
-import com.dialog.server.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,7 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ReportService {
 
-    private final UserRepository userRepository;
+    private final AuthenticatedUserReader authenticatedUserReader;
     private final DiscussionRepository discussionRepository;
     private final DiscussionCommentRepository discussionCommentRepository;
     private final DiscussionReportRepository discussionReportRepository;
@@ -70,8 +69,7 @@ public class ReportService {
     }
 
     private User getUserById(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException(userId + "에 해당하는 user를 찾을 수 없습니다."));
+        return authenticatedUserReader.getActiveUser(userId);
     }
 
     private Discussion getDiscussionById(Long discussionId) {
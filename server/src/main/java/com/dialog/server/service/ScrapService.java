@@ -1,5 +1,6 @@
 package com.dialog.server.service;
 
+import com.dialog.server.domain.AuthorCard;
 import com.dialog.server.domain.Discussion;
 import com.dialog.server.domain.OfflineDiscussion;
 import com.dialog.server.domain.OnlineDiscussion;
@@ -12,17 +13,12 @@ import com.dialog.server.dto.response.DiscussionPreviewResponse;
 import com.dialog.server.dto.response.ScrapCursorPageResponse;
 import com.dialog.server.exception.DialogException;
 import com.dialog.server.exception.ErrorCode;
-import com.dialog.server.repository.DiscussionCommentRepository;
 import com.dialog.server.repository.DiscussionRepository;
-import com.dialog.server.repository.LikeRepository;
 import com.dialog.server.repository.ProfileImageRepository;
 import com.dialog.server.repository.ScrapRepository;
-import com.dialog.server.repository.UserRepository;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -33,11 +29,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class ScrapService {
 
     private final ScrapRepository scrapRepository;
-    private final UserRepository userRepository;
+    private final AuthenticatedUserReader authenticatedUserReader;
     private final DiscussionRepository discussionRepository;
     private final ProfileImageRepository profileImageRepository;
-    private final DiscussionCommentRepository discussionCommentRepository;
-    private final LikeRepository likeRepository;
+    private final AuthorCardService authorCardService;
 
     @Transactional
     public DiscussionDetailResponse create(Long userId, Long discussionId) {
@@ -51,6 +46,7 @@ public class ScrapService {
                 .discussion(discussion)
                 .build();
         scrapRepository.save(scrap);
+        discussionRepository.updateScrapCount(discussion.getId(), 1);
 
         return getDiscussionDetailResponse(discussion);
     }
@@ -63,6 +59,7 @@ public class ScrapService {
             throw new DialogException(ErrorCode.NOT_SCRAPPED_YET);
         }
         scrapRepository.deleteByUserAndDiscussion(user, discussion);
+        discussionRepository.updateScrapCount(discussion.getId(), -1);
     }
 
     @Transactional(readOnly = true)
@@ -90,8 +87,7 @@ public class ScrapService {
     }
 
     private User getUserById(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException(userId + "에 해당하는 user를 찾을 수 없습니다."));
+        return authenticatedUserReader.getActiveUser(userId);
     }
 
     private Discussion getDiscussionById(Long discussionId) {
@@ -120,22 +116,21 @@ public class ScrapService {
                 .map(Scrap::getDiscussion)
                 .toList();
 
-        Map<User, ProfileImage> userProfileImageMap = getAuthorProfileImages(pagingDiscussions);
-        Map<Long, Long> commentCountMap = getDiscussionCommentCounts(pagingDiscussions);
+        Map<Long, AuthorCard> authorCards = authorCardService.getAuthorCards(pagingDiscussions, Discussion::getAuthor);
 
         List<DiscussionPreviewResponse> responses = pagingDiscussions.stream()
                 .map(discussion -> {
                             if (discussion instanceof OfflineDiscussion offlineDiscussion) {
                                 return DiscussionPreviewResponse.fromOfflineDiscussion(
                                         offlineDiscussion,
-                                        userProfileImageMap.get(offlineDiscussion.getAuthor()),
-                                        commentCountMap.getOrDefault(offlineDiscussion.getId(), 0L)
+                                        authorCards.get(offlineDiscussion.getAuthor().getId()),
+                                        offlineDiscussion.getCommentCount()
                                 );
                             } else if (discussion instanceof OnlineDiscussion onlineDiscussion) {
                                 return DiscussionPreviewResponse.fromOnlineDiscussion(
                                         onlineDiscussion,
-                                        userProfileImageMap.get(onlineDiscussion.getAuthor()),
-                                        commentCountMap.getOrDefault(onlineDiscussion.getId(), 0L)
+                                        authorCards.get(onlineDiscussion.getAuthor().getId()),
+                                        onlineDiscussion.getCommentCount()
                                 );
                             }
                             throw new DialogException(ErrorCode.BAD_REQUEST);
@@ -146,25 +141,9 @@ public class ScrapService {
         return new ScrapCursorPageResponse<>(responses, nextCursorId, hasNext, requestPageSize);
     }
 
-    private Map<User, ProfileImage> getAuthorProfileImages(List<Discussion> discussions) {
-        List<User> discussionAuthors = discussions.stream().map(Discussion::getAuthor).toList();
-        List<ProfileImage> discussionAuthorProfileImages = profileImageRepository.findAllByUserIn(discussionAuthors);
-        return discussionAuthorProfileImages.stream()
-                .collect(Collectors.toMap(ProfileImage::getUser, Function.identity()));
-    }
-
-    private Map<Long, Long> getDiscussionCommentCounts(List<Discussion> discussions) {
-        List<Long> discussionIds = discussions.stream().map(Discussion::getId).toList();
-        return discussionIds.stream()
-                .collect(Collectors.toMap(
-                        Function.identity(),
-                        discussionCommentRepository::countByDiscussionId
-                ));
-    }
-
     private DiscussionDetailResponse getDiscussionDetailResponse(final Discussion discussion) {
         ProfileImage profileImage = profileImageRepository.findByUser(discussion.getAuthor()).orElse(null);
-        long likeCount = likeRepository.countByDiscussion(discussion);
+        long likeCount = discussion.getLikeCount();
 
         if (discussion instanceof OfflineDiscussion offlineDiscussion) {
             return DiscussionDetailResponse.fromOfflineDiscussion(
@@ -0,0 +1,42 @@
+package com.dialog.server.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * notification.unread-count.backfill=true로 기동하면 사용자별 안 읽은 알림 수 컬럼을 알림 테이블에서 다시 센다.
+ * 컬럼이 추가되기 전부터 있던 사용자는 0으로 시작하므로, 배포 직후 실제 안 읽은 알림 수로 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.unread-count.backfill", havingValue = "true")
+class UnreadNotificationCountBackfillRunner implements ApplicationRunner {
+
+    private static final long BATCH_SIZE = 1_000L;
+
+    private final NotificationService notificationService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long maxUserId = notificationService.getMaxUserId();
+
+        log.info("안 읽은 알림 수 채우기 시작 (최대 사용자 ID: {})", maxUserId);
+
+        int backfilledCount = 0;
+        for (long fromId = 1; fromId <= maxUserId; fromId += BATCH_SIZE) {
+            long toId = Math.min(fromId + BATCH_SIZE - 1, maxUserId);
+            try {
+                backfilledCount += notificationService.backfillUnreadCounts(fromId, toId);
+            } catch (Exception e) {
+                log.error("사용자 ID {}~{} 안 읽은 알림 수 채우기 실패: {}", fromId, toId, e.getMessage());
+            }
+        }
+
+        log.info("안 읽은 알림 수 채우기 완료: {}명", backfilledCount);
+    }
+}
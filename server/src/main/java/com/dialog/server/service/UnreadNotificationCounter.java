@@ -0,0 +1,74 @@
+package com.dialog.server.service;
+
+import com.dialog.server.event.NotificationDeliveryEvent;
+import com.dialog.server.exception.DialogException;
+import com.dialog.server.exception.ErrorCode;
+import com.dialog.server.repository.UserRepository;
+import com.dialog.server.util.TtlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 읽지 않은 알림 수를 users.unread_notification_count 컬럼으로 관리하고, 메모리에 캐싱한다.
+ * 컬럼은 알림 생성/읽음과 같은 트랜잭션에서 갱신하고, 캐시는 미리 계산한 값을 넣지 않고 지우기만 한다.
+ * TtlCache가 트랜잭션이 끝난 뒤 한 번 더 지우므로 커밋 전 값이 캐시에 남지 않는다.
+ * 다른 노드에서 변경된 값은 알림 전달 이벤트로 캐시를 비우고, 놓친 변경은 TTL이 지나면 다시 읽는다.
+ */
+@Component
+public class UnreadNotificationCounter {
+
+    private final UserRepository userRepository;
+    private final TtlCache<Long, Long> cache;
+
+    public UnreadNotificationCounter(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${notification.unread-count.cache-ttl:1m}") Duration ttl,
+            @Value("${notification.unread-count.cache-max-size:50000}") int maxSize
+    ) {
+        this.userRepository = userRepository;
+        this.cache = new TtlCache<>(meterRegistry, "notification.unread-count.cache", "안 읽은 알림 수", ttl, maxSize);
+    }
+
+    public long get(Long userId) {
+        return cache.get(userId, this::load);
+    }
+
+    public long increase(Long userId) {
+        userRepository.updateUnreadNotificationCount(userId, 1);
+        return reload(userId);
+    }
+
+    public long decrease(Long userId) {
+        userRepository.updateUnreadNotificationCount(userId, -1);
+        return reload(userId);
+    }
+
+    /**
+     * 지금까지 받은 알림까지 읽음 워터마크를 올리고 안 읽은 알림 수를 0으로 만든다. 바뀐 것이 없으면 0을 반환한다.
+     */
+    public int markAllRead(Long userId) {
+        int updateCount = userRepository.markAllNotificationsRead(userId);
+        cache.invalidate(userId);
+        return updateCount;
+    }
+
+    @EventListener
+    public void handleNotificationDelivery(NotificationDeliveryEvent event) {
+        cache.invalidate(event.getReceiverId());
+    }
+
+    // 현재 트랜잭션에서 바꾼 값을 돌려주되 캐시에는 넣지 않는다
+    private long reload(Long userId) {
+        cache.invalidate(userId);
+        return load(userId);
+    }
+
+    private long load(Long userId) {
+        return userRepository.findUnreadNotificationCount(userId)
+                .orElseThrow(() -> new DialogException(ErrorCode.USER_NOT_FOUND));
+    }
+}
@@ -14,6 +14,8 @@ import com.dialog.server.dto.response.MyTrackGetTrackResponse;
 import com.dialog.server.dto.response.ProfileImageGetResponse;
 import com.dialog.server.dto.response.ProfileImageUpdateResponse;
 import com.dialog.server.dto.security.OAuth2UserInfo;
+import com.dialog.server.event.ProfileImageChangedEvent;
+import com.dialog.server.event.UserUpdatedEvent;
 import com.dialog.server.exception.DialogException;
 import com.dialog.server.exception.ErrorCode;
 import com.dialog.server.repository.ProfileImageRepository;
@@ -22,6 +24,7 @@ import com.dialog.server.util.ImageFileExtractor;
 import com.dialog.server.util.ProfileImageFileInfo;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,6 +38,7 @@ public class UserService {
     private final ProfileImageRepository profileImageRepository;
     private final S3Uploader s3Uploader;
     private final ImageFileExtractor imageFileExtractor;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public UserInfoResponse getUserInfo(Long userId) {
@@ -92,6 +96,7 @@ public class UserService {
         validateConflictProfileImage(user);
         ProfileImage profileImage = createBasicProfileFile(basicProfileUri, user);
         profileImageRepository.save(profileImage);
+        eventPublisher.publishEvent(new ProfileImageChangedEvent(userId));
         return BasicProfileImageResponse.from(profileImage);
     }
 
@@ -101,6 +106,7 @@ public class UserService {
         ProfileImage savedProfileImage = profileImageRepository.findByUser(user)
                 .orElseThrow(() -> new DialogException(ErrorCode.PROFILE_IMAGE_NOT_FOUND));
         ProfileImage updateProfile = uploadAndSaveProfileImage(imageFile, savedProfileImage);
+        eventPublisher.publishEvent(new ProfileImageChangedEvent(userId));
         return ProfileImageUpdateResponse.from(updateProfile);
     }
 
@@ -108,6 +114,7 @@ public class UserService {
     public void modifyUserInfo(Long userId, UserMypageUpdateRequest userMypageUpdateRequest) {
         User user = getUserById(userId);
         user.updateUser(userMypageUpdateRequest.nickname(), userMypageUpdateRequest.track());
+        eventPublisher.publishEvent(new UserUpdatedEvent(userId));
     }
 
     @Transactional(readOnly = true)
@@ -124,6 +131,7 @@ public class UserService {
     public void withdraw(Long userId) {
         User user = getUserById(userId);
         user.withdraw();
+        eventPublisher.publishEvent(new UserUpdatedEvent(userId));
     }
 
     private void validateConflictProfileImage(User user) {
@@ -0,0 +1,77 @@
+package com.dialog.server.util;
+
+import com.dialog.server.exception.DialogException;
+import com.dialog.server.exception.ErrorCode;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * (createdAt, id) 키셋 커서. 클라이언트에는 버전 1바이트 + epoch 마이크로초 8바이트 + id 8바이트를
+ * URL-safe Base64로 인코딩한 고정 길이 문자열로 노출한다. 정렬 키가 바뀌면 버전을 올린다.
+ */
+public record DateCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    private static final byte VERSION = 1;
+    private static final int ENCODED_BYTES = Byte.BYTES + Long.BYTES + Long.BYTES;
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final long NANOS_PER_MICRO = 1_000L;
+    // 배포 전에 발급된 "createdAt_id" 형식 커서. ':'는 Base64 알파벳에 없으므로 두 형식을 구분할 수 있다
+    private static final String LEGACY_DELIMITER = "_";
+    private static final String LEGACY_TIME_SEPARATOR = ":";
+
+    public static DateCursor of(LocalDateTime createdAt, Long id) {
+        return new DateCursor(createdAt.truncatedTo(ChronoUnit.MICROS), id);
+    }
+
+    public static DateCursor decode(String cursor) {
+        if (cursor.contains(LEGACY_TIME_SEPARATOR)) {
+            return decodeLegacy(cursor);
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new DialogException(ErrorCode.INVALID_CURSOR);
+        }
+        if (bytes.length != ENCODED_BYTES) {
+            throw new DialogException(ErrorCode.INVALID_CURSOR);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (buffer.get() != VERSION) {
+            throw new DialogException(ErrorCode.INVALID_CURSOR);
+        }
+        long epochMicros = buffer.getLong();
+        long id = buffer.getLong();
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(
+                Math.floorDiv(epochMicros, MICROS_PER_SECOND),
+                (int) (Math.floorMod(epochMicros, MICROS_PER_SECOND) * NANOS_PER_MICRO),
+                ZoneOffset.UTC
+        );
+        return new DateCursor(createdAt, id);
+    }
+
+    public String encode() {
+        long epochMicros = createdAt.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND
+                + createdAt.getNano() / NANOS_PER_MICRO;
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+                .put(VERSION)
+                .putLong(epochMicros)
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    private static DateCursor decodeLegacy(String cursor) {
+        String[] cursorParts = cursor.split(LEGACY_DELIMITER);
+        try {
+            return new DateCursor(LocalDateTime.parse(cursorParts[0]), Long.valueOf(cursorParts[1]));
+        } catch (RuntimeException e) {
+            throw new DialogException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
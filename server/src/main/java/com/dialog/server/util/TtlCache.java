@@ -0,0 +1,222 @@
+package com.dialog.server.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 노드 메모리에 두는 TTL 캐시. 조회할 때 키마다 읽는 중 자리를 먼저 넣고 그 자리에 값을 채운다.
+ * 같은 키를 동시에 조회하면 한 요청만 읽고 나머지는 그 결과를 기다린다.
+ * 무효화는 읽는 중인 자리까지 지우므로, 무효화 전에 시작한 조회의 결과는 캐시에 남지 않는다.
+ * 트랜잭션 안에서 무효화하면 즉시 한 번, 트랜잭션이 끝난 뒤 한 번 더 지워 커밋 전(또는 롤백된) 값이 남지 않게 한다.
+ * 최대 크기를 넘으면 만료된 항목을 먼저 지우고, 그래도 넘으면 만료가 가장 가까운 항목부터 밀어낸다.
+ */
+public final class TtlCache<K, V> {
+
+    private final Map<K, CachedValue<V>> cache = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final int maxSize;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    /**
+     * @param metricName  requests(hit/miss), evictions, size 지표 이름의 접두어
+     * @param description 지표 설명에 들어갈 캐시 항목 이름 (예: "작성자 카드")
+     */
+    public TtlCache(MeterRegistry meterRegistry, String metricName, String description, Duration ttl, int maxSize) {
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+        this.hitCounter = Counter.builder(metricName + ".requests")
+                .tag("result", "hit")
+                .description("캐시 또는 진행 중인 조회 결과로 응답한 " + description + " 수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(metricName + ".requests")
+                .tag("result", "miss")
+                .description("데이터베이스에서 다시 읽은 " + description + " 수")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder(metricName + ".evictions")
+                .description("최대 크기를 넘어 밀려난 " + description + " 캐시 항목 수")
+                .register(meterRegistry);
+        Gauge.builder(metricName + ".size", cache, Map::size)
+                .description("캐싱된 " + description + " 수")
+                .register(meterRegistry);
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        CachedValue<V> loading = newLoading();
+        CachedValue<V> current = cache.compute(key,
+                (ignored, existing) -> existing == null || existing.isExpired() ? loading : existing);
+        if (current != loading) {
+            hitCounter.increment();
+            return join(current.value());
+        }
+
+        missCounter.increment();
+        evictIfFull();
+        try {
+            V value = loader.apply(key);
+            loading.value().complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            cache.remove(key, loading);
+            loading.value().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 캐시에 없는 키만 모아 loader로 한 번에 읽는다. loader가 돌려주지 않은 키는 결과와 캐시에서 빠진다.
+     */
+    public Map<K, V> getAll(Collection<K> keys, Function<Collection<K>, Map<K, V>> loader) {
+        Map<K, CachedValue<V>> found = new LinkedHashMap<>();
+        Map<K, CachedValue<V>> loadings = new LinkedHashMap<>();
+        for (K key : keys) {
+            if (found.containsKey(key) || loadings.containsKey(key)) {
+                continue;
+            }
+            CachedValue<V> loading = newLoading();
+            CachedValue<V> current = cache.compute(key,
+                    (ignored, existing) -> existing == null || existing.isExpired() ? loading : existing);
+            if (current == loading) {
+                loadings.put(key, loading);
+            } else {
+                found.put(key, current);
+            }
+        }
+        hitCounter.increment(found.size());
+
+        Map<K, V> values = new HashMap<>();
+        if (!loadings.isEmpty()) {
+            missCounter.increment(loadings.size());
+            evictIfFull();
+            values.putAll(load(loadings, loader));
+        }
+        found.forEach((key, cached) -> {
+            V value = join(cached.value());
+            if (value != null) {
+                values.put(key, value);
+            }
+        });
+        return values;
+    }
+
+    public void invalidate(K key) {
+        cache.remove(key);
+        afterCompletion(() -> cache.remove(key));
+    }
+
+    /**
+     * 값이 조건에 맞는 항목을 지운다. 아직 읽는 중이거나 실패한 항목은 무엇을 담을지 모르므로 함께 지운다.
+     */
+    public void invalidateIf(Predicate<V> predicate) {
+        cache.values().removeIf(cached -> cached.matches(predicate));
+        afterCompletion(() -> cache.values().removeIf(cached -> cached.matches(predicate)));
+    }
+
+    public void invalidateAll() {
+        cache.clear();
+        afterCompletion(cache::clear);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private Map<K, V> load(Map<K, CachedValue<V>> loadings, Function<Collection<K>, Map<K, V>> loader) {
+        Map<K, V> loaded;
+        try {
+            loaded = loader.apply(loadings.keySet());
+        } catch (RuntimeException e) {
+            loadings.forEach((key, loading) -> {
+                cache.remove(key, loading);
+                loading.value().completeExceptionally(e);
+            });
+            throw e;
+        }
+        loadings.forEach((key, loading) -> {
+            V value = loaded.get(key);
+            if (value == null) {
+                cache.remove(key, loading);
+            }
+            loading.value().complete(value);
+        });
+        return loaded;
+    }
+
+    private CachedValue<V> newLoading() {
+        return new CachedValue<>(new CompletableFuture<>(), System.nanoTime() + ttl.toNanos());
+    }
+
+    private void evictIfFull() {
+        if (cache.size() <= maxSize) {
+            return;
+        }
+        cache.values().removeIf(CachedValue::isExpired);
+        while (cache.size() > maxSize) {
+            Optional<Entry<K, CachedValue<V>>> earliestExpiring = cache.entrySet().stream()
+                    .filter(entry -> entry.getValue().value().isDone())
+                    .min(Comparator.comparingLong(entry -> entry.getValue().expiresAtNanos()));
+            if (earliestExpiring.isEmpty()) {
+                return;
+            }
+            Entry<K, CachedValue<V>> entry = earliestExpiring.get();
+            if (cache.remove(entry.getKey(), entry.getValue())) {
+                evictionCounter.increment();
+            }
+        }
+    }
+
+    private V join(CompletableFuture<V> value) {
+        try {
+            return value.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void afterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+
+    private record CachedValue<V>(CompletableFuture<V> value, long expiresAtNanos) {
+
+        private boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+
+        private boolean matches(Predicate<V> predicate) {
+            if (!value.isDone() || value.isCompletedExceptionally()) {
+                return true;
+            }
+            V current = value.join();
+            return current != null && predicate.test(current);
+        }
+    }
+}
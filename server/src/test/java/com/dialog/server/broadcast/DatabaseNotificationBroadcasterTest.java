@@ -0,0 +1,169 @@
+package com.dialog.server.broadcast;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dialog.server.domain.NotificationOutbox;
+import com.dialog.server.dto.notification.resposne.NotificationPollingResponse;
+import com.dialog.server.event.NotificationDeliveryEvent;
+import com.dialog.server.repository.NotificationOutboxRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ActiveProfiles("test")
+@RecordApplicationEvents
+@SpringBootTest(properties = {
+        "notification.broadcast.type=database",
+        "notification.broadcast.database.poll-interval=1h"
+})
+class DatabaseNotificationBroadcasterTest {
+
+    @Autowired
+    private NotificationBroadcaster notificationBroadcaster;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+    }
+
+    @Test
+    void 설정에_따라_데이터베이스_브로드캐스터가_사용된다() {
+        assertThat(notificationBroadcaster).isInstanceOf(DatabaseNotificationBroadcaster.class);
+    }
+
+    @Test
+    void 다른_노드가_발행한_알림을_한_번만_전달한다() {
+        // given
+        outboxRepository.save(NotificationOutbox.builder()
+                .receiverId(1L)
+                .payload(NotificationPollingResponse.createBulkReadResponse(3L))
+                .origin("other-node")
+                .createdAt(LocalDateTime.now())
+                .build());
+        DatabaseNotificationBroadcaster broadcaster = (DatabaseNotificationBroadcaster) notificationBroadcaster;
+
+        // when
+        broadcaster.pollOutbox();
+        broadcaster.pollOutbox();
+
+        // then
+        List<NotificationDeliveryEvent> deliveries = events.stream(NotificationDeliveryEvent.class).toList();
+        assertThat(deliveries).hasSize(1);
+        assertThat(deliveries.get(0).getReceiverId()).isEqualTo(1L);
+        assertThat(deliveries.get(0).getResponse().unreadCount()).isEqualTo(3L);
+    }
+
+    @Test
+    void 현재_노드가_기록한_알림은_커밋_후_한_번만_전달하고_outbox에서_다시_전달하지_않는다() {
+        // given
+        NotificationDeliveryEvent event = new NotificationDeliveryEvent(
+                1L, null, NotificationPollingResponse.createBulkReadResponse(0L)
+        );
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> notificationBroadcaster.record(event)
+        );
+        notificationBroadcaster.broadcast(event);
+        ((DatabaseNotificationBroadcaster) notificationBroadcaster).pollOutbox();
+
+        // then
+        assertThat(events.stream(NotificationDeliveryEvent.class)).hasSize(1);
+        assertThat(outboxRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void 알림_트랜잭션이_롤백되면_outbox에도_남지_않는다() {
+        // given
+        NotificationDeliveryEvent event = new NotificationDeliveryEvent(
+                1L, null, NotificationPollingResponse.createBulkReadResponse(0L)
+        );
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            notificationBroadcaster.record(event);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void 트랜잭션_밖에서는_outbox에_기록할_수_없다() {
+        // given
+        NotificationDeliveryEvent event = new NotificationDeliveryEvent(
+                1L, null, NotificationPollingResponse.createBulkReadResponse(0L)
+        );
+
+        // when & then
+        assertThatThrownBy(() -> notificationBroadcaster.record(event))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    @Test
+    void 뒤늦게_커밋된_앞선_ID의_알림도_전달한다() throws Exception {
+        // given
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> slowCommit = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    outboxRepository.save(createOutbox(1L));
+                    inserted.countDown();
+                    await(commit);
+                }));
+        await(inserted);
+        outboxRepository.save(createOutbox(2L));
+        DatabaseNotificationBroadcaster broadcaster = (DatabaseNotificationBroadcaster) notificationBroadcaster;
+
+        // when
+        broadcaster.pollOutbox();
+        commit.countDown();
+        slowCommit.get(5, TimeUnit.SECONDS);
+        broadcaster.pollOutbox();
+
+        // then
+        assertThat(events.stream(NotificationDeliveryEvent.class))
+                .extracting(NotificationDeliveryEvent::getReceiverId)
+                .containsExactly(2L, 1L);
+    }
+
+    private NotificationOutbox createOutbox(Long receiverId) {
+        return NotificationOutbox.builder()
+                .receiverId(receiverId)
+                .payload(NotificationPollingResponse.createBulkReadResponse(0L))
+                .origin("other-node")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.dialog.server.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dialog.server.exception.DialogException;
+import com.dialog.server.exception.ErrorCode;
+import com.dialog.server.repository.DiscussionLockLeaseRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "lock.type=database",
+        "lock.wait-timeout=200ms",
+        "lock.database.lease-time=2s",
+        "lock.database.renew-interval=200ms",
+        "spring.task.scheduling.pool.size=1"
+})
+class DatabaseLockManagerTest {
+
+    @Autowired
+    private LockManager lockManager;
+
+    @Autowired
+    private DiscussionLockLeaseRepository lockLeaseRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @AfterEach
+    void tearDown() {
+        lockLeaseRepository.deleteAll();
+    }
+
+    @Test
+    void 설정에_따라_데이터베이스_락_매니저가_사용된다() {
+        assertThat(lockManager).isInstanceOf(DatabaseLockManager.class);
+    }
+
+    @Test
+    void 다른_스레드가_보유한_락은_대기_시간이_지나면_예외가_발생한다() {
+        // given
+        Long key = 1L;
+        lockManager.lock(key);
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> CompletableFuture.runAsync(() -> lockManager.lock(key)).join())
+                    .hasCauseInstanceOf(DialogException.class)
+                    .hasMessageContaining(ErrorCode.LOCK_ACQUISITION_TIMEOUT.message);
+        } finally {
+            lockManager.unlock(key);
+        }
+    }
+
+    @Test
+    void tryLock은_대기_시간이_지나면_false를_반환한다() {
+        // given
+        Long key = 1L;
+        lockManager.lock(key);
+
+        // when
+        try {
+            Boolean acquired = CompletableFuture.supplyAsync(
+                    () -> lockManager.tryLock(key, Duration.ofMillis(100))
+            ).join();
+
+            // then
+            assertThat(acquired).isFalse();
+        } finally {
+            lockManager.unlock(key);
+        }
+    }
+
+    @Test
+    void 락을_해제하면_다른_스레드가_획득할_수_있다() {
+        // given
+        Long key = 1L;
+        lockManager.lock(key);
+        lockManager.unlock(key);
+
+        // when
+        CompletableFuture.runAsync(() -> {
+            lockManager.lock(key);
+            lockManager.unlock(key);
+        }).join();
+
+        // then
+        assertThat(lockLeaseRepository.findById(key)).isEmpty();
+    }
+
+    @Test
+    void 같은_스레드는_보유한_락을_다시_획득하고_모두_해제해야_풀린다() {
+        // given
+        Long key = 1L;
+        lockManager.lock(key);
+
+        // when
+        boolean reacquired = lockManager.tryLock(key, Duration.ZERO);
+        lockManager.unlock(key);
+
+        // then
+        assertThat(reacquired).isTrue();
+        assertThat(lockLeaseRepository.findById(key)).isPresent();
+        lockManager.unlock(key);
+        assertThat(lockLeaseRepository.findById(key)).isEmpty();
+    }
+
+    @Test
+    void 보유하지_않은_스레드의_해제는_다른_스레드의_락을_풀지_않는다() {
+        // given
+        Long key = 1L;
+        lockManager.lock(key);
+
+        // when
+        CompletableFuture.runAsync(() -> lockManager.unlock(key)).join();
+
+        // then
+        assertThat(lockLeaseRepository.findById(key)).isPresent();
+        lockManager.unlock(key);
+    }
+
+    @Test
+    void 만료된_lease는_다른_노드가_가져갈_수_있다() {
+        // given
+        Long key = 1L;
+        transactionTemplate.executeWithoutResult(status ->
+                lockLeaseRepository.insert(key, "dead-node:1", -1L)
+        );
+
+        // when
+        lockManager.lock(key);
+
+        // then
+        assertThat(lockLeaseRepository.findById(key))
+                .get()
+                .extracting("owner")
+                .isNotEqualTo("dead-node:1");
+        lockManager.unlock(key);
+    }
+
+    @Test
+    void 스케줄러_스레드가_막혀_있어도_보유한_lease를_갱신한다() throws InterruptedException {
+        // given
+        Long key = 1L;
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        taskScheduler.schedule(() -> {
+            blocked.countDown();
+            awaitQuietly(release);
+        }, Instant.now());
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        lockManager.lock(key);
+
+        try {
+            // when
+            Thread.sleep(3000);
+
+            // then
+            Integer takenOver = transactionTemplate.execute(status ->
+                    lockLeaseRepository.takeOverExpired(key, "other-node:1", 2L)
+            );
+            assertThat(takenOver).isZero();
+        } finally {
+            release.countDown();
+            lockManager.unlock(key);
+        }
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
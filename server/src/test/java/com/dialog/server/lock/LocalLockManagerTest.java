@@ -2,9 +2,11 @@ package com.dialog.server.lock;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Duration;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -118,4 +120,57 @@ class LocalLockManagerTest {
         assertThat(concurrentCount.get()).isEqualTo(2);
     }
 
+    @Test
+    void 다른_스레드가_보유한_락은_tryLock_대기_시간이_지나면_false를_반환한다() throws Exception {
+        // given
+        Long key = 1L;
+        lockManager.lock(key);
+
+        // when
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            boolean acquired = executor.submit(() -> lockManager.tryLock(key, Duration.ofMillis(100))).get();
+
+            // then
+            assertThat(acquired).isFalse();
+        } finally {
+            lockManager.unlock(key);
+            executor.shutdown();
+        }
+        assertThat(lockManager.lockCount()).isZero();
+    }
+
+    @Test
+    void 사용이_끝난_키의_락은_제거된다() {
+        // given & when
+        for (long key = 1; key <= 10_000; key++) {
+            lockManager.lock(key);
+            lockManager.unlock(key);
+        }
+
+        // then
+        assertThat(lockManager.lockCount()).isZero();
+    }
+
+    @Test
+    void 대기_중인_스레드가_있으면_락이_제거되지_않는다() throws Exception {
+        // given
+        Long key = 1L;
+        lockManager.lock(key);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Boolean> waiting = executor.submit(() -> {
+            boolean acquired = lockManager.tryLock(key, Duration.ofSeconds(5));
+            lockManager.unlock(key);
+            return acquired;
+        });
+
+        // when
+        Thread.sleep(100);
+        lockManager.unlock(key);
+
+        // then
+        assertThat(waiting.get()).isTrue();
+        assertThat(lockManager.lockCount()).isZero();
+        executor.shutdown();
+    }
 }
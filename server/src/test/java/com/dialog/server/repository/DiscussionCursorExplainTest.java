@@ -0,0 +1,84 @@
+package com.dialog.server.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+// 손으로 쓴 SQL이 아니라 리포지토리가 실제로 만든 SQL을 가로채 실행 계획을 확인한다
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.dialog.server.repository.DiscussionCursorExplainTest$RecordingStatementInspector")
+class DiscussionCursorExplainTest {
+
+    private static final LocalDateTime CURSOR = LocalDateTime.of(2025, 7, 1, 12, 0);
+    private static final long CURSOR_ID = 100L;
+    private static final int LIMIT = 11;
+
+    @Autowired
+    private DiscussionRepository discussionRepository;
+    @Autowired
+    private DiscussionFeedRepository discussionFeedRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 토론_목록_커서_조회는_작성일_인덱스를_범위로_탄다() {
+        // given
+        discussionRepository.findWithFiltersBeforeDateCursor(null, null, null, CURSOR, CURSOR_ID, LIMIT);
+
+        // when
+        String plan = explain(RecordingStatementInspector.lastSelect());
+
+        // then
+        assertThat(plan).containsIgnoringCase("idx_discussions_created_at");
+    }
+
+    @Test
+    void 피드_커서_조회는_작성일_인덱스를_범위로_탄다() {
+        // given
+        discussionFeedRepository.findWithFiltersBeforeDateCursor(null, null, null, CURSOR, CURSOR_ID, LIMIT);
+
+        // when
+        String plan = explain(RecordingStatementInspector.lastSelect());
+
+        // then
+        assertThat(plan).containsIgnoringCase("idx_discussion_feed_created_at");
+    }
+
+    // 커서 조건의 (작성일, 작성일, id)가 앞에, 남은 자리는 조회 개수 제한이다
+    private String explain(String sql) {
+        List<Object> parameters = new ArrayList<>(List.of(CURSOR, CURSOR, CURSOR_ID));
+        long placeholderCount = sql.chars().filter(character -> character == '?').count();
+        while (parameters.size() < placeholderCount) {
+            parameters.add(LIMIT);
+        }
+        List<String> rows = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters.toArray());
+        return String.join("\n", rows);
+    }
+
+    // 스케줄러 스레드가 실행한 SQL과 섞이지 않도록 스레드별로 마지막 SELECT만 기록한다
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        private static final ThreadLocal<String> LAST_SELECT = new ThreadLocal<>();
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.stripLeading().toLowerCase().startsWith("select")) {
+                LAST_SELECT.set(sql);
+            }
+            return sql;
+        }
+
+        private static String lastSelect() {
+            return LAST_SELECT.get();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.dialog.server.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dialog.server.domain.Category;
+import com.dialog.server.domain.Track;
+import com.dialog.server.domain.User;
+import com.dialog.server.dto.request.OnlineDiscussionCreateRequest;
+import com.dialog.server.dto.request.OnlineDiscussionUpdateRequest;
+import com.dialog.server.dto.request.SearchType;
+import com.dialog.server.dto.request.UserMypageUpdateRequest;
+import com.dialog.server.dto.response.DiscussionCursorPageResponse;
+import com.dialog.server.dto.response.DiscussionPreviewResponse;
+import com.dialog.server.repository.UserRepository;
+import com.dialog.server.service.DiscussionService;
+import com.dialog.server.service.UserService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "search.index.type=inverted")
+class InvertedDiscussionSearchIndexTest {
+
+    @Autowired
+    private DiscussionSearchIndex discussionSearchIndex;
+    @Autowired
+    private DiscussionService discussionService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("delete from online_discussions");
+        jdbcTemplate.execute("delete from discussions");
+        userRepository.deleteAll();
+        user = userRepository.save(User.builder()
+                .oauthId("oauthId")
+                .nickname("검색왕")
+                .webPushNotification(false)
+                .build());
+    }
+
+    @Test
+    void 설정에_따라_역색인이_사용된다() {
+        assertThat(discussionSearchIndex).isInstanceOf(InvertedDiscussionSearchIndex.class);
+    }
+
+    @Test
+    void 생성한_토론은_색인을_거쳐_검색된다() {
+        // given
+        Long discussionId = createDiscussion("스프링 트랜잭션", "전파 속성");
+        createDiscussion("리액트 훅", "상태 관리");
+
+        // when
+        DiscussionCursorPageResponse<DiscussionPreviewResponse> response = search(SearchType.TITLE_OR_CONTENT, "트랜잭션");
+
+        // then
+        assertThat(discussionSearchIndex.findCandidateIds(SearchType.TITLE_OR_CONTENT, "트랜잭션"))
+                .hasValueSatisfying(candidateIds -> assertThat(candidateIds).contains(discussionId));
+        assertThat(response.content()).hasSize(1);
+    }
+
+    @Test
+    void 수정하거나_삭제한_토론은_색인에_반영된다() {
+        // given
+        Long updatedId = createDiscussion("스프링 트랜잭션", "내용");
+        Long deletedId = createDiscussion("스프링 이벤트", "내용");
+
+        // when
+        discussionService.updateOnlineDiscussion(updatedId, new OnlineDiscussionUpdateRequest(
+                "리액트 훅", "내용", LocalDate.now().plusDays(3), Category.FRONTEND
+        ));
+        discussionService.deleteDiscussion(deletedId);
+
+        // then
+        assertThat(search(SearchType.TITLE_OR_CONTENT, "스프링").content()).isEmpty();
+        assertThat(search(SearchType.TITLE_OR_CONTENT, "리액트").content()).hasSize(1);
+    }
+
+    @Test
+    void 닉네임을_바꾸면_작성한_토론의_닉네임_색인도_갱신된다() {
+        // given
+        createDiscussion("스프링 트랜잭션", "내용");
+
+        // when
+        userService.modifyUserInfo(user.getId(), new UserMypageUpdateRequest("토론마스터", Track.BACKEND));
+
+        // then
+        assertThat(search(SearchType.AUTHOR_NICKNAME, "검색왕").content()).isEmpty();
+        assertThat(search(SearchType.AUTHOR_NICKNAME, "토론마스터").content()).hasSize(1);
+    }
+
+    @Test
+    void 다른_노드에서_수정하거나_삭제한_토론은_동기화로_반영된다() {
+        // given
+        Long updatedId = createDiscussion("스프링 트랜잭션", "내용");
+        Long deletedId = createDiscussion("스프링 이벤트", "내용");
+        jdbcTemplate.update(
+                "UPDATE discussions SET title = ?, modified_at = ? WHERE discussion_id = ?",
+                "코틀린 코루틴", LocalDateTime.now(), updatedId
+        );
+        jdbcTemplate.update(
+                "UPDATE discussions SET deleted_at = ?, modified_at = ? WHERE discussion_id = ?",
+                LocalDateTime.now(), LocalDateTime.now(), deletedId
+        );
+
+        // when
+        ((InvertedDiscussionSearchIndex) discussionSearchIndex).syncModified();
+
+        // then
+        assertThat(discussionSearchIndex.findCandidateIds(SearchType.TITLE_OR_CONTENT, "스프링"))
+                .hasValueSatisfying(candidateIds -> assertThat(candidateIds).isEmpty());
+        assertThat(discussionSearchIndex.findCandidateIds(SearchType.TITLE_OR_CONTENT, "코루틴"))
+                .hasValueSatisfying(candidateIds -> assertThat(candidateIds).containsExactly(updatedId));
+    }
+
+    private Long createDiscussion(String title, String content) {
+        return discussionService.createOnlineDiscussion(
+                new OnlineDiscussionCreateRequest(title, content, LocalDate.now().plusDays(3), Category.BACKEND),
+                user.getId()
+        ).discussionId();
+    }
+
+    private DiscussionCursorPageResponse<DiscussionPreviewResponse> search(SearchType searchType, String query) {
+        return discussionService.searchDiscussionWithFilters(searchType, query, null, null, null, null, 10);
+    }
+}
@@ -0,0 +1,58 @@
+package com.dialog.server.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class InvertedIndexTest {
+
+    private final InvertedIndex invertedIndex = new InvertedIndex();
+
+    @Test
+    void 한글_검색어를_bigram으로_나누어_포함한_문서를_찾는다() {
+        // given
+        invertedIndex.index(1, "스프링 트랜잭션 전파");
+        invertedIndex.index(2, "리액트 상태 관리");
+        invertedIndex.index(3, "스프링부트 자동 설정");
+
+        // when
+        int[] ids = invertedIndex.search(BigramTokenizer.tokenizeQuery("스프링"));
+
+        // then
+        assertThat(ids).containsExactly(1, 3);
+    }
+
+    @Test
+    void 다시_색인하면_이전_토큰은_사라진다() {
+        // given
+        invertedIndex.index(1, "스프링 트랜잭션");
+
+        // when
+        invertedIndex.index(1, "리액트 훅");
+
+        // then
+        assertThat(invertedIndex.search(BigramTokenizer.tokenizeQuery("스프링"))).isEmpty();
+        assertThat(invertedIndex.search(BigramTokenizer.tokenizeQuery("리액트"))).containsExactly(1);
+    }
+
+    @Test
+    void 삭제한_문서는_검색되지_않는다() {
+        // given
+        invertedIndex.index(2, "스프링 트랜잭션");
+        invertedIndex.index(1, "스프링 이벤트");
+
+        // when
+        invertedIndex.remove(2);
+
+        // then
+        assertThat(invertedIndex.search(BigramTokenizer.tokenizeQuery("스프링"))).containsExactly(1);
+        assertThat(invertedIndex.documentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 한_글자_단어가_포함된_검색어는_색인으로_처리하지_않는다() {
+        // when & then
+        assertThat(BigramTokenizer.tokenizeQuery("자바 뷰")).isEmpty();
+        assertThat(BigramTokenizer.tokenizeQuery("  ")).isEmpty();
+    }
+}
@@ -0,0 +1,130 @@
+package com.dialog.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dialog.server.domain.Category;
+import com.dialog.server.domain.Discussion;
+import com.dialog.server.domain.OfflineDiscussion;
+import com.dialog.server.domain.User;
+import com.dialog.server.exception.DialogException;
+import com.dialog.server.exception.ErrorCode;
+import com.dialog.server.repository.DiscussionRepository;
+import com.dialog.server.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "user.active-cache.enabled=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class AuthenticatedUserReaderTest {
+
+    @Autowired
+    private AuthenticatedUserReader authenticatedUserReader;
+    @Autowired
+    private LikeService likeService;
+    @Autowired
+    private ScrapService scrapService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private DiscussionRepository discussionRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = userRepository.save(createUser());
+    }
+
+    @Test
+    void 같은_사용자의_연속된_요청은_사용자를_한_번만_조회한다() {
+        // given
+        Discussion discussion = discussionRepository.save(createOfflineDiscussion(user));
+
+        // when
+        long likeStatusQueryCount = countStatements(() -> likeService.isLiked(user.getId(), discussion.getId()));
+        long scrapStatusQueryCount = countStatements(() -> scrapService.isScraped(user.getId(), discussion.getId()));
+
+        // then - 사용자 조회 1회 + 토론 조회 1회 + 존재 여부 조회 1회
+        assertThat(likeStatusQueryCount).isEqualTo(3);
+        // 이미 확인한 사용자는 조회하지 않는다
+        assertThat(scrapStatusQueryCount).isEqualTo(2);
+    }
+
+    @Test
+    void 탈퇴한_사용자는_확인된_적이_있어도_찾을_수_없다() {
+        // given
+        authenticatedUserReader.getActiveUser(user.getId());
+
+        // when
+        userService.withdraw(user.getId());
+
+        // then
+        assertThatThrownBy(() -> authenticatedUserReader.getActiveUser(user.getId()))
+                .isInstanceOf(DialogException.class)
+                .hasMessageContaining(ErrorCode.USER_NOT_FOUND.message);
+    }
+
+    @Test
+    void 존재하지_않는_사용자는_찾을_수_없다() {
+        // when & then
+        assertThatThrownBy(() -> authenticatedUserReader.getActiveUser(Long.MAX_VALUE))
+                .isInstanceOf(DialogException.class)
+                .hasMessageContaining(ErrorCode.USER_NOT_FOUND.message);
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private User createUser() {
+        return User.builder()
+                .oauthId("oauthId")
+                .nickname("test")
+                .webPushNotification(false)
+                .build();
+    }
+
+    private Discussion createOfflineDiscussion(User author) {
+        LocalDateTime startAt = LocalDateTime.of(LocalDate.now().plusDays(1), LocalTime.of(15, 0));
+        return OfflineDiscussion.builder()
+                .title("title")
+                .content("content")
+                .author(author)
+                .startAt(startAt)
+                .endAt(startAt.plusHours(1))
+                .category(Category.BACKEND)
+                .summary("summary")
+                .maxParticipantCount(4)
+                .participantCount(1)
+                .place("place")
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package com.dialog.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dialog.server.domain.AuthorCard;
+import com.dialog.server.domain.ProfileImage;
+import com.dialog.server.domain.Track;
+import com.dialog.server.domain.User;
+import com.dialog.server.dto.request.UserMypageUpdateRequest;
+import com.dialog.server.repository.ProfileImageRepository;
+import com.dialog.server.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AuthorCardServiceTest {
+
+    @Autowired
+    private AuthorCardService authorCardService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProfileImageRepository profileImageRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User author;
+    private User other;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(createUser("author"));
+        other = userRepository.save(createUser("other"));
+        profileImageRepository.save(ProfileImage.builder()
+                .basicImageUri("https://image.dialog.com/basic.png")
+                .user(author)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void 캐시에_없는_사용자만_한_번의_쿼리로_읽는다() {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        authorCardService.getAll(List.of(author.getId()));
+        statistics.clear();
+
+        // when
+        Map<Long, AuthorCard> authorCards = authorCardService.getAll(List.of(author.getId(), other.getId()));
+        long firstQueryCount = statistics.getPrepareStatementCount();
+        authorCardService.getAll(List.of(author.getId(), other.getId()));
+
+        // then
+        assertThat(firstQueryCount).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(authorCards.get(author.getId()).basicImageUri()).isEqualTo("https://image.dialog.com/basic.png");
+        assertThat(authorCards.get(other.getId()).hasProfileImage()).isFalse();
+    }
+
+    @Test
+    void 닉네임을_바꾸면_새_닉네임을_보여준다() {
+        // given
+        authorCardService.getAll(List.of(author.getId()));
+
+        // when
+        userService.modifyUserInfo(author.getId(), new UserMypageUpdateRequest("renamed", Track.BACKEND));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(authorCardService.getAll(List.of(author.getId())).get(author.getId()).nickname())
+                .isEqualTo("renamed");
+    }
+
+    @Test
+    void 탈퇴한_사용자는_탈퇴_표시와_함께_보여준다() {
+        // given
+        authorCardService.getAll(List.of(author.getId()));
+
+        // when
+        userService.withdraw(author.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        AuthorCard authorCard = authorCardService.getAll(List.of(author.getId())).get(author.getId());
+        assertThat(authorCard.withdrawn()).isTrue();
+        assertThat(authorCard.nickname()).isEqualTo("탈퇴한 사용자");
+    }
+
+    private User createUser(String nickname) {
+        return User.builder()
+                .oauthId(nickname)
+                .nickname(nickname)
+                .webPushNotification(false)
+                .build();
+    }
+}
@@ -16,6 +16,7 @@ import com.dialog.server.repository.CommentLikeRepository;
 import com.dialog.server.repository.DiscussionCommentRepository;
 import com.dialog.server.repository.DiscussionRepository;
 import com.dialog.server.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -26,7 +27,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
-@Import(JpaConfig.class)
+@Import({JpaConfig.class, AuthenticatedUserReader.class, SimpleMeterRegistry.class})
 @ActiveProfiles("test")
 @DataJpaTest
 class CommentLikeServiceTest {
@@ -37,6 +38,9 @@ class CommentLikeServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AuthenticatedUserReader authenticatedUserReader;
+
     @Autowired
     private DiscussionRepository discussionRepository;
 
@@ -47,7 +51,11 @@ class CommentLikeServiceTest {
 
     @BeforeEach
     void setUp() {
-        commentLikeService = new CommentLikeService(commentLikeRepository, userRepository, discussionCommentRepository);
+        commentLikeService = new CommentLikeService(
+                commentLikeRepository,
+                authenticatedUserReader,
+                discussionCommentRepository
+        );
     }
 
     @Test
@@ -0,0 +1,81 @@
+package com.dialog.server.service;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import com.dialog.server.domain.DiscussionStatus;
+import com.dialog.server.domain.OfflineDiscussion;
+import com.dialog.server.domain.User;
+import com.dialog.server.dto.request.OfflineDiscussionUpdateRequest;
+import com.dialog.server.repository.DiscussionRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "participation.strategy=conditional-update")
+class ConditionalUpdateDiscussionParticipantServiceConcurrencyTest extends DiscussionParticipantServiceConcurrencyTest {
+
+    @Autowired
+    private DiscussionService discussionService;
+
+    @Autowired
+    private DiscussionParticipantService discussionParticipantService;
+
+    @Autowired
+    private DiscussionRepository discussionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void 수정이_끝나기_전에_들어온_참여는_수정된_정원으로_상태를_정한다() throws Exception {
+        // given
+        LocalDateTime startAt = LocalDateTime.of(LocalDate.now().plusDays(1), LocalTime.of(15, 0)).plusMinutes(15);
+        User participant = createUser("email1@gmail.com");
+        OfflineDiscussion discussion = createOfflineDiscussion(createUser("admin@admin.com"), 3, 1, startAt);
+        OfflineDiscussionUpdateRequest request = new OfflineDiscussionUpdateRequest(
+                "title", "content", startAt, startAt.plusMinutes(15), "place", 2, discussion.getCategory(), "summary"
+        );
+        CountDownLatch edited = new CountDownLatch(1);
+
+        // when
+        CompletableFuture<Void> edit = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    discussionService.updateOfflineDiscussion(discussion.getId(), request);
+                    edited.countDown();
+                    sleep(300);
+                }));
+        edited.await(5, TimeUnit.SECONDS);
+        discussionParticipantService.participate(participant.getId(), discussion.getId());
+        edit.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(discussionRepository.findById(discussion.getId()))
+                    .get()
+                    .extracting("participantCount")
+                    .isEqualTo(2);
+            softly.assertThat(discussionRepository.findById(discussion.getId()))
+                    .get()
+                    .extracting("status")
+                    .isEqualTo(DiscussionStatus.RECRUIT_COMPLETE);
+        });
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.dialog.server.service;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "lock.type=database")
+class DatabaseLockDiscussionParticipantServiceConcurrencyTest extends DiscussionParticipantServiceConcurrencyTest {
+}
@@ -17,7 +17,10 @@ import com.dialog.server.domain.ProfileImage;
 import com.dialog.server.domain.RouteParams;
 import com.dialog.server.domain.User;
 import com.dialog.server.dto.comment.request.DiscussionCommentCreateRequest;
+import com.dialog.server.dto.comment.request.DiscussionCommentCursorPageRequest;
 import com.dialog.server.dto.comment.response.DiscussionCommentCreateResponse;
+import com.dialog.server.dto.comment.response.DiscussionCommentCursorPageResponse;
+import com.dialog.server.dto.comment.response.DiscussionCommentCursorPageResponse.CommentResponse;
 import com.dialog.server.dto.comment.response.DiscussionCommentListResponse;
 import com.dialog.server.dto.comment.response.DiscussionCommentListResponse.DiscussionCommentResponse;
 import com.dialog.server.exception.DialogException;
@@ -324,7 +327,7 @@ class DiscussionCommentServiceTest {
         DiscussionCommentCreateResponse response = discussionCommentService.createComment(request, author2.getId());
 
         // then
-        Notification notification = notificationRepository.findAllByReceiverAndIdGreaterThanOrderByCreatedAtAsc(author1, 0L)
+        Notification notification = notificationRepository.findAllByReceiverAndIdGreaterThanOrderByIdAsc(author1, 0L)
                 .stream()
                 .findFirst()
                 .orElseThrow();
@@ -360,7 +363,7 @@ class DiscussionCommentServiceTest {
         DiscussionCommentCreateResponse response = discussionCommentService.createComment(request, author2.getId());
 
         // then
-        Notification notification = notificationRepository.findAllByReceiverAndIdGreaterThanOrderByCreatedAtAsc(author1, 0L)
+        Notification notification = notificationRepository.findAllByReceiverAndIdGreaterThanOrderByIdAsc(author1, 0L)
                 .stream()
                 .findFirst()
                 .orElseThrow();
@@ -394,7 +397,7 @@ class DiscussionCommentServiceTest {
         discussionCommentService.createComment(request, author1.getId());
 
         // then
-        assertThat(notificationRepository.findAllByReceiverAndIdGreaterThanOrderByCreatedAtAsc(author1, 0L))
+        assertThat(notificationRepository.findAllByReceiverAndIdGreaterThanOrderByIdAsc(author1, 0L))
                 .isEmpty();
     }
 
@@ -478,10 +481,87 @@ class DiscussionCommentServiceTest {
         discussionCommentService.createComment(request, author1.getId());
 
         // then
-        assertThat(notificationRepository.findAllByReceiverAndIdGreaterThanOrderByCreatedAtAsc(author1, 0L))
+        assertThat(notificationRepository.findAllByReceiverAndIdGreaterThanOrderByIdAsc(author1, 0L))
                 .isEmpty();
     }
 
+    @Test
+    void 최상위_댓글을_커서로_나눠_조회하고_답글_수를_함께_반환한다() {
+        // given
+        Discussion newDiscussion = discussionRepository.save(createDiscussion(author1));
+        DiscussionComment first = discussionCommentRepository.save(createComment(newDiscussion, author1, "첫 댓글"));
+        DiscussionComment second = discussionCommentRepository.save(createComment(newDiscussion, author2, "두 번째 댓글"));
+        DiscussionComment third = discussionCommentRepository.save(createComment(newDiscussion, author1, "세 번째 댓글"));
+        discussionCommentRepository.save(createReplyComment(newDiscussion, author2, first));
+        discussionCommentRepository.save(createReplyComment(newDiscussion, author1, first));
+
+        // when
+        DiscussionCommentCursorPageResponse firstPage = discussionCommentService.getCommentPage(
+                newDiscussion.getId(), new DiscussionCommentCursorPageRequest(null, 2), null
+        );
+        DiscussionCommentCursorPageResponse secondPage = discussionCommentService.getCommentPage(
+                newDiscussion.getId(), new DiscussionCommentCursorPageRequest(firstPage.nextCursorId(), 2), null
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(firstPage.discussionComments())
+                        .extracting(CommentResponse::discussionCommentId)
+                        .containsExactly(first.getId(), second.getId()),
+                () -> assertThat(firstPage.discussionComments())
+                        .extracting(CommentResponse::replyCount)
+                        .containsExactly(2L, 0L),
+                () -> assertThat(firstPage.hasNext()).isTrue(),
+                () -> assertThat(firstPage.nextCursorId()).isEqualTo(third.getId()),
+                () -> assertThat(secondPage.discussionComments())
+                        .extracting(CommentResponse::discussionCommentId)
+                        .containsExactly(third.getId()),
+                () -> assertThat(secondPage.hasNext()).isFalse(),
+                () -> assertThat(secondPage.nextCursorId()).isNull()
+        );
+    }
+
+    @Test
+    void 답글을_커서로_나눠_조회하고_페이지의_좋아요만_계산한다() {
+        // given
+        DiscussionComment firstReply = discussionCommentRepository.save(createReplyComment(discussion, author2, comment));
+        DiscussionComment secondReply = discussionCommentRepository.save(createReplyComment(discussion, author1, comment));
+        commentLikeRepository.save(createCommentLike(author2, firstReply));
+        commentLikeRepository.save(createCommentLike(author1, firstReply));
+
+        // when
+        DiscussionCommentCursorPageResponse firstPage = discussionCommentService.getReplyPage(
+                comment.getId(), new DiscussionCommentCursorPageRequest(null, 1), author2.getId()
+        );
+        DiscussionCommentCursorPageResponse secondPage = discussionCommentService.getReplyPage(
+                comment.getId(), new DiscussionCommentCursorPageRequest(firstPage.nextCursorId(), 1), author2.getId()
+        );
+
+        // then
+        CommentResponse firstReplyResponse = firstPage.discussionComments().get(0);
+        CommentResponse secondReplyResponse = secondPage.discussionComments().get(0);
+        assertAll(
+                () -> assertThat(firstReplyResponse.discussionCommentId()).isEqualTo(firstReply.getId()),
+                () -> assertThat(firstReplyResponse.likeCount()).isEqualTo(2),
+                () -> assertThat(firstReplyResponse.isLiked()).isTrue(),
+                () -> assertThat(firstPage.hasNext()).isTrue(),
+                () -> assertThat(secondReplyResponse.discussionCommentId()).isEqualTo(secondReply.getId()),
+                () -> assertThat(secondReplyResponse.likeCount()).isZero(),
+                () -> assertThat(secondReplyResponse.isLiked()).isFalse(),
+                () -> assertThat(secondPage.hasNext()).isFalse()
+        );
+    }
+
+    @Test
+    void 존재하지_않는_댓글의_답글은_조회할_수_없다() {
+        // when & then
+        assertThatThrownBy(() -> discussionCommentService.getReplyPage(
+                999L, new DiscussionCommentCursorPageRequest(null, null), null
+        ))
+                .isInstanceOf(DialogException.class)
+                .hasMessageContaining(ErrorCode.COMMENT_NOT_FOUND.message);
+    }
+
     private User createUser() {
         return User.builder()
                 .oauthId("oauthId 1")
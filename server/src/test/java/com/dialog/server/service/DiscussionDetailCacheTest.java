@@ -0,0 +1,162 @@
+package com.dialog.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dialog.server.domain.Category;
+import com.dialog.server.domain.DiscussionStatus;
+import com.dialog.server.domain.DiscussionType;
+import com.dialog.server.dto.response.DiscussionDetailResponse;
+import com.dialog.server.dto.response.DiscussionDetailResponse.AuthorResponse;
+import com.dialog.server.dto.response.DiscussionDetailResponse.CommonDiscussionInfo;
+import com.dialog.server.dto.response.DiscussionDetailResponse.OnlineDiscussionInfo;
+import com.dialog.server.event.DiscussionStatusChangedEvent;
+import com.dialog.server.event.DiscussionUpdatedEvent;
+import com.dialog.server.event.UserUpdatedEvent;
+import com.dialog.server.exception.DialogException;
+import com.dialog.server.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DiscussionDetailCacheTest {
+
+    private DiscussionDetailCache discussionDetailCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        discussionDetailCache = new DiscussionDetailCache(new SimpleMeterRegistry(), true, Duration.ofMinutes(1), 100);
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    void 같은_토론을_동시에_조회하면_데이터베이스에서_한_번만_읽는다() throws Exception {
+        // given
+        int threadCount = 10;
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Future<DiscussionDetailResponse>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                return discussionDetailCache.get(1L, () -> {
+                    sleep(100);
+                    return load(1L, 10L);
+                });
+            }));
+        }
+        startLatch.countDown();
+        List<DiscussionDetailResponse> responses = new ArrayList<>();
+        for (Future<DiscussionDetailResponse> future : futures) {
+            responses.add(future.get());
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(responses).hasSize(threadCount)
+                .allSatisfy(response -> assertThat(response.id()).isEqualTo(1L));
+    }
+
+    @Test
+    void 토론이_수정되면_해당_토론만_다시_읽는다() {
+        // given
+        discussionDetailCache.get(1L, () -> load(1L, 10L));
+        discussionDetailCache.get(2L, () -> load(2L, 10L));
+
+        // when
+        discussionDetailCache.handleDiscussionUpdated(new DiscussionUpdatedEvent(1L));
+        discussionDetailCache.get(1L, () -> load(1L, 10L));
+        discussionDetailCache.get(2L, () -> load(2L, 10L));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    void 토론_상태가_바뀌면_해당_토론만_다시_읽는다() {
+        // given
+        discussionDetailCache.get(1L, () -> load(1L, 10L));
+        discussionDetailCache.get(2L, () -> load(2L, 10L));
+
+        // when
+        discussionDetailCache.handleStatusChanged(new DiscussionStatusChangedEvent(1L, DiscussionStatus.IN_DISCUSSION));
+        discussionDetailCache.get(1L, () -> load(1L, 10L));
+        discussionDetailCache.get(2L, () -> load(2L, 10L));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    void 사용자_정보가_바뀌면_그_사용자가_작성한_토론만_다시_읽는다() {
+        // given
+        discussionDetailCache.get(1L, () -> load(1L, 10L));
+        discussionDetailCache.get(2L, () -> load(2L, 20L));
+
+        // when
+        discussionDetailCache.handleUserUpdated(new UserUpdatedEvent(10L));
+        discussionDetailCache.get(1L, () -> load(1L, 10L));
+        discussionDetailCache.get(2L, () -> load(2L, 20L));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    void 조회에_실패한_결과는_캐싱하지_않는다() {
+        // given
+        assertThatThrownBy(() -> discussionDetailCache.get(1L, () -> {
+            loadCount.incrementAndGet();
+            throw new DialogException(ErrorCode.NOT_FOUND_DISCUSSION);
+        })).isInstanceOf(DialogException.class);
+
+        // when
+        DiscussionDetailResponse response = discussionDetailCache.get(1L, () -> load(1L, 10L));
+
+        // then
+        assertThat(response.id()).isEqualTo(1L);
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    private DiscussionDetailResponse load(Long discussionId, Long authorId) {
+        loadCount.incrementAndGet();
+        return new DiscussionDetailResponse(
+                discussionId,
+                DiscussionType.ONLINE,
+                new CommonDiscussionInfo(
+                        "title",
+                        "content",
+                        null,
+                        Category.BACKEND,
+                        LocalDateTime.now(),
+                        LocalDateTime.now(),
+                        0,
+                        new AuthorResponse(authorId, "author", null)
+                ),
+                null,
+                new OnlineDiscussionInfo(LocalDate.now().plusDays(1))
+        );
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package com.dialog.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dialog.server.domain.Category;
+import com.dialog.server.domain.Discussion;
+import com.dialog.server.domain.DiscussionComment;
+import com.dialog.server.domain.DiscussionCommentRouteParams;
+import com.dialog.server.domain.DiscussionParticipant;
+import com.dialog.server.domain.Notification;
+import com.dialog.server.domain.NotificationType;
+import com.dialog.server.domain.OfflineDiscussion;
+import com.dialog.server.domain.OnlineDiscussion;
+import com.dialog.server.domain.Scrap;
+import com.dialog.server.domain.User;
+import com.dialog.server.dto.notification.request.NotificationPageRequest;
+import com.dialog.server.dto.request.DiscussionCursorPageRequest;
+import com.dialog.server.dto.request.ScrapCursorPageRequest;
+import com.dialog.server.repository.DiscussionCommentRepository;
+import com.dialog.server.repository.DiscussionParticipantRepository;
+import com.dialog.server.repository.DiscussionRepository;
+import com.dialog.server.repository.NotificationRepository;
+import com.dialog.server.repository.ScrapRepository;
+import com.dialog.server.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class DiscussionFeedQueryCountTest {
+
+    private static final int DISCUSSION_COUNT = 25;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private DiscussionRepository discussionRepository;
+    @Autowired
+    private DiscussionCommentRepository discussionCommentRepository;
+    @Autowired
+    private DiscussionParticipantRepository discussionParticipantRepository;
+    @Autowired
+    private ScrapRepository scrapRepository;
+    @Autowired
+    private NotificationRepository notificationRepository;
+    @Autowired
+    private DiscussionService discussionService;
+    @Autowired
+    private ScrapService scrapService;
+    @Autowired
+    private DiscussionCommentService discussionCommentService;
+    @Autowired
+    private NotificationService notificationService;
+    @Autowired
+    private AuthorCardService authorCardService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = userRepository.save(createUser("test"));
+        for (int i = 0; i < DISCUSSION_COUNT; i++) {
+            Discussion discussion = discussionRepository.save(createOfflineDiscussion(user));
+            discussionCommentRepository.save(createComment(discussion, user));
+            scrapRepository.save(createScrap(user, discussion));
+        }
+    }
+
+    @Test
+    void 토론_목록_조회_쿼리_수는_페이지_크기와_무관하다() {
+        // given & when
+        long smallPageQueryCount = countStatements(() -> discussionService.getDiscussionsPage(
+                null, null, null, new DiscussionCursorPageRequest(null, 5)
+        ));
+        long largePageQueryCount = countStatements(() -> discussionService.getDiscussionsPage(
+                null, null, null, new DiscussionCursorPageRequest(null, 20)
+        ));
+
+        // then - 토론 목록 조회 1회 + 작성자 프로필 이미지 조회 1회
+        assertThat(smallPageQueryCount).isEqualTo(2);
+        assertThat(largePageQueryCount).isEqualTo(smallPageQueryCount);
+    }
+
+    @Test
+    void 스크랩_목록_조회_쿼리_수는_페이지_크기와_무관하다() {
+        // given & when
+        long smallPageQueryCount = countStatements(() -> scrapService.getScrapedDiscussions(
+                new ScrapCursorPageRequest(null, 5), user.getId()
+        ));
+        long largePageQueryCount = countStatements(() -> scrapService.getScrapedDiscussions(
+                new ScrapCursorPageRequest(null, 20), user.getId()
+        ));
+
+        // then - 사용자 조회 1회 + 스크랩 목록 조회 1회 + 작성자 프로필 이미지 조회 1회
+        assertThat(smallPageQueryCount).isEqualTo(3);
+        assertThat(largePageQueryCount).isEqualTo(smallPageQueryCount);
+    }
+
+    @Test
+    void 스크랩_목록_다음_페이지_조회_쿼리_수도_페이지_크기와_무관하다() {
+        // given
+        Long cursorId = scrapService.getScrapedDiscussions(new ScrapCursorPageRequest(null, 1), user.getId())
+                .nextCursorId();
+
+        // when
+        long smallPageQueryCount = countStatements(() -> scrapService.getScrapedDiscussions(
+                new ScrapCursorPageRequest(cursorId, 5), user.getId()
+        ));
+        long largePageQueryCount = countStatements(() -> scrapService.getScrapedDiscussions(
+                new ScrapCursorPageRequest(cursorId, 20), user.getId()
+        ));
+
+        // then - 사용자 조회 1회 + 스크랩 목록 조회 1회 + 작성자 프로필 이미지 조회 1회
+        assertThat(smallPageQueryCount).isEqualTo(3);
+        assertThat(largePageQueryCount).isEqualTo(smallPageQueryCount);
+    }
+
+    @Test
+    void 내_토론_목록_조회_쿼리_수는_페이지_크기와_무관하다() {
+        // given & when
+        long smallPageQueryCount = countStatements(() -> discussionService.getDiscussionByAuthorId(
+                new DiscussionCursorPageRequest(null, 5), user.getId()
+        ));
+        long largePageQueryCount = countStatements(() -> discussionService.getDiscussionByAuthorId(
+                new DiscussionCursorPageRequest(null, 20), user.getId()
+        ));
+
+        // then - 사용자 조회 1회 + 토론 목록 조회 1회 + 작성자 프로필 이미지 조회 1회
+        assertThat(smallPageQueryCount).isEqualTo(3);
+        assertThat(largePageQueryCount).isEqualTo(smallPageQueryCount);
+    }
+
+    @Test
+    void 알림_목록_조회는_보낸_사람을_함께_읽는다() {
+        // given
+        for (int i = 0; i < DISCUSSION_COUNT; i++) {
+            User sender = userRepository.save(createUser("sender" + i));
+            notificationRepository.save(createNotification(sender, user));
+        }
+        notificationService.getUnreadCount(user.getId());
+
+        // when
+        long smallPageQueryCount = countStatements(
+                () -> notificationService.getNotificationPage(user.getId(), new NotificationPageRequest(0, 5))
+        );
+        long largePageQueryCount = countStatements(
+                () -> notificationService.getNotificationPage(user.getId(), new NotificationPageRequest(0, 20))
+        );
+
+        // then - 사용자 조회 1회 + 알림과 보낸 사람 조회 1회 + 전체 개수 조회 1회 + 읽음 워터마크 조회 1회
+        assertThat(smallPageQueryCount).isEqualTo(4);
+        assertThat(largePageQueryCount).isEqualTo(smallPageQueryCount);
+    }
+
+    @Test
+    void 요약할_온라인_토론_조회는_작성자를_함께_읽는다() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            User author = userRepository.save(createUser("online" + i));
+            discussionRepository.save(createEndedOnlineDiscussion(author));
+        }
+
+        // when
+        long queryCount = countStatements(() -> discussionService.getEndedAndBlankSummaryOnlineDiscussions()
+                .forEach(discussion -> discussion.getAuthor().getNickname()));
+
+        // then - 온라인 토론과 작성자 조회 1회
+        assertThat(queryCount).isEqualTo(1);
+    }
+
+    @Test
+    void 토론_상세_조회_쿼리_수는_참여자_수와_무관하다() {
+        // given
+        Discussion discussion = discussionRepository.save(createOfflineDiscussion(user));
+        for (int i = 0; i < 3; i++) {
+            User participant = userRepository.save(createUser("participant" + i));
+            discussionParticipantRepository.save(createParticipant(participant, discussion));
+        }
+
+        // when
+        long queryCount = countStatements(() -> discussionService.getDiscussionById(discussion.getId()));
+
+        // then - 토론과 작성자 조회 1회 + 작성자 프로필 이미지 조회 1회 + 참여자와 사용자 조회 1회
+        assertThat(queryCount).isEqualTo(3);
+    }
+
+    @Test
+    void 댓글_목록_조회_쿼리_수는_댓글과_답글_수와_무관하다() {
+        // given
+        Discussion discussion = discussionRepository.save(createOfflineDiscussion(user));
+        for (int i = 0; i < 3; i++) {
+            User commenter = userRepository.save(createUser("commenter" + i));
+            DiscussionComment parent = discussionCommentRepository.save(createComment(discussion, commenter));
+            discussionCommentRepository.save(createReply(discussion, user, parent));
+        }
+
+        // when
+        long anonymousQueryCount = countStatements(
+                () -> discussionCommentService.getCommentsByDiscussionId(discussion.getId(), null)
+        );
+        long loginQueryCount = countStatements(
+                () -> discussionCommentService.getCommentsByDiscussionId(discussion.getId(), user.getId())
+        );
+
+        // then - 토론 조회 1회 + 댓글 목록 조회 1회 + 작성자 카드 조회 1회 + 좋아요 수 조회 1회
+        assertThat(anonymousQueryCount).isEqualTo(4);
+        // 로그인 시 사용자 조회 1회 + 좋아요한 댓글 조회 1회 추가
+        assertThat(loginQueryCount).isEqualTo(anonymousQueryCount + 2);
+    }
+
+    @Test
+    void 요약용_댓글_조회는_작성자를_함께_읽는다() {
+        // given
+        Discussion discussion = discussionRepository.save(createOfflineDiscussion(user));
+        for (int i = 0; i < 3; i++) {
+            User commenter = userRepository.save(createUser("commenter" + i));
+            DiscussionComment parent = discussionCommentRepository.save(createComment(discussion, commenter));
+            discussionCommentRepository.save(createReply(discussion, user, parent));
+        }
+
+        // when
+        long queryCount = countStatements(() -> {
+            Discussion found = discussionService.getDiscussionEntityById(discussion.getId());
+            discussionCommentService.getDiscussionCommentAndReply(found.getId(), 0L, 100)
+                    .forEach((comment, replies) -> {
+                        comment.getAuthor().getNickname();
+                        replies.forEach(reply -> reply.getAuthor().getNickname());
+                    });
+        });
+
+        // then - 토론과 작성자 조회 1회 + 최상위 댓글과 작성자 조회 1회 + 답글과 작성자 조회 1회
+        assertThat(queryCount).isEqualTo(3);
+    }
+
+    // 작성자 카드 캐시에 남은 값이 측정에 섞이지 않도록 매번 비우고 센다
+    private long countStatements(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        authorCardService.invalidateAll();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private User createUser(String nickname) {
+        return User.builder()
+                .oauthId(nickname)
+                .nickname(nickname)
+                .webPushNotification(false)
+                .build();
+    }
+
+    private Discussion createOfflineDiscussion(User author) {
+        return OfflineDiscussion.builder()
+                .title("title")
+                .content("content")
+                .author(author)
+                .startAt(LocalDateTime.of(LocalDate.now().plusDays(1), LocalTime.of(15, 0)).plusMinutes(15))
+                .endAt(LocalDateTime.of(LocalDate.now().plusDays(1), LocalTime.of(15, 0)).plusMinutes(30))
+                .category(Category.BACKEND)
+                .summary("summary")
+                .maxParticipantCount(4)
+                .participantCount(1)
+                .place("place")
+                .build();
+    }
+
+    private Discussion createEndedOnlineDiscussion(User author) {
+        return OnlineDiscussion.withNoValidateOf(
+                "title",
+                "content",
+                Category.BACKEND,
+                "",
+                author,
+                LocalDate.now().minusDays(1)
+        );
+    }
+
+    private Notification createNotification(User sender, User receiver) {
+        return Notification.builder()
+                .sender(sender)
+                .receiver(receiver)
+                .type(NotificationType.DISCUSSION_COMMENT)
+                .routeParams(new DiscussionCommentRouteParams(1L, 2L))
+                .build();
+    }
+
+    private DiscussionComment createComment(Discussion discussion, User author) {
+        return DiscussionComment.builder()
+                .content("comment")
+                .discussion(discussion)
+                .author(author)
+                .build();
+    }
+
+    private DiscussionComment createReply(Discussion discussion, User author, DiscussionComment parent) {
+        return DiscussionComment.builder()
+                .content("reply")
+                .discussion(discussion)
+                .author(author)
+                .parentDiscussionComment(parent)
+                .build();
+    }
+
+    private DiscussionParticipant createParticipant(User participant, Discussion discussion) {
+        return DiscussionParticipant.builder()
+                .participant(participant)
+                .discussion(discussion)
+                .build();
+    }
+
+    private Scrap createScrap(User user, Discussion discussion) {
+        return Scrap.builder()
+                .user(user)
+                .discussion(discussion)
+                .build();
+    }
+}
@@ -0,0 +1,188 @@
+package com.dialog.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dialog.server.domain.Category;
+import com.dialog.server.domain.DiscussionFeed;
+import com.dialog.server.domain.DiscussionStatus;
+import com.dialog.server.domain.OnlineDiscussion;
+import com.dialog.server.domain.User;
+import com.dialog.server.dto.comment.request.DiscussionCommentCreateRequest;
+import com.dialog.server.dto.request.DiscussionCursorPageRequest;
+import com.dialog.server.dto.request.OfflineDiscussionCreateRequest;
+import com.dialog.server.dto.response.DiscussionCursorPageResponse;
+import com.dialog.server.dto.response.DiscussionPreviewResponse;
+import com.dialog.server.repository.DiscussionFeedRepository;
+import com.dialog.server.repository.DiscussionRepository;
+import com.dialog.server.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "discussion.feed.read-model.enabled=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class DiscussionFeedServiceTest {
+
+    @Autowired
+    private DiscussionService discussionService;
+    @Autowired
+    private DiscussionFeedService discussionFeedService;
+    @Autowired
+    private DiscussionCommentService discussionCommentService;
+    @Autowired
+    private DiscussionParticipantService discussionParticipantService;
+    @Autowired
+    private DiscussionRepository discussionRepository;
+    @Autowired
+    private DiscussionFeedRepository discussionFeedRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(createUser("author"));
+    }
+
+    @Test
+    void 토론을_만들면_피드_읽기_모델에서_조회된다() {
+        // given
+        Long discussionId = createOfflineDiscussion(4);
+
+        // when
+        DiscussionCursorPageResponse<DiscussionPreviewResponse> response = getFirstPage(10);
+
+        // then
+        assertThat(response.content())
+                .extracting(DiscussionPreviewResponse::id)
+                .containsExactly(discussionId);
+        assertThat(response.content().getFirst().commonDiscussionInfo().author()).isEqualTo("author");
+    }
+
+    @Test
+    void 댓글과_참여는_피드의_카운터와_상태에_반영된다() {
+        // given
+        Long discussionId = createOfflineDiscussion(2);
+        User participant = userRepository.save(createUser("participant"));
+
+        // when
+        discussionCommentService.createComment(
+                new DiscussionCommentCreateRequest("comment", discussionId, null), author.getId()
+        );
+        discussionParticipantService.participate(participant.getId(), discussionId);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        DiscussionFeed discussionFeed = discussionFeedRepository.findById(discussionId).orElseThrow();
+        assertThat(discussionFeed.getCommentCount()).isEqualTo(1);
+        assertThat(discussionFeed.getParticipantCount()).isEqualTo(2);
+        assertThat(discussionFeed.getStatus()).isEqualTo(DiscussionStatus.RECRUIT_COMPLETE);
+    }
+
+    @Test
+    void 토론을_삭제하면_피드에서도_사라진다() {
+        // given
+        Long discussionId = createOfflineDiscussion(4);
+
+        // when
+        discussionService.deleteDiscussion(discussionId);
+
+        // then
+        assertThat(discussionFeedRepository.findById(discussionId)).isEmpty();
+    }
+
+    @Test
+    void 이벤트_없이_저장된_토론은_재구성으로_채운다() {
+        // given
+        Long discussionId = discussionRepository.save(
+                OnlineDiscussion.withNoValidateOf("title", "content", Category.BACKEND, null, author,
+                        LocalDate.now().plusDays(1))
+        ).getId();
+        assertThat(discussionFeedRepository.findById(discussionId)).isEmpty();
+
+        // when
+        int rebuiltCount = discussionFeedService.rebuild(discussionId, discussionId);
+
+        // then
+        assertThat(rebuiltCount).isEqualTo(1);
+        assertThat(getFirstPage(10).content())
+                .extracting(DiscussionPreviewResponse::id)
+                .containsExactly(discussionId);
+    }
+
+    @Test
+    void 피드_조회는_페이지_크기와_무관하게_쿼리_한_번으로_끝난다() {
+        // given
+        for (int i = 0; i < 15; i++) {
+            createOfflineDiscussion(4);
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        DiscussionCursorPageResponse<DiscussionPreviewResponse> firstPage = getFirstPage(10);
+        DiscussionCursorPageResponse<DiscussionPreviewResponse> secondPage = discussionService.getDiscussionsPage(
+                null, null, null, new DiscussionCursorPageRequest(firstPage.nextCursor(), 10)
+        );
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(firstPage.content()).hasSize(10);
+        assertThat(secondPage.content()).hasSize(5);
+        assertThat(secondPage.hasNext()).isFalse();
+    }
+
+    private DiscussionCursorPageResponse<DiscussionPreviewResponse> getFirstPage(int size) {
+        return discussionService.getDiscussionsPage(
+                List.of(), List.of(), List.of(), new DiscussionCursorPageRequest(null, size)
+        );
+    }
+
+    private Long createOfflineDiscussion(int maxParticipantCount) {
+        LocalDateTime startAt = LocalDateTime.of(LocalDate.now().plusDays(1), LocalTime.of(15, 0));
+        return discussionService.createOfflineDiscussion(
+                new OfflineDiscussionCreateRequest(
+                        "title",
+                        "content",
+                        startAt,
+                        startAt.plusHours(1),
+                        "place",
+                        maxParticipantCount,
+                        Category.BACKEND,
+                        null
+                ),
+                author.getId()
+        ).discussionId();
+    }
+
+    private User createUser(String nickname) {
+        return User.builder()
+                .oauthId(nickname)
+                .nickname(nickname)
+                .webPushNotification(false)
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.dialog.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dialog.server.domain.Category;
+import com.dialog.server.domain.DiscussionStatus;
+import com.dialog.server.domain.User;
+import com.dialog.server.dto.request.DiscussionCursorPageRequest;
+import com.dialog.server.dto.request.OfflineDiscussionCreateRequest;
+import com.dialog.server.dto.response.DiscussionCursorPageResponse;
+import com.dialog.server.dto.response.DiscussionPreviewResponse;
+import com.dialog.server.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "discussion.feed.first-page-cache.enabled=true",
+        "discussion.feed.first-page-cache.max-size=2"
+})
+class DiscussionFirstPageCacheTest {
+
+    @Autowired
+    private DiscussionService discussionService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.builder()
+                .oauthId("author")
+                .nickname("author")
+                .webPushNotification(false)
+                .build());
+        createOfflineDiscussion();
+    }
+
+    @Test
+    void 같은_필터의_첫_페이지는_캐시에서_응답한다() {
+        // given
+        double hitCount = countRequests("hit");
+        getFirstPage(List.of(Category.BACKEND, Category.FRONTEND), List.of(DiscussionStatus.RECRUITING), 10);
+
+        // when
+        getFirstPage(List.of(Category.FRONTEND, Category.BACKEND), List.of(DiscussionStatus.RECRUITING), 10);
+
+        // then
+        assertThat(countRequests("hit")).isEqualTo(hitCount + 1);
+    }
+
+    @Test
+    void 토론이_생성되면_캐시를_비우고_새_토론을_보여준다() {
+        // given
+        getFirstPage(List.of(), List.of(), 10);
+
+        // when
+        Long discussionId = createOfflineDiscussion();
+
+        // then
+        assertThat(getFirstPage(List.of(), List.of(), 10).content())
+                .extracting(DiscussionPreviewResponse::id)
+                .first()
+                .isEqualTo(discussionId);
+    }
+
+    @Test
+    void 최대_크기를_넘으면_가장_먼저_만료될_항목을_내보낸다() {
+        // given
+        double evictionCount = meterRegistry.counter("discussion.feed.first-page.cache.evictions").count();
+
+        // when
+        getFirstPage(List.of(), List.of(), 5);
+        getFirstPage(List.of(), List.of(), 6);
+        getFirstPage(List.of(), List.of(), 7);
+
+        // then
+        assertThat(meterRegistry.counter("discussion.feed.first-page.cache.evictions").count())
+                .isEqualTo(evictionCount + 1);
+    }
+
+    private double countRequests(String result) {
+        return meterRegistry.counter("discussion.feed.first-page.cache.requests", "result", result).count();
+    }
+
+    private DiscussionCursorPageResponse<DiscussionPreviewResponse> getFirstPage(
+            List<Category> categories,
+            List<DiscussionStatus> statuses,
+            int size
+    ) {
+        return discussionService.getDiscussionsPage(
+                categories, statuses, List.of(), new DiscussionCursorPageRequest(null, size)
+        );
+    }
+
+    private Long createOfflineDiscussion() {
+        LocalDateTime startAt = LocalDateTime.of(LocalDate.now().plusDays(1), LocalTime.of(15, 0));
+        return discussionService.createOfflineDiscussion(
+                new OfflineDiscussionCreateRequest(
+                        "title",
+                        "content",
+                        startAt,
+                        startAt.plusHours(1),
+                        "place",
+                        4,
+                        Category.BACKEND,
+                        null
+                ),
+                author.getId()
+        ).discussionId();
+    }
+}
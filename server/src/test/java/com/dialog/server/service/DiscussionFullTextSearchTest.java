@@ -0,0 +1,150 @@
+package com.dialog.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dialog.server.domain.Category;
+import com.dialog.server.domain.OfflineDiscussion;
+import com.dialog.server.domain.User;
+import com.dialog.server.dto.request.SearchOrder;
+import com.dialog.server.dto.request.SearchType;
+import com.dialog.server.dto.response.DiscussionCursorPageResponse;
+import com.dialog.server.dto.response.DiscussionPreviewResponse;
+import com.dialog.server.exception.DialogException;
+import com.dialog.server.exception.ErrorCode;
+import com.dialog.server.repository.DiscussionRepository;
+import com.dialog.server.repository.UserRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@ActiveProfiles("test")
+@SpringBootTest(properties = "search.full-text.enabled=true")
+class DiscussionFullTextSearchTest {
+
+    @Autowired
+    private DiscussionService discussionService;
+    @Autowired
+    private DiscussionRepository discussionRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .oauthId("oauthId")
+                .nickname("test")
+                .webPushNotification(false)
+                .build());
+    }
+
+    @Test
+    void 전문_검색이_켜져_있으면_제목과_내용에서_검색어를_찾는다() {
+        // given
+        discussionRepository.save(createOfflineDiscussion("스프링 트랜잭션", "내용"));
+        discussionRepository.save(createOfflineDiscussion("제목", "스프링 이벤트"));
+        discussionRepository.save(createOfflineDiscussion("리액트 훅", "상태 관리"));
+
+        // when
+        DiscussionCursorPageResponse<DiscussionPreviewResponse> response = search("스프링", SearchOrder.LATEST, null, 10);
+
+        // then
+        assertThat(response.content()).hasSize(2);
+    }
+
+    @Test
+    void 검색어의_와일드카드_문자는_글자_그대로_찾는다() {
+        // given
+        discussionRepository.save(createOfflineDiscussion("할인율 100%", "내용"));
+        discussionRepository.save(createOfflineDiscussion("할인율 1000원", "내용"));
+        discussionRepository.save(createOfflineDiscussion("snake_case", "내용"));
+        discussionRepository.save(createOfflineDiscussion("snakeXcase", "내용"));
+
+        // when
+        DiscussionCursorPageResponse<DiscussionPreviewResponse> percent = search("100%", SearchOrder.LATEST, null, 10);
+        DiscussionCursorPageResponse<DiscussionPreviewResponse> underscore = search("e_c", SearchOrder.LATEST, null, 10);
+
+        // then
+        assertThat(percent.content()).hasSize(1);
+        assertThat(underscore.content()).hasSize(1);
+    }
+
+    @Test
+    void 잘못된_정렬_기준이면_전용_예외가_발생한다() {
+        assertThatThrownBy(() -> SearchOrder.fromValue("popular"))
+                .isInstanceOf(DialogException.class)
+                .hasMessage(ErrorCode.INVALID_SEARCH_ORDER.message);
+    }
+
+    @Test
+    void 관련도순_검색은_오프셋_커서로_다음_페이지를_조회한다() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            discussionRepository.save(createOfflineDiscussion("스프링 " + i, "내용"));
+        }
+
+        // when
+        DiscussionCursorPageResponse<DiscussionPreviewResponse> firstPage = search("스프링", SearchOrder.RELEVANCE, null, 3);
+        DiscussionCursorPageResponse<DiscussionPreviewResponse> secondPage = search(
+                "스프링", SearchOrder.RELEVANCE, firstPage.nextCursor(), 3
+        );
+
+        // then
+        assertThat(firstPage.content()).hasSize(3);
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(firstPage.nextCursor()).isEqualTo("3");
+        assertThat(secondPage.content()).hasSize(2);
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(secondPage.nextCursor()).isNull();
+    }
+
+    @Test
+    void 관련도순_검색에_잘못된_커서를_보내면_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> search("스프링", SearchOrder.RELEVANCE, "2025-01-01T00:00_1", 3))
+                .isInstanceOf(DialogException.class)
+                .hasMessage(ErrorCode.INVALID_CURSOR.message);
+    }
+
+    private DiscussionCursorPageResponse<DiscussionPreviewResponse> search(
+            String query,
+            SearchOrder order,
+            String cursor,
+            int size
+    ) {
+        return discussionService.searchDiscussionWithFilters(
+                SearchType.TITLE_OR_CONTENT,
+                order,
+                query,
+                null,
+                null,
+                null,
+                cursor,
+                size
+        );
+    }
+
+    private OfflineDiscussion createOfflineDiscussion(String title, String content) {
+        return OfflineDiscussion.builder()
+                .title(title)
+                .content(content)
+                .author(user)
+                .startAt(LocalDateTime.of(LocalDate.now().plusDays(1), LocalTime.of(15, 0)))
+                .endAt(LocalDateTime.of(LocalDate.now().plusDays(1), LocalTime.of(16, 0)))
+                .category(Category.BACKEND)
+                .summary("summary")
+                .maxParticipantCount(4)
+                .participantCount(1)
+                .place("place")
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
 import com.dialog.server.domain.Category;
 import com.dialog.server.domain.Discussion;
+import com.dialog.server.domain.DiscussionStatus;
 import com.dialog.server.domain.OfflineDiscussion;
 import com.dialog.server.domain.User;
 import com.dialog.server.exception.DialogException;
@@ -146,8 +147,89 @@ class DiscussionParticipantServiceConcurrencyTest {
 
     }
 
+    @Test
+    void 같은_사용자가_동시에_여러번_참여를_시도해도_한번만_참여된다() throws InterruptedException {
+        // given
+        User user = createUser("email1@gmail.com");
+        Discussion discussion = createOfflineDiscussion(createUser("admin@admin.com"),
+                5,
+                0,
+                LocalDateTime.of(LocalDate.now().plusDays(1), LocalTime.of(15, 0)).plusMinutes(15)
+        );
+
+        int threadCount = 5;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    discussionParticipantService.participate(user.getId(), discussion.getId());
+                } catch (Exception e) {
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(discussionRepository.findById(discussion.getId()))
+                    .get()
+                    .extracting("participantCount")
+                    .isEqualTo(1);
+            softly.assertThat(discussionParticipantRepository.count())
+                    .isEqualTo(1);
+        });
+    }
+
+    @Test
+    void 정원보다_훨씬_많은_요청이_몰려도_정원만큼만_참여된다() throws InterruptedException {
+        // given
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            users.add(createUser("email" + i + "@gmail.com"));
+        }
+        Discussion discussion = createOfflineDiscussion(createUser("admin@admin.com"),
+                10,
+                0,
+                LocalDateTime.of(LocalDate.now().plusDays(1), LocalTime.of(15, 0)).plusMinutes(15)
+        );
+
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(users.size());
+
+        // when
+        for (User user : users) {
+            executorService.submit(() -> {
+                try {
+                    discussionParticipantService.participate(user.getId(), discussion.getId());
+                } catch (Exception e) {
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(discussionRepository.findById(discussion.getId()))
+                    .get()
+                    .extracting("participantCount")
+                    .isEqualTo(10);
+            softly.assertThat(discussionParticipantRepository.count())
+                    .isEqualTo(10);
+            softly.assertThat(discussionRepository.findById(discussion.getId()))
+                    .get()
+                    .extracting("status")
+                    .isEqualTo(DiscussionStatus.RECRUIT_COMPLETE);
+        });
+    }
 
-    private User createUser(String email) {
+    protected User createUser(String email) {
         User user = User.builder()
                 .nickname("test")
                 .webPushNotification(false)
@@ -155,7 +237,7 @@ class DiscussionParticipantServiceConcurrencyTest {
         return userRepository.save(user);
     }
 
-    private OfflineDiscussion createOfflineDiscussion(User user,
+    protected OfflineDiscussion createOfflineDiscussion(User user,
                                         int maxParticipantCount,
                                         int participantCount,
                                         LocalDateTime startAt) {
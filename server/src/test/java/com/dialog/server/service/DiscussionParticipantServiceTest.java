@@ -11,6 +11,7 @@ import com.dialog.server.domain.User;
 import com.dialog.server.repository.DiscussionParticipantRepository;
 import com.dialog.server.repository.DiscussionRepository;
 import com.dialog.server.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -21,7 +22,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
-@Import(JpaConfig.class)
+@Import({JpaConfig.class, AuthenticatedUserReader.class, SimpleMeterRegistry.class})
 @ActiveProfiles("test")
 @DataJpaTest
 class DiscussionParticipantServiceTest {
@@ -29,6 +30,9 @@ class DiscussionParticipantServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AuthenticatedUserReader authenticatedUserReader;
+
     @Autowired
     private DiscussionRepository discussionRepository;
 
@@ -40,13 +44,15 @@ class DiscussionParticipantServiceTest {
 
     @BeforeEach
     void setUp() {
-        participationExecutor = new DiscussionParticipationExecutor(
+        participationExecutor = new LockingDiscussionParticipationExecutor(
                 discussionRepository,
-                discussionParticipantRepository
+                discussionParticipantRepository,
+                event -> {
+                }
         );
         discussionParticipantService = new DiscussionParticipantService(
                 discussionParticipantRepository,
-                userRepository,
+                authenticatedUserReader,
                 discussionRepository,
                 participationExecutor
         );
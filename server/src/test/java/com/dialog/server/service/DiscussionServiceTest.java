@@ -8,8 +8,10 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.dialog.server.domain.Category;
 import com.dialog.server.domain.Discussion;
+import com.dialog.server.domain.DiscussionComment;
 import com.dialog.server.domain.DiscussionStatus;
 import com.dialog.server.domain.DiscussionType;
+import com.dialog.server.domain.Like;
 import com.dialog.server.domain.OfflineDiscussion;
 import com.dialog.server.domain.OnlineDiscussion;
 import com.dialog.server.domain.ProfileImage;
@@ -21,9 +23,12 @@ import com.dialog.server.dto.response.DiscussionCreateResponse;
 import com.dialog.server.dto.response.DiscussionCursorPageResponse;
 import com.dialog.server.dto.response.DiscussionDetailResponse;
 import com.dialog.server.dto.response.DiscussionPreviewResponse;
+import com.dialog.server.repository.DiscussionCommentRepository;
 import com.dialog.server.repository.DiscussionRepository;
+import com.dialog.server.repository.LikeRepository;
 import com.dialog.server.repository.ProfileImageRepository;
 import com.dialog.server.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -51,6 +56,12 @@ class DiscussionServiceTest {
     private DiscussionService discussionService;
     @Autowired
     private ProfileImageRepository profileImageRepository;
+    @Autowired
+    private LikeRepository likeRepository;
+    @Autowired
+    private DiscussionCommentRepository discussionCommentRepository;
+    @Autowired
+    private EntityManager entityManager;
 
     @Test
     void 토론_게시글을_저장할_수_있다() {
@@ -70,6 +81,32 @@ class DiscussionServiceTest {
         assertThat(discussionRepository.findById(response.discussionId()).isPresent());
     }
 
+    @Test
+    void 어긋난_토론_카운터를_실제_개수로_보정한다() {
+        // given
+        User savedUser = userRepository.save(createUser());
+        DiscussionCreateResponse response = saveDiscussion(savedUser);
+        Discussion discussion = discussionRepository.findById(response.discussionId()).orElseThrow();
+        likeRepository.save(Like.builder().user(savedUser).discussion(discussion).build());
+        discussionCommentRepository.save(DiscussionComment.builder()
+                .content("comment")
+                .discussion(discussion)
+                .author(savedUser)
+                .build());
+
+        // when
+        discussionService.reconcileCounters(1L, discussionService.getMaxDiscussionId());
+        entityManager.clear();
+
+        // then
+        Discussion reconciled = discussionRepository.findById(response.discussionId()).orElseThrow();
+        assertAll(
+                () -> assertThat(reconciled.getLikeCount()).isEqualTo(1L),
+                () -> assertThat(reconciled.getCommentCount()).isEqualTo(1L),
+                () -> assertThat(reconciled.getScrapCount()).isZero()
+        );
+    }
+
     @Test
     void 토론_게시글을_삭제할_수_있다() {
         // given
@@ -0,0 +1,137 @@
+package com.dialog.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dialog.server.domain.Category;
+import com.dialog.server.domain.Discussion;
+import com.dialog.server.domain.DiscussionStatus;
+import com.dialog.server.domain.OfflineDiscussion;
+import com.dialog.server.domain.User;
+import com.dialog.server.repository.DiscussionRepository;
+import com.dialog.server.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@ActiveProfiles("test")
+@SpringBootTest
+class DiscussionStatusTransitionSchedulerTest {
+
+    @Autowired
+    private DiscussionStatusTransitionScheduler discussionStatusTransitionScheduler;
+    @Autowired
+    private DiscussionRepository discussionRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.builder()
+                .oauthId("oauthId")
+                .nickname("test")
+                .webPushNotification(false)
+                .build());
+    }
+
+    @Test
+    void 토론을_저장하면_현재_상태와_다음_전환_시각이_함께_저장된다() {
+        // given
+        LocalDateTime startAt = LocalDateTime.now().plusHours(1);
+
+        // when
+        Discussion discussion = discussionRepository.save(createOfflineDiscussion(startAt, startAt.plusHours(1)));
+
+        // then
+        assertThat(discussion.getStatus()).isEqualTo(DiscussionStatus.RECRUITING);
+        assertThat(discussion.getStatusTransitionAt()).isEqualTo(startAt);
+    }
+
+    @Test
+    void 전환_시각이_지난_토론만_상태를_다시_계산한다() {
+        // given
+        Discussion started = discussionRepository.save(
+                createOfflineDiscussion(LocalDateTime.now().plusHours(1), LocalDateTime.now().plusHours(2))
+        );
+        Discussion waiting = discussionRepository.save(
+                createOfflineDiscussion(LocalDateTime.now().plusHours(1), LocalDateTime.now().plusHours(2))
+        );
+        entityManager.flush();
+        jdbcTemplate.update(
+                "UPDATE offline_discussions SET start_at = ? WHERE discussion_id = ?",
+                LocalDateTime.now().minusMinutes(1), started.getId()
+        );
+        jdbcTemplate.update(
+                "UPDATE discussions SET status_transition_at = ? WHERE discussion_id = ?",
+                LocalDateTime.now().minusMinutes(1), started.getId()
+        );
+        entityManager.clear();
+
+        // when
+        discussionStatusTransitionScheduler.transitionStatuses();
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(discussionRepository.findById(started.getId()))
+                .get()
+                .extracting("status")
+                .isEqualTo(DiscussionStatus.IN_DISCUSSION);
+        assertThat(discussionRepository.findById(waiting.getId()))
+                .get()
+                .extracting("status")
+                .isEqualTo(DiscussionStatus.RECRUITING);
+    }
+
+    @Test
+    void 상태가_비어있는_기존_토론도_채운다() {
+        // given
+        Discussion discussion = discussionRepository.save(
+                createOfflineDiscussion(LocalDateTime.now().plusHours(1), LocalDateTime.now().plusHours(2))
+        );
+        entityManager.flush();
+        jdbcTemplate.update(
+                "UPDATE discussions SET status = NULL, status_transition_at = NULL WHERE discussion_id = ?",
+                discussion.getId()
+        );
+        entityManager.clear();
+
+        // when
+        discussionStatusTransitionScheduler.transitionStatuses();
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(discussionRepository.findById(discussion.getId()))
+                .get()
+                .extracting("status")
+                .isEqualTo(DiscussionStatus.RECRUITING);
+    }
+
+    private Discussion createOfflineDiscussion(LocalDateTime startAt, LocalDateTime endAt) {
+        return OfflineDiscussion.withNoValidateOf(
+                "title",
+                "content",
+                Category.BACKEND,
+                null,
+                author,
+                startAt,
+                endAt,
+                "place",
+                4,
+                1
+        );
+    }
+}
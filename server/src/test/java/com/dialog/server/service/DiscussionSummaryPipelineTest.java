@@ -0,0 +1,282 @@
+package com.dialog.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.dialog.server.domain.Category;
+import com.dialog.server.domain.Discussion;
+import com.dialog.server.domain.DiscussionComment;
+import com.dialog.server.domain.OnlineDiscussion;
+import com.dialog.server.domain.User;
+import com.dialog.server.exception.DialogException;
+import com.dialog.server.exception.ErrorCode;
+import com.dialog.server.repository.DiscussionCommentRepository;
+import com.dialog.server.repository.DiscussionRepository;
+import com.dialog.server.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@ActiveProfiles("test")
+@SpringBootTest
+class DiscussionSummaryPipelineTest {
+
+    private static final int MAX_CONCURRENCY = 2;
+
+    @Autowired
+    private DiscussionCommentService discussionCommentService;
+    @Autowired
+    private AiPromptLoader aiPromptLoader;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private DiscussionRepository discussionRepository;
+    @Autowired
+    private DiscussionCommentRepository discussionCommentRepository;
+
+    private FakeAiClient fakeAiClient;
+    private SimpleMeterRegistry meterRegistry;
+    private DiscussionSummaryPipeline pipeline;
+    private User author;
+    private User commenter;
+    private Discussion discussion;
+
+    @BeforeEach
+    void setUp() {
+        fakeAiClient = new FakeAiClient();
+        meterRegistry = new SimpleMeterRegistry();
+        author = userRepository.save(createUser("히포"));
+        commenter = userRepository.save(createUser("머피"));
+        discussion = discussionRepository.save(createDiscussion(author));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    void 예산_안에_들어오는_토론은_한_번에_요약한다() {
+        // given
+        pipeline = createPipeline(6000);
+        DiscussionComment comment = discussionCommentRepository.save(createComment(commenter, "모놀리식으로 충분해요", null));
+        discussionCommentRepository.save(createComment(author, "경험이 있으신가요?", comment));
+
+        // when
+        String summary = pipeline.summarize(discussion);
+
+        // then
+        assertThat(fakeAiClient.calls).hasSize(1);
+        Call call = fakeAiClient.calls.get(0);
+        assertAll(
+                () -> assertThat(summary).isEqualTo(call.summary()),
+                () -> assertThat(call.userPrompt()).isEqualTo(aiPromptLoader.loadPrompt("prompts/discussion-summary.st")),
+                () -> assertThat(call.content()).contains(
+                        "작성자: 히포",
+                        "[댓글 및 답글]\n- 머피: 모놀리식으로 충분해요\n  └ 히포: 경험이 있으신가요?\n"
+                )
+        );
+    }
+
+    @Test
+    void 예산을_넘는_토론은_조각별로_나눠_정리한_뒤_합쳐_요약한다() {
+        // given
+        pipeline = createPipeline(100);
+        List<String> contents = IntStream.rangeClosed(1, 6)
+                .mapToObj(i -> "멀티 모듈 도입에 대한 " + i + "번째 의견입니다 팀원과 함께 정해요")
+                .toList();
+        contents.forEach(content -> discussionCommentRepository.save(createComment(commenter, content, null)));
+
+        // when
+        String summary = pipeline.summarize(discussion);
+
+        // then
+        String chunkPrompt = aiPromptLoader.loadPrompt("prompts/discussion-summary-chunk.st");
+        String reducePrompt = aiPromptLoader.loadPrompt("prompts/discussion-summary-reduce.st");
+        List<Call> mapCalls = fakeAiClient.calls.stream()
+                .filter(call -> call.userPrompt().equals(chunkPrompt))
+                .toList();
+        Call reduceCall = fakeAiClient.calls.stream()
+                .filter(call -> call.userPrompt().equals(reducePrompt))
+                .findFirst()
+                .orElseThrow();
+
+        assertAll(
+                () -> assertThat(mapCalls).hasSizeGreaterThan(1),
+                () -> assertThat(fakeAiClient.calls).hasSize(mapCalls.size() + 1),
+                () -> assertThat(contents).allSatisfy(content -> assertThat(mapCalls)
+                        .filteredOn(call -> call.content().contains(content))
+                        .hasSize(1)),
+                () -> assertThat(mapCalls).allSatisfy(call -> assertThat(call.content()).contains("작성자: 히포")),
+                () -> assertThat(reduceCall.content()).contains(
+                        mapCalls.stream().map(Call::summary).toArray(String[]::new)
+                ),
+                () -> assertThat(summary).isEqualTo(reduceCall.summary()),
+                () -> assertThat(fakeAiClient.maxRunningCalls.get()).isLessThanOrEqualTo(MAX_CONCURRENCY)
+        );
+    }
+
+    @Test
+    void 답글까지_합친_댓글_하나가_예산을_넘으면_그_댓글을_나눠_정리한다() {
+        // given
+        pipeline = createPipeline(100);
+        String longContent = "마이크로서비스".repeat(40);
+        discussionCommentRepository.save(createComment(commenter, longContent, null));
+
+        // when
+        pipeline.summarize(discussion);
+
+        // then
+        String chunkPrompt = aiPromptLoader.loadPrompt("prompts/discussion-summary-chunk.st");
+        List<Call> mapCalls = fakeAiClient.calls.stream()
+                .filter(call -> call.userPrompt().equals(chunkPrompt))
+                .filter(call -> call.content().contains("[댓글 및 답글]"))
+                .toList();
+        assertAll(
+                () -> assertThat(mapCalls).hasSizeGreaterThan(1),
+                () -> assertThat(mapCalls).allSatisfy(call -> assertThat(call.content()).doesNotContain(longContent)),
+                () -> assertThat(countCalls("map")).isEqualTo(mapCalls.size())
+        );
+    }
+
+    @Test
+    void 중간_정리가_길어도_잘라서_합치고_합친_호출은_따로_센다() {
+        // given
+        pipeline = createPipeline(100);
+        fakeAiClient.summarySuffix = "가".repeat(200);
+        IntStream.rangeClosed(1, 6).forEach(i -> discussionCommentRepository.save(
+                createComment(commenter, "멀티 모듈 도입에 대한 " + i + "번째 의견입니다 팀원과 함께 정해요", null)
+        ));
+
+        // when
+        pipeline.summarize(discussion);
+
+        // then
+        String reducePrompt = aiPromptLoader.loadPrompt("prompts/discussion-summary-reduce.st");
+        Call reduceCall = fakeAiClient.calls.stream()
+                .filter(call -> call.userPrompt().equals(reducePrompt))
+                .findFirst()
+                .orElseThrow();
+        assertAll(
+                () -> assertThat(reduceCall.content()).doesNotContain(fakeAiClient.summarySuffix),
+                () -> assertThat(countCalls("merge")).isPositive(),
+                () -> assertThat(countCalls("reduce")).isEqualTo(1),
+                () -> assertThat(countCalls("map") + countCalls("merge") + countCalls("reduce"))
+                        .isEqualTo(fakeAiClient.calls.size())
+        );
+    }
+
+    @Test
+    void 조각_요약이_실패하면_예외를_그대로_던진다() {
+        // given
+        pipeline = createPipeline(100);
+        IntStream.rangeClosed(1, 6).forEach(i -> discussionCommentRepository.save(
+                createComment(commenter, "멀티 모듈 도입에 대한 " + i + "번째 의견입니다 팀원과 함께 정해요", null)
+        ));
+        fakeAiClient.failing = true;
+
+        // when & then
+        assertThatThrownBy(() -> pipeline.summarize(discussion))
+                .isInstanceOf(DialogException.class)
+                .hasMessageContaining(ErrorCode.FAILED_AI_SUMMARY.message);
+    }
+
+    private int countCalls(String phase) {
+        return (int) meterRegistry.get("discussion.summary.ai.calls").tag("phase", phase).counter().count();
+    }
+
+    private DiscussionSummaryPipeline createPipeline(int chunkTokenBudget) {
+        DiscussionSummaryPipeline pipeline = new DiscussionSummaryPipeline(
+                fakeAiClient,
+                aiPromptLoader,
+                discussionCommentService,
+                meterRegistry,
+                chunkTokenBudget,
+                2,
+                MAX_CONCURRENCY
+        );
+        pipeline.init();
+        return pipeline;
+    }
+
+    private User createUser(String nickname) {
+        return User.builder()
+                .oauthId(nickname)
+                .nickname(nickname)
+                .webPushNotification(false)
+                .build();
+    }
+
+    private Discussion createDiscussion(User author) {
+        return OnlineDiscussion.withNoValidateOf(
+                "멀티 모듈",
+                "도입할까요",
+                Category.BACKEND,
+                "",
+                author,
+                LocalDate.now().plusDays(1)
+        );
+    }
+
+    private DiscussionComment createComment(User author, String content, DiscussionComment parentComment) {
+        return DiscussionComment.builder()
+                .content(content)
+                .discussion(discussion)
+                .author(author)
+                .parentDiscussionComment(parentComment)
+                .build();
+    }
+
+    private record Call(String userPrompt, String content, String summary) {
+    }
+
+    // 외부 API 없이 호출 내용과 동시 호출 수를 기록하는 AiClient
+    private static class FakeAiClient extends AiClient {
+
+        private final List<Call> calls = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger sequence = new AtomicInteger();
+        private final AtomicInteger runningCalls = new AtomicInteger();
+        private final AtomicInteger maxRunningCalls = new AtomicInteger();
+        private volatile boolean failing;
+        private volatile String summarySuffix = "";
+
+        FakeAiClient() {
+            super(null);
+        }
+
+        @Override
+        public String execute(String systemPrompt, String userPrompt, Map<String, String> params) {
+            maxRunningCalls.accumulateAndGet(runningCalls.incrementAndGet(), Math::max);
+            try {
+                if (failing) {
+                    throw new DialogException(ErrorCode.FAILED_AI_SUMMARY);
+                }
+                Thread.sleep(20);
+                String summary = "요약 결과 " + sequence.incrementAndGet() + "번" + summarySuffix;
+                calls.add(new Call(userPrompt, params.get("content"), summary));
+                return summary;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DialogException(ErrorCode.FAILED_AI_SUMMARY);
+            } finally {
+                runningCalls.decrementAndGet();
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.dialog.server.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -15,6 +17,9 @@ import com.dialog.server.exception.ErrorCode;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -52,6 +57,28 @@ class DiscussionSummarySchedulerTest {
         onlineDiscussion3 = mock(OnlineDiscussion.class);
     }
 
+    @AfterEach
+    void tearDown() {
+        discussionSummaryScheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("스케줄러는 요약 생성을 전용 스레드에 맡기고 바로 반환한다")
+    void generateSummariesForEndedDiscussions_RunsOnDedicatedThread() throws Exception {
+        // given
+        CompletableFuture<Thread> summaryThread = new CompletableFuture<>();
+        when(discussionService.getEndedAndBlankSummaryOnlineDiscussions())
+                .thenReturn(List.of(onlineDiscussion1));
+        doAnswer(invocation -> summaryThread.complete(Thread.currentThread()))
+                .when(discussionSummaryService).generateAndUpdateSummaryBy(onlineDiscussion1);
+
+        // when
+        discussionSummaryScheduler.generateSummariesForEndedDiscussions();
+
+        // then
+        assertThat(summaryThread.get(1, TimeUnit.SECONDS)).isNotEqualTo(Thread.currentThread());
+    }
+
     @Test
     @DisplayName("요약이 필요한 토론이 없을 때 아무 작업도 수행하지 않는다")
     void generateSummariesForEndedDiscussions_NoDiscussions() {
@@ -60,7 +87,7 @@ class DiscussionSummarySchedulerTest {
                 .thenReturn(Collections.emptyList());
 
         // when
-        discussionSummaryScheduler.generateSummariesForEndedDiscussions();
+        discussionSummaryScheduler.summarizeEndedDiscussions();
 
         // then
         verify(discussionService, times(1)).getEndedAndBlankSummaryOnlineDiscussions();
@@ -77,7 +104,7 @@ class DiscussionSummarySchedulerTest {
         doNothing().when(discussionSummaryService).generateAndUpdateSummaryBy(onlineDiscussion1);
 
         // when
-        discussionSummaryScheduler.generateSummariesForEndedDiscussions();
+        discussionSummaryScheduler.summarizeEndedDiscussions();
 
         // then
         verify(discussionService, times(1)).getEndedAndBlankSummaryOnlineDiscussions();
@@ -98,7 +125,7 @@ class DiscussionSummarySchedulerTest {
         doNothing().when(discussionSummaryService).generateAndUpdateSummaryBy(any(OnlineDiscussion.class));
 
         // when
-        discussionSummaryScheduler.generateSummariesForEndedDiscussions();
+        discussionSummaryScheduler.summarizeEndedDiscussions();
 
         // then
         verify(discussionService, times(1)).getEndedAndBlankSummaryOnlineDiscussions();
@@ -126,7 +153,7 @@ class DiscussionSummarySchedulerTest {
         doNothing().when(discussionSummaryService).generateAndUpdateSummaryBy(onlineDiscussion3);
 
         // when
-        discussionSummaryScheduler.generateSummariesForEndedDiscussions();
+        discussionSummaryScheduler.summarizeEndedDiscussions();
 
         // then
         verify(discussionService, times(1)).getEndedAndBlankSummaryOnlineDiscussions();
@@ -152,7 +179,7 @@ class DiscussionSummarySchedulerTest {
                 .when(discussionSummaryService).generateAndUpdateSummaryBy(any(OnlineDiscussion.class));
 
         // when
-        discussionSummaryScheduler.generateSummariesForEndedDiscussions();
+        discussionSummaryScheduler.summarizeEndedDiscussions();
 
         // then
         verify(discussionService, times(1)).getEndedAndBlankSummaryOnlineDiscussions();
@@ -178,7 +205,7 @@ class DiscussionSummarySchedulerTest {
         doNothing().when(discussionSummaryService).generateAndUpdateSummaryBy(onlineDiscussion3);
 
         // when
-        discussionSummaryScheduler.generateSummariesForEndedDiscussions();
+        discussionSummaryScheduler.summarizeEndedDiscussions();
 
         // then
         verify(discussionService, times(1)).getEndedAndBlankSummaryOnlineDiscussions();
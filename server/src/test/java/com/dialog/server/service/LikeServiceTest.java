@@ -14,6 +14,8 @@ import com.dialog.server.exception.ErrorCode;
 import com.dialog.server.repository.DiscussionRepository;
 import com.dialog.server.repository.LikeRepository;
 import com.dialog.server.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -24,7 +26,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
-@Import(JpaConfig.class)
+@Import({JpaConfig.class, AuthenticatedUserReader.class, SimpleMeterRegistry.class})
 @ActiveProfiles("test")
 @DataJpaTest
 class LikeServiceTest {
@@ -35,14 +37,26 @@ class LikeServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AuthenticatedUserReader authenticatedUserReader;
+
     @Autowired
     private DiscussionRepository discussionRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private LikeService likeService;
 
     @BeforeEach
     void setUp() {
-        likeService = new LikeService(likeRepository, userRepository, discussionRepository);
+        likeService = new LikeService(
+                likeRepository,
+                authenticatedUserReader,
+                discussionRepository,
+                event -> {
+                }
+        );
     }
 
     @Test
@@ -61,6 +75,41 @@ class LikeServiceTest {
                 .contains(1L, discussion, user);
     }
 
+    @Test
+    void 좋아요를_하면_토론의_좋아요_수가_증가한다() {
+        //given
+        User user = createUser();
+        Discussion discussion = createOfflineDiscussion(user);
+
+        //when
+        likeService.create(user.getId(), discussion.getId());
+        entityManager.clear();
+
+        //then
+        assertThat(discussionRepository.findById(discussion.getId()))
+                .get()
+                .extracting("likeCount")
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void 좋아요를_취소하면_토론의_좋아요_수가_감소한다() {
+        //given
+        User user = createUser();
+        Discussion discussion = createOfflineDiscussion(user);
+        likeService.create(user.getId(), discussion.getId());
+
+        //when
+        likeService.delete(user.getId(), discussion.getId());
+        entityManager.clear();
+
+        //then
+        assertThat(discussionRepository.findById(discussion.getId()))
+                .get()
+                .extracting("likeCount")
+                .isEqualTo(0L);
+    }
+
     @Test
     void 좋아요를_할때_사용자가_토론에_이미_좋아요를_했다면_예외가_발생한다() {
         //given
@@ -0,0 +1,230 @@
+package com.dialog.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dialog.server.domain.DiscussionCommentRouteParams;
+import com.dialog.server.domain.Notification;
+import com.dialog.server.domain.NotificationType;
+import com.dialog.server.domain.User;
+import com.dialog.server.lock.JobLockManager;
+import com.dialog.server.repository.JobLockRepository;
+import com.dialog.server.repository.NotificationRepository;
+import com.dialog.server.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Transactional
+@ActiveProfiles("test")
+@SpringBootTest
+class NotificationRetentionSchedulerTest {
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JobLockManager jobLockManager;
+    @Autowired
+    private JobLockRepository jobLockRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+
+    @TempDir
+    private Path archiveDirectory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private User receiver;
+    private User sender;
+    private Notification oldWatermarked;
+    private Notification oldRead;
+    private Notification oldUnread;
+    private Notification recentRead;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        receiver = userRepository.save(createUser("receiver"));
+        sender = userRepository.save(createUser("sender"));
+
+        oldWatermarked = notificationRepository.save(createNotification());
+        oldRead = notificationRepository.save(createNotification());
+        oldRead.read();
+        oldUnread = notificationRepository.save(createNotification());
+        recentRead = notificationRepository.save(createNotification());
+        recentRead.read();
+        entityManager.flush();
+
+        jdbcTemplate.update(
+                "UPDATE users SET notification_read_watermark = ? WHERE user_id = ?",
+                oldWatermarked.getId(), receiver.getId()
+        );
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(100);
+        for (Notification notification : List.of(oldWatermarked, oldRead, oldUnread)) {
+            jdbcTemplate.update(
+                    "UPDATE notifications SET created_at = ? WHERE notification_id = ?",
+                    createdAt, notification.getId()
+            );
+        }
+        entityManager.clear();
+    }
+
+    // 작업 잠금은 별도 트랜잭션으로 커밋되므로 테스트 트랜잭션 롤백으로 지워지지 않는다
+    @AfterEach
+    void tearDown() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.executeWithoutResult(status -> jobLockRepository.deleteAllInBatch());
+    }
+
+    @Test
+    void 보관_기간이_지난_읽은_알림만_구간_단위로_삭제한다() throws IOException {
+        // given
+        NotificationRetentionScheduler scheduler = createScheduler(false);
+
+        // when
+        NotificationRetentionScheduler.PurgeResult result = scheduler.purge(
+                LocalDateTime.now().minusDays(90), oldWatermarked.getId(), Duration.ofMinutes(1)
+        );
+
+        // then
+        assertThat(result.purgedCount()).isEqualTo(2);
+        assertThat(result.scannedToId()).isEqualTo(oldUnread.getId());
+        assertThat(notificationRepository.findAllById(List.of(
+                oldWatermarked.getId(), oldRead.getId(), oldUnread.getId(), recentRead.getId()
+        )))
+                .extracting(Notification::getId)
+                .containsExactlyInAnyOrder(oldUnread.getId(), recentRead.getId());
+        assertThat(meterRegistry.get("notification.retention.purged").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void 보관을_켜면_삭제한_알림을_압축_파일로_남긴다() throws IOException {
+        // given
+        NotificationRetentionScheduler scheduler = createScheduler(true);
+
+        // when
+        scheduler.purge(LocalDateTime.now().minusDays(90), oldWatermarked.getId(), Duration.ofMinutes(1));
+
+        // then
+        List<Path> archiveFiles;
+        try (Stream<Path> files = Files.list(archiveDirectory)) {
+            archiveFiles = files.toList();
+        }
+        assertThat(archiveFiles).hasSize(1);
+        List<String> lines = readGzipLines(archiveFiles.get(0));
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).contains("\"id\":" + oldWatermarked.getId(), "\"discussionCommentId\":2");
+        assertThat(lines.get(1)).contains("\"id\":" + oldRead.getId());
+        assertThat(meterRegistry.get("notification.retention.archived").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void 지난_실행이_남긴_id_다음부터_이어서_훑고_다시_남긴다() {
+        // given
+        saveCursor(oldWatermarked.getId() - 1);
+        NotificationRetentionScheduler scheduler = createScheduler(false);
+
+        // when
+        scheduler.purgeOnLockedNode();
+
+        // then
+        assertThat(notificationRepository.findAllById(List.of(oldWatermarked.getId(), oldRead.getId()))).isEmpty();
+        assertThat(jobLockManager.getCursor("notification-retention")).isEqualTo(oldUnread.getId());
+    }
+
+    @Test
+    void 다른_노드가_작업_잠금을_잡고_있으면_정리하지_않고_건너뛴다() {
+        // given
+        JobLockManager otherNode = new JobLockManager(jobLockRepository, transactionManager);
+        otherNode.tryLock("notification-retention", Duration.ofHours(1));
+        NotificationRetentionScheduler scheduler = createScheduler(false);
+
+        // when
+        scheduler.purgeOnLockedNode();
+
+        // then
+        assertThat(notificationRepository.findAllById(List.of(oldWatermarked.getId(), oldRead.getId())))
+                .hasSize(2);
+    }
+
+    private void saveCursor(long cursorId) {
+        jobLockManager.tryLock("notification-retention", Duration.ofMinutes(1));
+        jobLockManager.saveCursor("notification-retention", cursorId);
+        jobLockManager.unlock("notification-retention");
+    }
+
+    private NotificationRetentionScheduler createScheduler(boolean archiveEnabled) {
+        return new NotificationRetentionScheduler(
+                notificationRepository,
+                jobLockManager,
+                transactionManager,
+                objectMapper,
+                meterRegistry,
+                true,
+                Duration.ofDays(90),
+                1,
+                Duration.ZERO,
+                archiveEnabled,
+                archiveDirectory,
+                Duration.ofHours(1),
+                // 처음부터 다시 훑는 요일이 아니도록 내일 요일을 쓴다
+                LocalDate.now(ZoneId.of("Asia/Seoul")).getDayOfWeek().plus(1)
+        );
+    }
+
+    private List<String> readGzipLines(Path file) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+
+    private Notification createNotification() {
+        return Notification.builder()
+                .sender(sender)
+                .receiver(receiver)
+                .type(NotificationType.DISCUSSION_COMMENT)
+                .routeParams(new DiscussionCommentRouteParams(1L, 2L))
+                .build();
+    }
+
+    private User createUser(String nickname) {
+        return User.builder()
+                .oauthId(nickname)
+                .nickname(nickname)
+                .webPushNotification(false)
+                .build();
+    }
+}
@@ -4,18 +4,23 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.dialog.server.domain.MessagingToken;
 import com.dialog.server.domain.Notification;
 import com.dialog.server.domain.NotificationType;
 import com.dialog.server.domain.RouteParams;
 import com.dialog.server.domain.User;
+import com.dialog.server.dto.notification.request.NotificationCursorPageRequest;
 import com.dialog.server.dto.notification.request.NotificationPageRequest;
 import com.dialog.server.dto.notification.resposne.MyTokenResponse;
+import com.dialog.server.dto.notification.resposne.NotificationCursorPageResponse;
 import com.dialog.server.dto.notification.resposne.NotificationPageResponse;
+import com.dialog.server.dto.notification.resposne.NotificationResponse;
 import com.dialog.server.dto.notification.resposne.TokenCreationResponse;
 import com.dialog.server.event.NotificationCreatedEvent;
 import com.dialog.server.event.NotificationsReadEvent;
@@ -25,20 +30,25 @@ import com.dialog.server.repository.MessagingTokenRepository;
 import com.dialog.server.repository.NotificationRepository;
 import com.dialog.server.repository.UserRepository;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.event.ApplicationEvents;
 import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Transactional;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @ActiveProfiles("test")
 @Transactional
 @RecordApplicationEvents
@@ -59,6 +69,9 @@ class NotificationServiceTest {
     @Autowired
     private EntityManager entityManager;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Autowired
     private ApplicationEvents events;
 
@@ -272,15 +285,62 @@ class NotificationServiceTest {
         final String title = "Dialog";
         final String body = "새 토론 게시글이 등록되었습니다.";
 
-        verify(fcmService, times(3)).sendNotification(
-                any(String.class),
+        verify(fcmService, times(1)).sendMulticast(
+                argThat(tokens -> tokens.size() == 3 && tokens.containsAll(List.of(
+                        "token-receiver1-1", "token-receiver1-2", "token-receiver2"
+                ))),
                 eq(title),
                 eq(body),
                 eq(path)
         );
-        verify(fcmService).sendNotification("token-receiver1-1", title, body, path);
-        verify(fcmService).sendNotification("token-receiver1-2", title, body, path);
-        verify(fcmService).sendNotification("token-receiver2", title, body, path);
+    }
+
+    @Test
+    @DisplayName("토론 생성 알림 발송 - 토큰을 500개 단위로 나누어 발송한다")
+    void sendDiscussionCreatedNotification_SplitsIntoMulticastBatches() {
+        // given
+        User receiver = userRepository.save(User.builder()
+                .oauthId("receiver")
+                .nickname("수신자")
+                .webPushNotification(true)
+                .build());
+        messagingTokenRepository.saveAll(IntStream.range(0, 501)
+                .mapToObj(i -> MessagingToken.builder()
+                        .user(receiver)
+                        .fcmToken("token-" + i)
+                        .build())
+                .toList());
+
+        // when
+        notificationService.sendDiscussionCreatedNotification(testUser.getId(), "/discussion/123");
+
+        // then
+        verify(fcmService).sendMulticast(argThat(tokens -> tokens.size() == 500), any(), any(), any());
+        verify(fcmService).sendMulticast(argThat(tokens -> tokens.size() == 1), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("토론 생성 알림 발송 - 등록 해제된 토큰은 삭제한다")
+    void sendDiscussionCreatedNotification_PrunesUnregisteredTokens() {
+        // given
+        User receiver = userRepository.save(User.builder()
+                .oauthId("receiver")
+                .nickname("수신자")
+                .webPushNotification(true)
+                .build());
+        messagingTokenRepository.saveAll(List.of(
+                MessagingToken.builder().user(receiver).fcmToken("valid-token").build(),
+                MessagingToken.builder().user(receiver).fcmToken("unregistered-token").build()
+        ));
+        when(fcmService.sendMulticast(any(), any(), any(), any())).thenReturn(List.of("unregistered-token"));
+
+        // when
+        notificationService.sendDiscussionCreatedNotification(testUser.getId(), "/discussion/123");
+
+        // then
+        assertThat(messagingTokenRepository.findMessagingTokensByUser(receiver))
+                .extracting(MessagingToken::getFcmToken)
+                .containsExactly("valid-token");
     }
 
     @Test
@@ -301,7 +361,7 @@ class NotificationServiceTest {
         notificationService.sendDiscussionCreatedNotification(author.getId(), path);
 
         // then
-        verify(fcmService, times(0)).sendNotification(any(), any(), any(), any());
+        verify(fcmService, times(0)).sendMulticast(any(), any(), any(), any());
     }
 
     @Test
@@ -383,6 +443,54 @@ class NotificationServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("알림 목록 커서 조회 - 최신 알림부터 다음 커서로 이어서 조회 성공")
+    void getNotificationCursorPage_FollowsCursor_Success() {
+        // given
+        List<Notification> notifications = createNotifications(testUser, anotherUser, 15);
+        List<Long> notificationIdsDesc = notifications.stream()
+                .map(Notification::getId)
+                .sorted(Comparator.reverseOrder())
+                .toList();
+
+        // when
+        NotificationCursorPageResponse firstPage = notificationService.getNotificationCursorPage(
+                testUser.getId(), new NotificationCursorPageRequest(null, 10)
+        );
+        NotificationCursorPageResponse secondPage = notificationService.getNotificationCursorPage(
+                testUser.getId(), new NotificationCursorPageRequest(firstPage.nextCursorId(), 10)
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(firstPage.notifications()).extracting(NotificationResponse::id)
+                        .containsExactlyElementsOf(notificationIdsDesc.subList(0, 10)),
+                () -> assertThat(firstPage.hasNext()).isTrue(),
+                () -> assertThat(firstPage.unreadCount()).isEqualTo(15L),
+                () -> assertThat(secondPage.notifications()).extracting(NotificationResponse::id)
+                        .containsExactlyElementsOf(notificationIdsDesc.subList(10, 15)),
+                () -> assertThat(secondPage.hasNext()).isFalse(),
+                () -> assertThat(secondPage.nextCursorId()).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("알림 목록 커서 조회 - 전체 개수 조회 없이 알림 목록 쿼리 한 번으로 조회")
+    void getNotificationCursorPage_WithoutCountQuery() {
+        // given
+        createNotifications(testUser, anotherUser, 15);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        notificationService.getNotificationCursorPage(testUser.getId(), new NotificationCursorPageRequest(null, 10));
+
+        // then - 사용자 조회 1회 + 알림과 발신자 조회 1회 + 읽음 워터마크 조회 1회 + 안 읽은 알림 수 조회 1회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
     @Test
     @DisplayName("알림 읽음 처리 - 성공")
     void updateNotificationAsRead_Success() {
@@ -403,7 +511,27 @@ class NotificationServiceTest {
     }
 
     @Test
-    @DisplayName("모든 알림 읽음 처리 - 성공")
+    @DisplayName("읽지 않은 알림 수는 알림 생성과 읽음 처리에 따라 갱신된다")
+    void unreadCount_followsCreateAndRead() {
+        // given
+        List<Notification> notifications = createNotifications(testUser, anotherUser, 3);
+
+        // when
+        notificationService.updateNotificationAsRead(testUser.getId(), notifications.get(0).getId());
+        notificationService.updateNotificationAsRead(testUser.getId(), notifications.get(0).getId());
+
+        // then
+        assertThat(notificationService.getUnreadCount(testUser.getId())).isEqualTo(2L);
+
+        // when
+        notificationService.updateAllNotificationAsRead(testUser.getId());
+
+        // then
+        assertThat(notificationService.getUnreadCount(testUser.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("모든 알림 읽음 처리 - 알림 행을 고치지 않고 워터마크로 모두 읽음 처리")
     void updateAllNotificationAsRead_Success() {
         // given
         createNotifications(testUser, anotherUser, 10);
@@ -415,28 +543,129 @@ class NotificationServiceTest {
         entityManager.clear();
 
         // then
-        List<Notification> updatedNotifications = notificationRepository
-                .findAllByReceiverOrderByCreatedAtDesc(testUser, org.springframework.data.domain.PageRequest.of(0, 20))
-                .getContent();
+        NotificationPageResponse response = notificationService.getNotificationPage(
+                testUser.getId(), new NotificationPageRequest(0, 20)
+        );
+        long readWatermark = notificationService.getReadWatermark(testUser.getId());
 
         assertAll(
-                () -> assertThat(updatedNotifications).hasSize(10),
-                () -> assertThat(updatedNotifications).allMatch(Notification::isRead),
-                () -> assertThat(notificationRepository.countByReceiverAndIsReadFalse(testUser))
-                        .isEqualTo(0L)
+                () -> assertThat(response.notifications()).hasSize(10),
+                () -> assertThat(response.notifications()).allMatch(NotificationResponse::isRead),
+                () -> assertThat(countUnreadAboveWatermark(testUser, readWatermark))
+                        .isEqualTo(0L),
+                () -> assertThat(notificationRepository.findAll())
+                        .filteredOn(notification -> notification.getReceiver().getId().equals(testUser.getId()))
+                        .noneMatch(Notification::isRead)
         );
     }
 
-    private List<Notification> createNotifications(User receiver, User sender, int count) {
-        return IntStream.range(0, count)
-                .mapToObj(i -> {
-                    Notification notification = Notification.builder()
-                            .sender(sender)
-                            .receiver(receiver)
-                            .type(NotificationType.DISCUSSION_COMMENT)
-                            .build();
-                    return notificationRepository.save(notification);
-                })
+    @Test
+    @DisplayName("모든 알림 읽음 처리 후 - 새 알림만 읽지 않은 알림으로 남는다")
+    void updateAllNotificationAsRead_ThenNewNotificationIsUnread() {
+        // given
+        List<Notification> readNotifications = createNotifications(testUser, anotherUser, 3);
+        notificationService.updateAllNotificationAsRead(testUser.getId());
+
+        // when
+        notificationService.createAndPropagateNotification(
+                anotherUser, testUser, NotificationType.DISCUSSION_COMMENT, null
+        );
+        notificationService.updateNotificationAsRead(testUser.getId(), readNotifications.get(0).getId());
+
+        // then
+        NotificationCursorPageResponse response = notificationService.getNotificationCursorPage(
+                testUser.getId(), new NotificationCursorPageRequest(null, 10)
+        );
+        assertAll(
+                () -> assertThat(response.notifications()).extracting(NotificationResponse::isRead)
+                        .containsExactly(false, true, true, true),
+                () -> assertThat(response.unreadCount()).isEqualTo(1L)
+        );
+    }
+
+    @Test
+    @DisplayName("읽음 워터마크 채우기 - 가장 오래된 안 읽은 알림 직전까지 워터마크를 잡는다")
+    void backfillReadWatermarks_Success() {
+        // given
+        List<Long> notificationIds = createNotifications(testUser, anotherUser, 3).stream()
+                .map(Notification::getId)
+                .sorted()
                 .toList();
+        notificationService.updateNotificationAsRead(testUser.getId(), notificationIds.get(0));
+
+        // when
+        int backfilledCount = notificationService.backfillReadWatermarks(testUser.getId(), testUser.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(backfilledCount).isEqualTo(1),
+                () -> assertThat(notificationService.getReadWatermark(testUser.getId()))
+                        .isEqualTo(notificationIds.get(1) - 1),
+                () -> assertThat(notificationService.getUnreadCount(testUser.getId())).isEqualTo(2L)
+        );
+    }
+
+    @Test
+    @DisplayName("안 읽은 알림 수 채우기 - 0으로 시작한 카운터를 워터마크 위의 안 읽은 알림 수로 맞춘다")
+    void backfillUnreadCounts_Success() {
+        // given
+        List<Long> notificationIds = createNotifications(testUser, anotherUser, 3).stream()
+                .map(Notification::getId)
+                .sorted()
+                .toList();
+        notificationService.updateNotificationAsRead(testUser.getId(), notificationIds.get(0));
+        entityManager.createNativeQuery("UPDATE users SET unread_notification_count = 0 WHERE user_id = :id")
+                .setParameter("id", testUser.getId())
+                .executeUpdate();
+
+        // when
+        int backfilledCount = notificationService.backfillUnreadCounts(testUser.getId(), testUser.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(backfilledCount).isEqualTo(1),
+                () -> assertThat(notificationService.getUnreadCount(testUser.getId())).isEqualTo(2L)
+        );
+    }
+
+    @Test
+    @DisplayName("읽음 워터마크 채우기 - 모두 읽음 처리로 올라간 워터마크는 되돌리지 않는다")
+    void backfillReadWatermarks_KeepsAdvancedWatermark() {
+        // given
+        List<Long> notificationIds = createNotifications(testUser, anotherUser, 3).stream()
+                .map(Notification::getId)
+                .sorted()
+                .toList();
+        notificationService.updateAllNotificationAsRead(testUser.getId());
+
+        // when
+        notificationService.backfillReadWatermarks(testUser.getId(), testUser.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(notificationService.getReadWatermark(testUser.getId()))
+                        .isEqualTo(notificationIds.get(2)),
+                () -> assertThat(notificationService.getUnreadCount(testUser.getId())).isZero()
+        );
+    }
+
+    private List<Notification> createNotifications(User receiver, User sender, int count) {
+        IntStream.range(0, count)
+                .forEach(i -> notificationService.createAndPropagateNotification(
+                        sender, receiver, NotificationType.DISCUSSION_COMMENT, null
+                ));
+        return notificationRepository.findAllByReceiverOrderByCreatedAtDesc(receiver, Pageable.unpaged())
+                .getContent();
+    }
+
+    private long countUnreadAboveWatermark(User receiver, long readWatermark) {
+        return entityManager.createQuery("""
+                        SELECT COUNT(n)
+                        FROM Notification n
+                        WHERE n.receiver = :receiver AND n.isRead = false AND n.id > :readWatermark
+                        """, Long.class)
+                .setParameter("receiver", receiver)
+                .setParameter("readWatermark", readWatermark)
+                .getSingleResult();
     }
 }
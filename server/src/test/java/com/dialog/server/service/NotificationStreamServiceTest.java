@@ -0,0 +1,76 @@
+package com.dialog.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dialog.server.domain.User;
+import com.dialog.server.exception.DialogException;
+import com.dialog.server.exception.ErrorCode;
+import com.dialog.server.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@ActiveProfiles("test")
+@SpringBootTest(properties = "notification.stream.max-connections=2")
+class NotificationStreamServiceTest {
+
+    @Autowired
+    private NotificationStreamService notificationStreamService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .oauthId("oauthId")
+                .nickname("test")
+                .webPushNotification(false)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationStreamService.completeAll();
+    }
+
+    @Test
+    void 구독하면_연결_수가_증가한다() {
+        // when
+        notificationStreamService.subscribe(user.getId(), null);
+        notificationStreamService.subscribe(user.getId(), 0L);
+
+        // then
+        assertThat(notificationStreamService.getConnectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 노드의_최대_연결_수를_넘으면_예외가_발생한다() {
+        // given
+        notificationStreamService.subscribe(user.getId(), null);
+        notificationStreamService.subscribe(user.getId(), null);
+
+        // when & then
+        assertThatThrownBy(() -> notificationStreamService.subscribe(user.getId(), null))
+                .isInstanceOf(DialogException.class)
+                .hasMessage(ErrorCode.NOTIFICATION_STREAM_LIMIT_EXCEEDED.message);
+        assertThat(notificationStreamService.getConnectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 존재하지_않는_사용자는_구독할_수_없다() {
+        // when & then
+        assertThatThrownBy(() -> notificationStreamService.subscribe(Long.MAX_VALUE, null))
+                .isInstanceOf(DialogException.class)
+                .hasMessage(ErrorCode.USER_NOT_FOUND.message);
+        assertThat(notificationStreamService.getConnectionCount()).isZero();
+    }
+}
@@ -0,0 +1,93 @@
+package com.dialog.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import com.dialog.server.dto.notification.resposne.NotificationPollingResponse;
+import com.dialog.server.exception.ApiSuccessResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+class PollingConnectionRegistryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PollingConnectionRegistry connectionRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        connectionRegistry = new PollingConnectionRegistry(meterRegistry);
+    }
+
+    @Test
+    void 알림은_수신자의_세션에만_전달된다() {
+        // given
+        DeferredResult<ResponseEntity<ApiSuccessResponse<NotificationPollingResponse>>> user1 = new DeferredResult<>();
+        DeferredResult<ResponseEntity<ApiSuccessResponse<NotificationPollingResponse>>> user10 = new DeferredResult<>();
+        DeferredResult<ResponseEntity<ApiSuccessResponse<NotificationPollingResponse>>> user11 = new DeferredResult<>();
+        connectionRegistry.register(1L, "session", user1);
+        connectionRegistry.register(10L, "session", user10);
+        connectionRegistry.register(11L, "session", user11);
+
+        // when
+        connectionRegistry.notify(1L, NotificationPollingResponse.createBulkReadResponse(0L));
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(user1.hasResult()).isTrue();
+            softly.assertThat(user10.hasResult()).isFalse();
+            softly.assertThat(user11.hasResult()).isFalse();
+            softly.assertThat(connectionRegistry.getUserCount()).isEqualTo(2);
+            softly.assertThat(connectionRegistry.getSessionCount()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void 같은_사용자의_모든_세션에_알림이_전달된다() {
+        // given
+        DeferredResult<ResponseEntity<ApiSuccessResponse<NotificationPollingResponse>>> web = new DeferredResult<>();
+        DeferredResult<ResponseEntity<ApiSuccessResponse<NotificationPollingResponse>>> mobile = new DeferredResult<>();
+        connectionRegistry.register(1L, "web", web);
+        connectionRegistry.register(1L, "mobile", mobile);
+
+        // when
+        connectionRegistry.notify(1L, NotificationPollingResponse.createBulkReadResponse(0L));
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(web.hasResult()).isTrue();
+            softly.assertThat(mobile.hasResult()).isTrue();
+            softly.assertThat(connectionRegistry.getUserCount()).isZero();
+            softly.assertThat(connectionRegistry.getSessionCount()).isZero();
+        });
+    }
+
+    @Test
+    void 같은_세션으로_다시_대기하면_세션_수가_늘어나지_않는다() {
+        // given
+        connectionRegistry.register(1L, "session", new DeferredResult<>());
+
+        // when
+        connectionRegistry.register(1L, "session", new DeferredResult<>());
+
+        // then
+        assertThat(connectionRegistry.getSessionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 대기_중인_사용자와_세션_수를_게이지로_노출한다() {
+        // given
+        connectionRegistry.register(1L, "web", new DeferredResult<>());
+        connectionRegistry.register(1L, "mobile", new DeferredResult<>());
+        connectionRegistry.register(2L, "web", new DeferredResult<>());
+
+        // when & then
+        assertSoftly(softly -> {
+            softly.assertThat(meterRegistry.get("notification.polling.users").gauge().value()).isEqualTo(2.0);
+            softly.assertThat(meterRegistry.get("notification.polling.sessions").gauge().value()).isEqualTo(3.0);
+        });
+    }
+}
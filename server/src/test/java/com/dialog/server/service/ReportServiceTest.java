@@ -17,6 +17,7 @@ import com.dialog.server.repository.DiscussionCommentRepository;
 import com.dialog.server.repository.DiscussionReportRepository;
 import com.dialog.server.repository.DiscussionRepository;
 import com.dialog.server.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -27,7 +28,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
-@Import(JpaConfig.class)
+@Import({JpaConfig.class, AuthenticatedUserReader.class, SimpleMeterRegistry.class})
 @ActiveProfiles("test")
 @DataJpaTest
 class ReportServiceTest {
@@ -35,6 +36,9 @@ class ReportServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AuthenticatedUserReader authenticatedUserReader;
+
     @Autowired
     private DiscussionRepository discussionRepository;
 
@@ -52,7 +56,7 @@ class ReportServiceTest {
     @BeforeEach
     void setUp() {
         reportService = new ReportService(
-                userRepository,
+                authenticatedUserReader,
                 discussionRepository,
                 discussionCommentRepository,
                 discussionReportRepository,
@@ -195,4 +199,3 @@ class ReportServiceTest {
         return discussionCommentRepository.save(comment);
     }
 }
-
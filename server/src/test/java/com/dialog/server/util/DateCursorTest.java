@@ -0,0 +1,59 @@
+package com.dialog.server.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dialog.server.exception.DialogException;
+import com.dialog.server.exception.ErrorCode;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class DateCursorTest {
+
+    @Test
+    void 인코딩한_커서는_같은_값으로_복원된다() {
+        // given
+        DateCursor dateCursor = DateCursor.of(LocalDateTime.of(2025, 7, 1, 12, 30, 15, 123_456_789), 42L);
+
+        // when
+        DateCursor decoded = DateCursor.decode(dateCursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(dateCursor);
+        assertThat(decoded.createdAt().getNano()).isEqualTo(123_456_000);
+    }
+
+    @Test
+    void 인코딩한_커서는_URL에_안전한_고정_길이_문자열이다() {
+        // given
+        DateCursor small = DateCursor.of(LocalDateTime.of(2025, 1, 1, 0, 0), 1L);
+        DateCursor large = DateCursor.of(LocalDateTime.of(2099, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+        // when
+        String smallCursor = small.encode();
+        String largeCursor = large.encode();
+
+        // then
+        assertThat(smallCursor).hasSize(23).matches("[A-Za-z0-9_-]+");
+        assertThat(largeCursor).hasSize(23).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void 이전_형식의_커서도_해석한다() {
+        // when
+        DateCursor decoded = DateCursor.decode("2025-07-01T12:30:15.123456_42");
+
+        // then
+        assertThat(decoded).isEqualTo(DateCursor.of(LocalDateTime.of(2025, 7, 1, 12, 30, 15, 123_456_000), 42L));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"abc", "!!!!", "AAAAAAAAAAAAAAAAAAAAAAA", "2025-07-01T12:30:15_x"})
+    void 잘못된_커서는_예외가_발생한다(String cursor) {
+        assertThatThrownBy(() -> DateCursor.decode(cursor))
+                .isInstanceOf(DialogException.class)
+                .hasMessageContaining(ErrorCode.INVALID_CURSOR.message);
+    }
+}
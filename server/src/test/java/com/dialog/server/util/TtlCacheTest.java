@@ -0,0 +1,72 @@
+package com.dialog.server.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class TtlCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TtlCache<Long, String> cache = new TtlCache<>(
+            meterRegistry, "test.cache", "테스트 항목", Duration.ofMinutes(1), 2
+    );
+
+    @Test
+    void 읽는_도중_무효화되면_그_결과를_캐시에_남기지_않는다() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        cache.get(1L, key -> {
+            loadCount.incrementAndGet();
+            cache.invalidate(key);
+            return "stale";
+        });
+        String value = cache.get(1L, key -> {
+            loadCount.incrementAndGet();
+            return "fresh";
+        });
+
+        // then
+        assertThat(value).isEqualTo("fresh");
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void 여러_키를_조회하면_캐시에_없는_키만_한_번에_읽는다() {
+        // given
+        cache.get(1L, key -> "cached");
+
+        // when
+        Map<Long, String> values = cache.getAll(List.of(1L, 2L, 3L), keys -> {
+            assertThat(keys).containsExactly(2L, 3L);
+            return Map.of(2L, "loaded");
+        });
+
+        // then
+        assertThat(values).containsExactlyInAnyOrderEntriesOf(Map.of(1L, "cached", 2L, "loaded"));
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void 최대_크기를_넘으면_전체가_아니라_가장_먼저_만료될_항목만_내보낸다() {
+        // given
+        cache.get(1L, key -> "first");
+        cache.get(2L, key -> "second");
+
+        // when
+        cache.get(3L, key -> "third");
+
+        // then
+        AtomicInteger loadCount = new AtomicInteger();
+        cache.get(2L, key -> "reloaded" + loadCount.incrementAndGet());
+        cache.get(3L, key -> "reloaded" + loadCount.incrementAndGet());
+        assertThat(loadCount).hasValue(0);
+        assertThat(meterRegistry.counter("test.cache.evictions").count()).isEqualTo(1);
+    }
+}